@@ -10,25 +10,46 @@ import com.yahoo.elide.async.models.TableExport;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+import com.yahoo.elide.core.utils.coerce.converters.Serde;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.opendevl.JFlat;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 /**
- * JSON output format implementation.
+ * CSV output format implementation.
+ * <p>
+ * The attributes of a row are read from the resource and written to a reused buffer in the order of the
+ * projection.  Strings, enums and the serialized form of types with a serde are quoted.  Numbers and booleans
+ * are written as is.
  */
 @Slf4j
 public class CSVExportFormatter implements TableExportFormatter {
     private static final String COMMA = ",";
-    private static final String DOUBLE_QUOTES = "\"";
+    private static final String VALUE_SEPARATOR = ", ";
+    private static final String NULL = "null";
+    private static final char DOUBLE_QUOTES = '"';
+
+    private static final ThreadLocal<StringBuilder> ROW = ThreadLocal.withInitial(StringBuilder::new);
 
     private boolean skipCSVHeader = false;
     private ObjectMapper mapper;
 
+    // The columns of each running export, released once its projection is no longer referenced.
+    private final Cache<EntityProjection, List<Attribute>> columns = CacheBuilder.newBuilder().weakKeys().build();
+    private final Map<Class<?>, ValueWriter> valueWriters = new ConcurrentHashMap<>();
+
     public CSVExportFormatter(Elide elide, boolean skipCSVHeader) {
         this.skipCSVHeader = skipCSVHeader;
         this.mapper = elide.getMapper().getObjectMapper();
@@ -40,37 +61,83 @@ public class CSVExportFormatter implements TableExportFormatter {
             return null;
         }
 
-        StringBuilder str = new StringBuilder();
+        StringBuilder row = ROW.get();
+        row.setLength(0);
 
-        List<Object[]> json2Csv;
+        String separator = "";
+        for (Attribute column : getColumns(resource.getRequestScope().getEntityProjection())) {
+            row.append(separator);
+            writeValue(row, resource.getAttribute(column));
+            separator = VALUE_SEPARATOR;
+        }
+        return row.toString();
+    }
 
+    private List<Attribute> getColumns(EntityProjection projection) {
         try {
-            String jsonStr = JSONExportFormatter.resourceToJSON(mapper, resource);
+            return columns.get(projection, () -> {
+                Set<Attribute> attributes = projection.getAttributes();
+                return attributes == null ? Collections.emptyList() : new ArrayList<>(attributes);
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
 
-            JFlat flat = new JFlat(jsonStr);
+    private void writeValue(StringBuilder row, Object value) {
+        if (value == null) {
+            row.append(NULL);
+            return;
+        }
+        valueWriters.computeIfAbsent(value.getClass(), this::valueWriterFor).write(row, value);
+    }
 
-            json2Csv = flat.json2Sheet().headerSeparator("_").getJsonAsSheet();
+    private ValueWriter valueWriterFor(Class<?> cls) {
+        if (Number.class.isAssignableFrom(cls) || Boolean.class.equals(cls)) {
+            return (row, value) -> row.append(value);
+        }
+        if (CharSequence.class.isAssignableFrom(cls) || Character.class.equals(cls)) {
+            return (row, value) -> quote(row, value.toString());
+        }
+        if (Enum.class.isAssignableFrom(cls)) {
+            return (row, value) -> quote(row, ((Enum<?>) value).name());
+        }
 
-            int index = 0;
+        for (Class<?> type = cls; type != null; type = type.getSuperclass()) {
+            Serde<Object, Object> serde = CoerceUtil.lookup((Class<Object>) type);
+            if (serde != null) {
+                return (row, value) -> {
+                    Object serialized = serde.serialize(value);
+                    if (serialized == null || serialized instanceof Number || serialized instanceof Boolean) {
+                        writeValue(row, serialized);
+                    } else {
+                        quote(row, serialized.toString());
+                    }
+                };
+            }
+        }
 
-            for (Object[] obj : json2Csv) {
-                // convertToCSV is called once for each PersistentResource in the observable.
-                // json2Csv will always have 2 entries.
-                // 0th index is the header so we need to skip the header.
-                if (index++ == 0) {
-                    continue;
-                }
+        // Complex attributes and collections are written as JSON in a single column.
+        return (row, value) -> {
+            try {
+                quote(row, mapper.writeValueAsString(value));
+            } catch (JsonProcessingException e) {
+                log.error("Exception while converting to CSV: {}", e.getMessage());
+                throw new IllegalStateException(e);
+            }
+        };
+    }
 
-                String objString = Arrays.toString(obj);
-                //The arrays.toString returns o/p with [ and ] at the beginning and end. So need to exclude them.
-                objString = objString.substring(1, objString.length() - 1);
-                str.append(objString);
+    private static void quote(StringBuilder row, String value) {
+        row.append(DOUBLE_QUOTES);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == DOUBLE_QUOTES) {
+                row.append(DOUBLE_QUOTES);
             }
-        } catch (Exception e) {
-            log.error("Exception while converting to CSV: {}", e.getMessage());
-            throw new IllegalStateException(e);
+            row.append(c);
         }
-        return str.toString();
+        row.append(DOUBLE_QUOTES);
     }
 
     /**
@@ -123,4 +190,12 @@ public class CSVExportFormatter implements TableExportFormatter {
     private String quote(String toQuote) {
         return "\"" + toQuote + "\"";
     }
+
+    /**
+     * Writes a non null value of one class to a row.
+     */
+    @FunctionalInterface
+    private interface ValueWriter {
+        void write(StringBuilder row, Object value);
+    }
 }
@@ -18,6 +18,7 @@ import com.yahoo.elide.async.operation.JSONAPITableExportOperation;
 import com.yahoo.elide.async.service.AsyncExecutorService;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.exceptions.InvalidOperationException;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.security.ChangeSpec;
 import com.yahoo.elide.core.security.RequestScope;
 
@@ -29,6 +30,8 @@ import java.util.concurrent.Callable;
  * LifeCycle Hook for execution of TableExpoer.
  */
 public class TableExportHook extends AsyncAPIHook<TableExport> {
+    public static final int MAX_PARTITIONS = 16;
+
     Map<ResultType, TableExportFormatter> supportedFormatters;
     ResultStorageEngine engine;
 
@@ -49,6 +52,11 @@ public class TableExportHook extends AsyncAPIHook<TableExport> {
     @Override
     public void validateOptions(AsyncAPI export, RequestScope requestScope) {
         super.validateOptions(export, requestScope);
+
+        Integer partitions = ((TableExport) export).getPartitions();
+        if (partitions != null && (partitions < 1 || partitions > MAX_PARTITIONS)) {
+            throw new InvalidValueException("Invalid Partitions");
+        }
     }
 
     @Override
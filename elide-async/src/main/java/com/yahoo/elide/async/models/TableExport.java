@@ -5,6 +5,8 @@
  */
 package com.yahoo.elide.async.models;
 
+import com.yahoo.elide.annotation.ComputedAttribute;
+import com.yahoo.elide.annotation.CreatePermission;
 import com.yahoo.elide.annotation.DeletePermission;
 import com.yahoo.elide.annotation.Include;
 import com.yahoo.elide.annotation.ReadPermission;
@@ -16,6 +18,7 @@ import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
+import javax.persistence.Transient;
 import javax.validation.constraints.NotNull;
 
 /**
@@ -39,6 +42,33 @@ public class TableExport extends AsyncAPI {
     @Embedded
     private TableExportResult result;
 
+    /**
+     * Monotonic attribute of the exported model.  When set, only the rows above the watermark of the last
+     * export of the same query are exported.
+     */
+    private String watermarkField;
+
+    /**
+     * Number of partitions of the rows to export that are read in parallel, each in its own transaction.
+     */
+    @Transient
+    @ComputedAttribute
+    private Integer partitions = 1;
+
+    /**
+     * Number of records exported so far.  Stored each time a batch of records is exported.
+     */
+    @CreatePermission(expression = "Prefab.Role.None")
+    @EqualsAndHashCode.Exclude
+    private volatile long exportedRecords;
+
+    /**
+     * Number of bytes exported so far, before compression.  Stored each time a batch of records is exported.
+     */
+    @CreatePermission(expression = "Prefab.Role.None")
+    @EqualsAndHashCode.Exclude
+    private volatile long exportedBytes;
+
     @Override
     public void setResult(AsyncAPIResult result) {
         this.result = (TableExportResult) result;
@@ -23,4 +23,30 @@ public class TableExportResult extends AsyncAPIResult {
 
     @Lob
     private String message;
+
+    /**
+     * Incremental exports only.  The export whose rows precede the rows of this export.
+     */
+    private String previousExportId;
+
+    /**
+     * Incremental exports only.  The exported rows come after this watermark, or every row when null.
+     */
+    private String watermarkFrom;
+
+    /**
+     * Incremental exports only.  The ID of the last row with the starting watermark that preceded this export.
+     */
+    private String watermarkFromId;
+
+    /**
+     * Incremental exports only.  The highest watermark of the exported rows.
+     */
+    private String watermarkTo;
+
+    /**
+     * Incremental exports only.  The highest ID of the exported rows with the highest watermark.  The next export
+     * resumes after it.
+     */
+    private String watermarkToId;
 }
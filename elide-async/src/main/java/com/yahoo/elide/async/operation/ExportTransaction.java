@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.operation;
+
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStore;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.datastore.wrapped.TransactionWrapper;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The transaction of a table export as registered for cancellation.
+ * <p>
+ * A partitioned export reads each partition in a transaction of its own.  Those transactions are tracked from the
+ * time they begin until their rows are consumed, and cancelling the export cancels them too.
+ */
+class ExportTransaction extends TransactionWrapper {
+    private final Set<DataStoreTransaction> partitions = ConcurrentHashMap.newKeySet();
+    private volatile RequestScope cancelled;
+
+    ExportTransaction(DataStoreTransaction tx) {
+        super(tx);
+    }
+
+    /**
+     * Begins the transaction of a partition.  It is cancelled at once if the export already was.
+     * @param dataStore The store to read.
+     * @return The new transaction.
+     */
+    DataStoreTransaction begin(DataStore dataStore) {
+        DataStoreTransaction partition = dataStore.beginTransaction();
+        partitions.add(partition);
+        RequestScope scope = cancelled;
+        if (scope != null) {
+            partition.cancel(scope);
+        }
+        return partition;
+    }
+
+    /**
+     * Stops tracking and closes the transaction of a partition.
+     * @param partition The transaction.
+     * @throws IOException If the transaction cannot be closed.
+     */
+    void end(DataStoreTransaction partition) throws IOException {
+        partitions.remove(partition);
+        partition.close();
+    }
+
+    @Override
+    public void cancel(RequestScope scope) {
+        cancelled = scope;
+        partitions.forEach(partition -> partition.cancel(scope));
+        super.cancel(scope);
+    }
+}
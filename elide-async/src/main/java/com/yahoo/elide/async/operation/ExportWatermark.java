@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.operation;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.filter.predicates.GTPredicate;
+import com.yahoo.elide.core.filter.predicates.InPredicate;
+import com.yahoo.elide.core.request.Attribute;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.sort.SortingImpl;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+import com.yahoo.elide.core.utils.coerce.converters.Serde;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tracks the watermark of an incremental table export.
+ * <p>
+ * The watermark is the highest value of a monotonic attribute (like an update time) among the exported rows,
+ * together with the highest ID of the rows that have it.  An export that starts from a watermark only reads the rows
+ * after it in (watermark, ID) order, so rows that share a watermark but did not fit in the page of the previous
+ * export are not skipped.  Watermarks are persisted as strings: dates as epoch milliseconds, types with a serde in
+ * their serialized form, and other types with {@link Object#toString()}.
+ */
+public class ExportWatermark {
+    private final Type<?> type;
+    private final Attribute attribute;
+    private final Class<?> cls;
+    private final String idField;
+    private final Class<?> idCls;
+    private final String from;
+    private final String fromId;
+    private Comparable<Object> max;
+    private Comparable<Object> maxId;
+
+    /**
+     * Constructor.
+     * @param type The model exported.
+     * @param field The watermark attribute.
+     * @param from The watermark of the previous export or null to export every row.
+     * @param fromId The ID of the last row of the previous export with that watermark.  Null to export every row
+     *               with a higher watermark.
+     * @param dictionary The entity dictionary.
+     * @throws BadRequestException If the field is not a comparable attribute of the model.
+     */
+    public ExportWatermark(Type<?> type, String field, String from, String fromId, EntityDictionary dictionary) {
+        if (!dictionary.isAttribute(type, field)) {
+            throw new BadRequestException("Invalid watermark field: " + field);
+        }
+
+        Type<?> fieldType = dictionary.getType(type, field);
+        this.cls = ClassUtils.primitiveToWrapper(fieldType.getUnderlyingClass().orElse(null));
+        if (cls == null || !Comparable.class.isAssignableFrom(cls)) {
+            throw new BadRequestException("Invalid watermark field: " + field);
+        }
+
+        this.type = type;
+        this.attribute = Attribute.builder().name(field).alias(field).type(fieldType).build();
+        this.from = from;
+
+        // Rows can only be told apart within a watermark by a comparable ID.
+        String id = dictionary.getIdFieldName(type);
+        Class<?> idType = id == null ? null
+                : ClassUtils.primitiveToWrapper(dictionary.getIdType(type).getUnderlyingClass().orElse(null));
+        boolean comparableId = idType != null && Comparable.class.isAssignableFrom(idType);
+        this.idField = comparableId ? id : null;
+        this.idCls = comparableId ? idType : null;
+        this.fromId = comparableId ? fromId : null;
+    }
+
+    /**
+     * Restricts a projection to the rows after the watermark, in (watermark, ID) order.
+     * <p>
+     * Because of that order, an export cut short by its page ends at the position the next export resumes from.
+     * @param projection The projection to export.
+     * @param dictionary The entity dictionary.
+     * @return The restricted projection.
+     */
+    public EntityProjection restrict(EntityProjection projection, EntityDictionary dictionary) {
+        Map<String, Sorting.SortOrder> sortRules = new LinkedHashMap<>();
+        sortRules.put(attribute.getName(), Sorting.SortOrder.asc);
+        if (idField != null) {
+            sortRules.putIfAbsent(idField, Sorting.SortOrder.asc);
+        }
+
+        EntityProjection.EntityProjectionBuilder builder = projection.copyOf()
+                .sorting(new SortingImpl(sortRules, type, dictionary));
+
+        if (from != null) {
+            Path watermarkPath = new Path(type, dictionary, attribute.getName());
+            FilterExpression after = new GTPredicate(watermarkPath, parse(from));
+            if (fromId != null) {
+                after = new OrFilterExpression(after, new AndFilterExpression(
+                        new InPredicate(watermarkPath, parse(from)),
+                        new GTPredicate(new Path(type, dictionary, idField), CoerceUtil.coerce(fromId, idCls))));
+            }
+            FilterExpression filter = projection.getFilterExpression();
+            builder.filterExpression(filter == null ? after : new AndFilterExpression(filter, after));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Raises the watermark to the position of an exported row.
+     * @param resource The exported row.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void update(PersistentResource resource) {
+        Object value = resource.getAttribute(attribute);
+        if (value == null) {
+            return;
+        }
+
+        Comparable<Object> id = idField == null ? null
+                : (Comparable<Object>) CoerceUtil.coerce(resource.getId(), idCls);
+        int comparison = max == null ? -1 : max.compareTo(value);
+        if (comparison < 0 || (comparison == 0 && id != null && (maxId == null || maxId.compareTo(id) < 0))) {
+            max = (Comparable<Object>) value;
+            maxId = id;
+        }
+    }
+
+    /**
+     * Returns the watermark reached by the export.
+     * @return The highest exported value or the starting watermark when no rows were exported.
+     */
+    public synchronized String getValue() {
+        return max == null ? from : format(max);
+    }
+
+    /**
+     * Returns the ID of the last exported row with the watermark reached by the export.
+     * @return The highest ID among the rows with the highest exported value, or the starting ID when no rows were
+     *         exported.  Null if the model has no comparable ID.
+     */
+    public synchronized String getId() {
+        return max == null ? fromId : (maxId == null ? null : maxId.toString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private String format(Object value) {
+        if (Date.class.equals(cls)) {
+            return String.valueOf(((Date) value).getTime());
+        }
+
+        Serde<Object, Object> serde = CoerceUtil.lookup((Class<Object>) cls);
+        return serde == null ? value.toString() : String.valueOf(serde.serialize(value));
+    }
+
+    private Object parse(String value) {
+        if (Date.class.equals(cls)) {
+            return new Date(Long.parseLong(value));
+        }
+        return CoerceUtil.coerce(value, cls);
+    }
+}
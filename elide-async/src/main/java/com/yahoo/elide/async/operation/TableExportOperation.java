@@ -11,43 +11,83 @@ import com.yahoo.elide.async.export.validator.SingleRootProjectionValidator;
 import com.yahoo.elide.async.export.validator.Validator;
 import com.yahoo.elide.async.models.AsyncAPI;
 import com.yahoo.elide.async.models.AsyncAPIResult;
+import com.yahoo.elide.async.models.QueryStatus;
+import com.yahoo.elide.async.models.QueryType;
+import com.yahoo.elide.async.models.ResultType;
 import com.yahoo.elide.async.models.TableExport;
 import com.yahoo.elide.async.models.TableExportResult;
 import com.yahoo.elide.async.service.AsyncExecutorService;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.Path.PathElement;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.predicates.GEPredicate;
+import com.yahoo.elide.core.filter.predicates.InPredicate;
+import com.yahoo.elide.core.filter.predicates.IsNullPredicate;
+import com.yahoo.elide.core.filter.predicates.LEPredicate;
+import com.yahoo.elide.core.filter.predicates.NotNullPredicate;
+import com.yahoo.elide.core.pagination.KeysetPagination;
+import com.yahoo.elide.core.pagination.PaginationImpl;
 import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Pagination;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.sort.SortingImpl;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+import org.apache.commons.lang3.ClassUtils;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import io.reactivex.schedulers.Schedulers;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * TableExport Execute Operation Interface.
  */
 @Slf4j
 public abstract class TableExportOperation implements Callable<AsyncAPIResult> {
+    /**
+     * Number of ID ranges read for each partition of an export.
+     */
+    public static final int KEY_RANGES_PER_PARTITION = 4;
+
+    private static final Set<Class<?>> INTEGRAL_TYPES = new HashSet<>(Arrays.asList(
+            Long.class, Integer.class, Short.class, Byte.class));
+
     private TableExportFormatter formatter;
     @Getter private AsyncExecutorService service;
     private Integer recordNumber = 0;
     private TableExport exportObj;
     private RequestScope scope;
     private ResultStorageEngine engine;
+    private ExportWatermark watermark;
+    private ExportTransaction runningTransaction;
     private List<Validator> validators = new ArrayList<>(Arrays.asList(new SingleRootProjectionValidator()));
 
     public TableExportOperation(TableExportFormatter formatter, AsyncExecutorService service,
@@ -66,31 +106,69 @@ public abstract class TableExportOperation implements Callable<AsyncAPIResult> {
         log.debug("TableExport Object from request: {}", exportObj);
         Elide elide = service.getElide();
         TableExportResult exportResult = new TableExportResult();
+        UUID requestId = UUID.fromString(exportObj.getRequestId());
         try (DataStoreTransaction tx = elide.getDataStore().beginTransaction()) {
+            // Stays registered until every row is stored so that the export can be cancelled while it streams.
+            runningTransaction = new ExportTransaction(tx);
+            elide.getTransactionRegistry().addRunningTransaction(requestId, runningTransaction);
 
             RequestScope requestScope = getRequestScope(exportObj, scope, tx);
             Collection<EntityProjection> projections = getProjections(exportObj, requestScope);
             validateProjections(projections);
             EntityProjection projection = projections.iterator().next();
 
-            Observable<PersistentResource> observableResults = export(exportObj, requestScope, projection);
+            if (exportObj.getWatermarkField() != null && projection != null) {
+                TableExport previous = findPreviousExport(exportObj);
+                String from = previous == null ? null : previous.getResult().getWatermarkTo();
+                String fromId = previous == null ? null : previous.getResult().getWatermarkToId();
+                watermark = new ExportWatermark(projection.getType(), exportObj.getWatermarkField(), from, fromId,
+                        requestScope.getDictionary());
+                projection = watermark.restrict(projection, requestScope.getDictionary());
+                exportResult.setPreviousExportId(previous == null ? null : previous.getId());
+                exportResult.setWatermarkFrom(from);
+                exportResult.setWatermarkFromId(fromId);
+            }
+
+            List<EntityProjection> partitions = partition(projection, requestScope, exportObj.getPartitions());
 
-            Observable<String> results = Observable.empty();
             String preResult = formatter.preFormat(projection, exportObj);
-            results = observableResults.map(resource -> {
-                this.recordNumber++;
-                return formatter.format(resource, recordNumber);
-            });
+            Flowable<String> results;
+            if (partitions.size() == 1) {
+                Flowable<PersistentResource> records = export(exportObj, requestScope, projection)
+                        .toFlowable(BackpressureStrategy.BUFFER);
+
+                results = records.map(resource -> {
+                    this.recordNumber++;
+                    exportObj.setExportedRecords(recordNumber);
+                    updateWatermark(resource);
+                    return formatter.format(resource, recordNumber);
+                });
+            } else {
+                results = exportPartitions(partitions, exportObj.getPartitions())
+                        .doOnNext(record -> {
+                            this.recordNumber++;
+                            exportObj.setExportedRecords(recordNumber);
+                        });
+            }
             String postResult = formatter.postFormat(projection, exportObj);
 
-            // Stitch together Pre-Formatted, Formatted, Post-Formatted results of Formatter in single observable.
-            Observable<String> interimResults = concatStringWithObservable(preResult, results, true);
-            Observable<String> finalResults = concatStringWithObservable(postResult, interimResults, false);
+            // Stitch together Pre-Formatted, Formatted, Post-Formatted results of Formatter in single flowable.
+            Flowable<String> interimResults = concatStringWithFlowable(preResult, results, true);
+            Flowable<String> finalResults = concatStringWithFlowable(postResult, interimResults, false);
+
+            Flowable<byte[]> chunks = finalResults
+                    .buffer(engine.getBatchSize())
+                    .map(this::toChunk)
+                    .doOnNext(chunk -> updateProgress());
 
-            storeResults(exportObj, engine, finalResults);
+            storeResultChunks(exportObj, engine, chunks);
 
             exportResult.setUrl(new URL(generateDownloadURL(exportObj, scope)));
             exportResult.setRecordCount(recordNumber);
+            if (watermark != null) {
+                exportResult.setWatermarkTo(watermark.getValue());
+                exportResult.setWatermarkToId(watermark.getId());
+            }
         } catch (BadRequestException e) {
             exportResult.setMessage(e.getMessage());
         } catch (MalformedURLException e) {
@@ -98,6 +176,7 @@ public abstract class TableExportOperation implements Callable<AsyncAPIResult> {
         }  catch (Exception e) {
             exportResult.setMessage(e.getMessage());
         } finally {
+            elide.getTransactionRegistry().removeRunningTransaction(requestId, runningTransaction);
             // Follows same flow as GraphQL. The query may result in failure but request was successfully processed.
             exportResult.setHttpStatus(200);
             exportResult.setCompletedOn(new Date());
@@ -105,14 +184,254 @@ public abstract class TableExportOperation implements Callable<AsyncAPIResult> {
         return exportResult;
     }
 
-    private Observable<String> concatStringWithObservable(String toConcat, Observable<String> observable,
+    private void updateWatermark(PersistentResource resource) {
+        if (watermark != null) {
+            watermark.update(resource);
+        }
+    }
+
+    /**
+     * Finds the last successful incremental export of the same query and watermark field by the same principal.
+     * @param exportObj TableExport type object.
+     * @return The previous export or null if there is none.
+     */
+    protected TableExport findPreviousExport(TableExport exportObj) {
+        Path watermarkTo = new Path(Arrays.asList(
+                new PathElement(TableExport.class, TableExportResult.class, "result"),
+                new PathElement(TableExportResult.class, String.class, "watermarkTo")));
+        FilterExpression filter = and(
+                matches("watermarkField", String.class, exportObj.getWatermarkField()),
+                matches("status", QueryStatus.class, QueryStatus.COMPLETE),
+                matches("principalName", String.class, exportObj.getPrincipalName()),
+                matches("query", String.class, exportObj.getQuery()),
+                matches("queryType", QueryType.class, exportObj.getQueryType()),
+                matches("resultType", ResultType.class, exportObj.getResultType()),
+                new NotNullPredicate(watermarkTo));
+
+        return service.getAsyncAPIDao().loadFirstAsyncAPIByFilter(filter,
+                Collections.singletonMap("result.completedOn", Sorting.SortOrder.desc), TableExport.class);
+    }
+
+    /**
+     * Matches the exports whose field has a value.
+     * @param field The field of the export.
+     * @param fieldType The type of the field.
+     * @param value The value.  Null matches the exports where the field is not set.
+     * @return The filter predicate.
+     */
+    private static FilterExpression matches(String field, Class<?> fieldType, Object value) {
+        PathElement path = new PathElement(TableExport.class, fieldType, field);
+        return value == null ? new IsNullPredicate(path) : new InPredicate(path, value);
+    }
+
+    private static FilterExpression and(FilterExpression... expressions) {
+        FilterExpression filter = expressions[0];
+        for (int i = 1; i < expressions.length; i++) {
+            filter = new AndFilterExpression(filter, expressions[i]);
+        }
+        return filter;
+    }
+
+    /**
+     * Stores the number of records and bytes exported so far, so that clients can follow a running export.
+     * Progress that cannot be stored does not fail the export.
+     */
+    private void updateProgress() {
+        long records = exportObj.getExportedRecords();
+        long bytes = exportObj.getExportedBytes();
+        try {
+            service.getAsyncAPIDao().updateAsyncAPI(exportObj.getId(), export -> {
+                export.setExportedRecords(records);
+                export.setExportedBytes(bytes);
+            }, TableExport.class);
+        } catch (RuntimeException e) {
+            log.debug("Unable to store the progress of export {}: {}", exportObj.getId(), e.getMessage());
+        }
+    }
+
+    private Flowable<String> concatStringWithFlowable(String toConcat, Flowable<String> flowable,
             boolean stringFirst) {
         if (toConcat == null) {
-            return observable;
+            return flowable;
+        }
+
+        return stringFirst ? Flowable.just(toConcat).concatWith(flowable)
+                : flowable.concatWith(Flowable.just(toConcat));
+    }
+
+    /**
+     * Encodes a batch of formatted records, each followed by a line separator.
+     * @param records The formatted records.
+     * @return UTF-8 encoded chunk.
+     */
+    private byte[] toChunk(List<String> records) {
+        StringBuilder chunk = new StringBuilder();
+        records.forEach(record -> chunk.append(record).append(System.lineSeparator()));
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        exportObj.setExportedBytes(exportObj.getExportedBytes() + bytes.length);
+        return bytes;
+    }
+
+    /**
+     * Splits the rows of an export into disjoint ranges of their IDs so that they can be read in parallel.
+     * <p>
+     * The IDs of the first and last rows of the pagination window are read in the transaction of the export.  The
+     * rows between them are split into consecutive ID ranges, several per requested partition, which are read
+     * without an offset.  Only exports sorted by an integral ID (or not sorted) are split, so that the ranges hold
+     * consecutive rows of the export.  Other exports, like incremental exports sorted by their watermark, and models
+     * whose records are not identified by their ID (like analytic models) are read in a single transaction.
+     * @param projection Entity projection of the export.
+     * @param requestScope RequestScope object.
+     * @param partitions Requested number of partitions.  Can be null.
+     * @return The projection of each range, in order.
+     */
+    protected List<EntityProjection> partition(EntityProjection projection, RequestScope requestScope,
+            Integer partitions) {
+        List<EntityProjection> single = Collections.singletonList(projection);
+        Pagination pagination = projection == null ? null : projection.getPagination();
+        if (partitions == null || partitions <= 1 || pagination == null || KeysetPagination.isKeyset(pagination)) {
+            return single;
+        }
+
+        EntityDictionary dictionary = requestScope.getDictionary();
+        Type<?> type = projection.getType();
+        String idField = dictionary.getIdFieldName(type);
+        List<Path> identifyingPaths = requestScope.getTransaction().getIdentifyingPaths(requestScope, projection);
+        if (idField == null || identifyingPaths.size() != 1
+                || !identifyingPaths.get(0).getFieldPath().equals(idField)) {
+            return single;
+        }
+
+        Class<?> idCls = ClassUtils.primitiveToWrapper(dictionary.getIdType(type).getUnderlyingClass().orElse(null));
+        if (!INTEGRAL_TYPES.contains(idCls)) {
+            return single;
+        }
+
+        Sorting.SortOrder order = Sorting.SortOrder.asc;
+        Sorting sorting = projection.getSorting();
+        if (sorting != null && !sorting.isDefaultInstance()) {
+            Map<Path, Sorting.SortOrder> sortRules = sorting.getSortingPaths();
+            if (sortRules.size() != 1 || !sortRules.keySet().iterator().next().getFieldPath().equals(idField)) {
+                return single;
+            }
+            order = sortRules.values().iterator().next();
+        }
+        Sorting.SortOrder reverse = order == Sorting.SortOrder.asc ? Sorting.SortOrder.desc : Sorting.SortOrder.asc;
+
+        List<EntityProjection> ranges = new ArrayList<>();
+        try {
+            Sorting byId = new SortingImpl(Collections.singletonMap(idField, order), type, dictionary);
+            Long first = loadId(projection, byId, pagination.getOffset(), requestScope);
+            if (first == null) {
+                return single;
+            }
+            long lastOffset = (long) pagination.getOffset() + pagination.getLimit() - 1;
+            Long last = lastOffset > Integer.MAX_VALUE ? null
+                    : loadId(projection, byId, (int) lastOffset, requestScope);
+            if (last == null) {
+                // The window ends with the last row.
+                last = loadId(projection, new SortingImpl(Collections.singletonMap(idField, reverse), type,
+                        dictionary), 0, requestScope);
+            }
+            if (last == null) {
+                return single;
+            }
+
+            long min = Math.min(first, last);
+            long max = Math.max(first, last);
+            long count = (long) partitions * KEY_RANGES_PER_PARTITION;
+            long span = Math.addExact(Math.subtractExact(max, min), 1);
+            long step = span / count + (span % count == 0 ? 0 : 1);
+
+            Path idPath = new Path(type, dictionary, idField);
+            FilterExpression filter = projection.getFilterExpression();
+            long from = min;
+            while (true) {
+                long to = max - from < step ? max : from + step - 1;
+                FilterExpression range = new AndFilterExpression(
+                        new GEPredicate(idPath, CoerceUtil.coerce(from, idCls)),
+                        new LEPredicate(idPath, CoerceUtil.coerce(to, idCls)));
+                ranges.add(projection.copyOf()
+                        .filterExpression(filter == null ? range : new AndFilterExpression(filter, range))
+                        .sorting(byId)
+                        .pagination(new PaginationImpl(type, null, pagination.getLimit(), pagination.getLimit(),
+                                pagination.getLimit(), false, false))
+                        .build());
+                if (to == max) {
+                    break;
+                }
+                from = to + 1;
+            }
+        } catch (InvalidValueException | ArithmeticException e) {
+            // The ID cannot be sorted on or its range does not fit in a long.
+            log.debug("Unable to partition export: {}", e.getMessage());
+            return single;
         }
 
-        return stringFirst ? Observable.just(toConcat).concatWith(observable)
-                : observable.concatWith(Observable.just(toConcat));
+        if (order == Sorting.SortOrder.desc) {
+            Collections.reverse(ranges);
+        }
+        return ranges.size() > 1 ? ranges : single;
+    }
+
+    /**
+     * Reads the ID of a single row of an export.
+     * @param projection Entity projection of the export.
+     * @param byId The order of the rows by ID.
+     * @param offset The position of the row.
+     * @param requestScope RequestScope of the transaction of the export.
+     * @return The ID of the row or null if there are fewer rows.
+     */
+    private Long loadId(EntityProjection projection, Sorting byId, int offset, RequestScope requestScope) {
+        Type<?> type = projection.getType();
+        EntityProjection row = EntityProjection.builder()
+                .type(type)
+                .filterExpression(projection.getFilterExpression())
+                .sorting(byId)
+                .pagination(new PaginationImpl(type, offset, 1, 1, 1, false, false))
+                .build();
+
+        RequestScope loadScope = getRequestScope(exportObj, scope, requestScope.getTransaction());
+        loadScope.setEntityProjection(row);
+        return PersistentResource.loadRecords(row, Collections.emptyList(), loadScope)
+                .map(resource -> Long.valueOf(resource.getId()))
+                .firstElement()
+                .blockingGet();
+    }
+
+    /**
+     * Reads and formats each range of an export in its own transaction and thread.  Fewer ranges are read at a time
+     * than there are, so that only the rows of the next few ranges wait for the current one to be stored.
+     * @param partitions The projection of each range.
+     * @param concurrency The number of ranges to read at a time.
+     * @return Formatted records of all ranges, in order.
+     */
+    private Flowable<String> exportPartitions(List<EntityProjection> partitions, int concurrency) {
+        Elide elide = service.getElide();
+        List<Flowable<String>> results = new ArrayList<>();
+
+        for (int i = 0; i < partitions.size(); i++) {
+            EntityProjection partition = partitions.get(i);
+            // Formatters only tell the first record of an export apart from the others.  The first range starts
+            // with the first row of the export, so it holds that record.
+            int firstRecordNumber = i == 0 ? 1 : 2;
+            results.add(Flowable.using(
+                    () -> runningTransaction.begin(elide.getDataStore()),
+                    tx -> {
+                        RequestScope partitionScope = getRequestScope(exportObj, scope, tx);
+                        AtomicInteger recordNumber = new AtomicInteger(firstRecordNumber);
+                        return export(exportObj, partitionScope, partition)
+                                .toFlowable(BackpressureStrategy.BUFFER)
+                                .map(resource -> {
+                                    updateWatermark(resource);
+                                    return formatter.format(resource, recordNumber.getAndIncrement());
+                                });
+                    },
+                    runningTransaction::end)
+                    .subscribeOn(Schedulers.io()));
+        }
+
+        return Flowable.concatEager(results, Math.min(concurrency, results.size()), Flowable.bufferSize());
     }
 
     /**
@@ -127,12 +446,8 @@ public abstract class TableExportOperation implements Callable<AsyncAPIResult> {
         Observable<PersistentResource> results = Observable.empty();
         Elide elide = service.getElide();
 
-        UUID requestId = UUID.fromString(exportObj.getRequestId());
-
+        DataStoreTransaction tx = scope.getTransaction();
         try {
-            DataStoreTransaction tx = scope.getTransaction();
-            elide.getTransactionRegistry().addRunningTransaction(requestId, tx);
-
             //TODO - we need to add the baseUrlEndpoint to the queryObject.
             //TODO - Can we have projectionInfo as null?
             RequestScope exportRequestScope = getRequestScope(exportObj, scope, tx);
@@ -158,7 +473,6 @@ public abstract class TableExportOperation implements Callable<AsyncAPIResult> {
             log.error("IOException during TableExport", e);
             throw new TransactionException(e);
         } finally {
-            elide.getTransactionRegistry().removeRunningTransaction(requestId);
             elide.getAuditLogger().clear();
         }
 
@@ -190,12 +504,12 @@ public abstract class TableExportOperation implements Callable<AsyncAPIResult> {
      * Store Export Results using the ResultStorageEngine.
      * @param exportObj TableExport type object.
      * @param resultStorageEngine ResultStorageEngine instance.
-     * @param result Observable of String Results to store.
+     * @param result Flowable of encoded chunks of results to store.
      * @return TableExport object.
      */
-    protected TableExport storeResults(TableExport exportObj, ResultStorageEngine resultStorageEngine,
-            Observable<String> result) {
-        return resultStorageEngine.storeResults(exportObj, result);
+    protected TableExport storeResultChunks(TableExport exportObj, ResultStorageEngine resultStorageEngine,
+            Flowable<byte[]> result) {
+        return resultStorageEngine.storeResultChunks(exportObj, result);
     }
 
     private void validateProjections(Collection<EntityProjection> projections) {
@@ -5,13 +5,17 @@
  */
 package com.yahoo.elide.async.resources;
 
+import com.yahoo.elide.async.service.storageengine.ByteRange;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
+import com.yahoo.elide.async.service.storageengine.StoredResultFile;
 import com.yahoo.elide.core.exceptions.HttpStatus;
 import io.reactivex.Observable;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Date;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
@@ -19,11 +23,13 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
@@ -58,11 +64,19 @@ public class ExportApiEndpoint {
      * Read handler.
      *
      * @param asyncQueryId asyncQueryId to download results
+     * @param range Range header to download part of the results
+     * @param ifRange If-Range header that makes the Range header conditional
+     * @param acceptEncoding Accept-Encoding header of the request
+     * @param httpServletResponse HttpServletResponse object
      * @param asyncResponse AsyncResponse object
      */
     @GET
     @Path("/{asyncQueryId}")
-    public void get(@PathParam("asyncQueryId") String asyncQueryId, @Context HttpServletResponse httpServletResponse,
+    public void get(@PathParam("asyncQueryId") String asyncQueryId,
+            @HeaderParam(ByteRange.RANGE) String range,
+            @HeaderParam(ByteRange.IF_RANGE) String ifRange,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+            @Context HttpServletResponse httpServletResponse,
             @Suspended final AsyncResponse asyncResponse) {
         asyncResponse.setTimeout(exportApiProperties.getMaxDownloadTimeSeconds(), TimeUnit.SECONDS);
         asyncResponse.setTimeoutHandler(async -> {
@@ -71,6 +85,13 @@ public class ExportApiEndpoint {
         });
 
         exportApiProperties.getExecutor().submit(() -> {
+            Optional<StoredResultFile> resultFile = resultStorageEngine.getResultFileByID(asyncQueryId)
+                    .filter(file -> file.isAcceptedBy(acceptEncoding));
+            if (resultFile.isPresent()) {
+                asyncResponse.resume(getFile(asyncQueryId, resultFile.get(), range, ifRange));
+                return;
+            }
+
             Observable<String> observableResults = resultStorageEngine.getResultsByID(asyncQueryId);
 
             StreamingOutput streamingOutput = outputStream ->
@@ -113,4 +134,43 @@ public class ExportApiEndpoint {
                     .header("Content-Disposition", "attachment; filename=" + asyncQueryId).build());
         });
     }
+
+    /**
+     * Serves a stored result file as it is stored, or the range of it the client asked for if the file has not
+     * changed since the client last read it.
+     */
+    private Response getFile(String asyncQueryId, StoredResultFile resultFile, String rangeHeader,
+            String ifRange) {
+        ByteRange range = ByteRange.parse(resultFile.isRangeCurrent(ifRange) ? rangeHeader : null,
+                resultFile.size());
+        if (!range.isSatisfiable() && range.getSize() > 0) {
+            return Response.status(ByteRange.SC_REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(ByteRange.CONTENT_RANGE, range.getContentRange())
+                    .build();
+        }
+
+        StreamingOutput streamingOutput = outputStream -> {
+            if (range.getLength() > 0) {
+                resultFile.transferTo(outputStream, range);
+            }
+        };
+
+        ResponseBuilder builder = Response.status(range.isPartial() ? ByteRange.SC_PARTIAL_CONTENT : HttpStatus.SC_OK)
+                .entity(streamingOutput)
+                .type(MediaType.APPLICATION_OCTET_STREAM);
+        if (range.isPartial()) {
+            builder.header(ByteRange.CONTENT_RANGE, range.getContentRange());
+        }
+        if (resultFile.isCompressed()) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, StoredResultFile.GZIP);
+        }
+
+        return builder
+                .header("Content-Disposition", "attachment; filename=" + asyncQueryId)
+                .header(ByteRange.ACCEPT_RANGES, ByteRange.BYTES)
+                .header(HttpHeaders.ETAG, resultFile.entityTag())
+                .lastModified(new Date(resultFile.lastModified()))
+                .header(HttpHeaders.CONTENT_LENGTH, Math.max(range.getLength(), 0))
+                .build();
+    }
 }
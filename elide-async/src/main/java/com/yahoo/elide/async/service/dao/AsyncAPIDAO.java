@@ -9,6 +9,9 @@ import com.yahoo.elide.async.models.AsyncAPI;
 import com.yahoo.elide.async.models.AsyncAPIResult;
 import com.yahoo.elide.async.models.QueryStatus;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.request.Sorting;
+
+import java.util.Map;
 
 /**
  * Utility interface which uses the elide datastore to modify and create AsyncAPI and AsyncAPIResult Objects.
@@ -24,6 +27,15 @@ public interface AsyncAPIDAO {
      */
     public <T extends AsyncAPI> T updateStatus(String asyncAPIId, QueryStatus status, Class<T> type);
 
+    /**
+     * This method updates an AsyncAPI object, for example to record the progress of a running query.
+     * @param asyncAPIId The AsyncAPI Object to be updated
+     * @param updateFunction Functional interface for updating AsyncAPI Object
+     * @param type AsyncAPI Type Implementation.
+     * @return AsyncAPI Updated AsyncAPI Object or null if it does not exist
+     */
+    public <T extends AsyncAPI> T updateAsyncAPI(String asyncAPIId, UpdateQuery<T> updateFunction, Class<T> type);
+
     /**
      * This method persists the model for AsyncAPIResult, AsyncAPI object and establishes the relationship.
      * @param asyncAPIResult AsyncAPIResult to be associated with the AsyncAPI object
@@ -63,4 +75,15 @@ public interface AsyncAPIDAO {
      */
     public <T extends AsyncAPI> Iterable<T> loadAsyncAPIByFilter(FilterExpression filterExpression,
             Class<T> type);
+
+    /**
+     * This method gets the first AsyncAPI object from database that matches a filter expression, in the order of
+     * the sort rules.
+     * @param filterExpression filter expression to load AsyncAPI Objects based on
+     * @param sortRules sort rules of the AsyncAPI Objects, like the latest first
+     * @param type AsyncAPI Type Implementation.
+     * @return query object loaded or null if none matches
+     */
+    public <T extends AsyncAPI> T loadFirstAsyncAPIByFilter(FilterExpression filterExpression,
+            Map<String, Sorting.SortOrder> sortRules, Class<T> type);
 }
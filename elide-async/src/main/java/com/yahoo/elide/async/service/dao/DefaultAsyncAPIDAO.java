@@ -14,7 +14,12 @@ import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStore;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.PaginationImpl;
 import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.sort.SortingImpl;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
 import lombok.Getter;
 import lombok.Setter;
@@ -23,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.UUID;
 import javax.inject.Singleton;
 import javax.ws.rs.core.MultivaluedHashMap;
@@ -63,6 +69,24 @@ public class DefaultAsyncAPIDAO implements AsyncAPIDAO {
         return queryObj;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends AsyncAPI> T updateAsyncAPI(String asyncAPIId, UpdateQuery<T> updateFunction, Class<T> type) {
+        log.debug("updateAsyncAPI");
+        T queryObj = (T) executeInTransaction(dataStore, (tx, scope) -> {
+            EntityProjection asyncAPIIterable = EntityProjection.builder()
+                    .type(type)
+                    .build();
+            T query = (T) tx.loadObject(asyncAPIIterable, asyncAPIId, scope);
+            if (query != null) {
+                updateFunction.update(query);
+                tx.save(query, scope);
+            }
+            return query;
+        });
+        return queryObj;
+    }
+
     @Override
     public <T extends AsyncAPI> Iterable<T> updateStatusAsyncAPIByFilter(FilterExpression filterExpression,
             QueryStatus status, Class<T> type) {
@@ -197,4 +221,23 @@ public class DefaultAsyncAPIDAO implements AsyncAPIDAO {
         }
         return asyncAPIList;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends AsyncAPI> T loadFirstAsyncAPIByFilter(FilterExpression filterExpression,
+            Map<String, Sorting.SortOrder> sortRules, Class<T> type) {
+        log.debug("loadFirstAsyncAPIByFilter");
+        return (T) executeInTransaction(dataStore, (tx, scope) -> {
+            Type<T> asyncAPIType = ClassType.of(type);
+            EntityProjection asyncAPIIterable = EntityProjection.builder()
+                    .type(type)
+                    .filterExpression(filterExpression)
+                    .sorting(new SortingImpl(sortRules, asyncAPIType, elideSettings.getDictionary()))
+                    .pagination(new PaginationImpl(asyncAPIType, 0, 1, 1, 1, false, false))
+                    .build();
+
+            Iterator<Object> itr = tx.loadObjects(asyncAPIIterable, scope).iterator();
+            return itr.hasNext() ? itr.next() : null;
+        });
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service.storageengine;
+
+import lombok.Value;
+
+/**
+ * The bytes of a stored result requested by the HTTP Range header of a download.
+ * <p>
+ * Only a single range is supported.  Headers with several ranges or that cannot be parsed are ignored and the whole
+ * result is served.
+ */
+@Value
+public class ByteRange {
+    public static final String RANGE = "Range";
+    public static final String IF_RANGE = "If-Range";
+    public static final String ACCEPT_RANGES = "Accept-Ranges";
+    public static final String CONTENT_RANGE = "Content-Range";
+    public static final String BYTES = "bytes";
+
+    public static final int SC_PARTIAL_CONTENT = 206;
+    public static final int SC_REQUESTED_RANGE_NOT_SATISFIABLE = 416;
+
+    private static final String BYTES_PREFIX = BYTES + "=";
+
+    /**
+     * First byte of the range.
+     */
+    private long start;
+
+    /**
+     * Last byte of the range (inclusive).
+     */
+    private long end;
+
+    /**
+     * Size of the whole result.
+     */
+    private long size;
+
+    /**
+     * Parses a Range header.
+     * @param header The value of the Range header.  Can be null.
+     * @param size The size of the stored result.
+     * @return The requested range or the whole result if no range applies.
+     */
+    public static ByteRange parse(String header, long size) {
+        ByteRange all = new ByteRange(0, size - 1, size);
+        if (header == null || !header.startsWith(BYTES_PREFIX) || header.indexOf(',') >= 0) {
+            return all;
+        }
+
+        String spec = header.substring(BYTES_PREFIX.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return all;
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffix range: the last N bytes.
+                long suffix = Long.parseLong(last);
+                return suffix == 0 ? new ByteRange(size, size - 1, size)
+                        : new ByteRange(Math.max(0, size - suffix), size - 1, size);
+            }
+            long start = Long.parseLong(first);
+            if (last.isEmpty()) {
+                return new ByteRange(start, size - 1, size);
+            }
+            long end = Long.parseLong(last);
+            if (end < start) {
+                return all;
+            }
+            return new ByteRange(start, Math.min(end, size - 1), size);
+        } catch (NumberFormatException e) {
+            return all;
+        }
+    }
+
+    /**
+     * Returns the number of bytes in the range.
+     * @return The length of the range.
+     */
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    /**
+     * Whether the range lies within the result.
+     * @return False if the server must answer with 416 (Range Not Satisfiable).
+     */
+    public boolean isSatisfiable() {
+        return start >= 0 && start < size && start <= end;
+    }
+
+    /**
+     * Whether only part of the result is requested.
+     * @return True if the server answers with 206 (Partial Content).
+     */
+    public boolean isPartial() {
+        return start > 0 || end < size - 1;
+    }
+
+    /**
+     * Returns the value of the Content-Range header of the response.
+     * @return The range and the size of the result.
+     */
+    public String getContentRange() {
+        if (!isSatisfiable()) {
+            return BYTES + " */" + size;
+        }
+        return BYTES + " " + start + "-" + end + "/" + size;
+    }
+}
@@ -7,60 +7,133 @@
 package com.yahoo.elide.async.service.storageengine;
 
 import com.yahoo.elide.async.models.TableExport;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import io.reactivex.subscribers.DefaultSubscriber;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import javax.inject.Singleton;
 
 /**
  * Default implementation of ResultStorageEngine that stores results on local filesystem.
  * It supports Async Module to store results with async query.
+ * <p>
+ * Results are written through large buffers and can be gzip compressed as they are written.  Compressed results
+ * are stored with a {@code .gz} suffix.  Each result is written to a temporary file that is renamed once the
+ * result is complete.
  */
 @Singleton
 @Slf4j
 @Getter
 public class FileResultStorageEngine implements ResultStorageEngine {
+    public static final int BUFFER_SIZE = 64 * 1024;
+    public static final String GZIP_SUFFIX = ".gz";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
     @Setter private String basePath;
+    @Setter private boolean compressed;
+    @Setter private int batchSize = DEFAULT_BATCH_SIZE;
 
     /**
      * Constructor.
      * @param basePath basePath for storing the files. Can be absolute or relative.
      */
     public FileResultStorageEngine(String basePath) {
+        this(basePath, false);
+    }
+
+    /**
+     * Constructor.
+     * @param basePath basePath for storing the files. Can be absolute or relative.
+     * @param compressed Whether to gzip compress the results as they are stored.
+     */
+    public FileResultStorageEngine(String basePath, boolean compressed) {
         this.basePath = basePath;
+        this.compressed = compressed;
     }
 
     @Override
     public TableExport storeResults(TableExport tableExport, Observable<String> result) {
         log.debug("store AsyncResults for Download");
 
-        try (BufferedWriter writer = getWriter(tableExport.getId())) {
-            result
-                .map(record -> record.concat(System.lineSeparator()))
-                .subscribe(
-                        recordCharArray -> {
-                            writer.write(recordCharArray);
-                            writer.flush();
-                        },
-                        throwable -> {
-                            throw new IllegalStateException(STORE_ERROR, throwable);
-                        },
-                        writer::flush
-                );
-        } catch (IOException e) {
+        String lineSeparator = System.lineSeparator();
+        store(tableExport.getId(), outputStream -> {
+            BufferedWriter writer = new BufferedWriter(
+                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+            result.blockingForEach(record -> {
+                writer.write(record);
+                writer.write(lineSeparator);
+            });
+            writer.flush();
+        });
+
+        return tableExport;
+    }
+
+    @Override
+    public TableExport storeResultChunks(TableExport tableExport, Flowable<byte[]> result) {
+        log.debug("store AsyncResults for Download");
+
+        store(tableExport.getId(), outputStream -> {
+            ChunkSubscriber subscriber = new ChunkSubscriber(outputStream);
+            result.subscribe(subscriber);
+            subscriber.await();
+        });
+
+        return tableExport;
+    }
+
+    /**
+     * Writes the results of a query to a temporary file and then moves it into place.  Downloads never see a
+     * partially written file: the result file either does not exist yet or is complete.
+     * @param asyncQueryID The ID of the query.
+     * @param writer Writes the results to the stream of the temporary file.
+     */
+    private void store(String asyncQueryID, ResultWriter writer) {
+        Path path = getPath(compressed ? asyncQueryID + GZIP_SUFFIX : asyncQueryID);
+        Path temporaryPath = null;
+        try {
+            temporaryPath = Files.createTempFile(path.getParent(), path.getFileName().toString(), TEMPORARY_SUFFIX);
+            try (OutputStream outputStream = getOutputStream(temporaryPath)) {
+                writer.write(outputStream);
+            }
+            Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            log.debug(e.getMessage());
+            deleteTemporaryFile(temporaryPath);
             throw new IllegalStateException(STORE_ERROR, e);
         }
+    }
 
-        return tableExport;
+    private static void deleteTemporaryFile(Path temporaryPath) {
+        if (temporaryPath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temporaryPath);
+        } catch (IOException e) {
+            log.debug(e.getMessage());
+        }
     }
 
     @Override
@@ -93,21 +166,104 @@ public class FileResultStorageEngine implements ResultStorageEngine {
                 BufferedReader::close);
     }
 
+    @Override
+    public Optional<StoredResultFile> getResultFileByID(String asyncQueryID) {
+        Path compressedPath = getPath(asyncQueryID + GZIP_SUFFIX);
+        if (Files.isRegularFile(compressedPath)) {
+            return Optional.of(new StoredResultFile(compressedPath, true));
+        }
+        Path path = getPath(asyncQueryID);
+        if (Files.isRegularFile(path)) {
+            return Optional.of(new StoredResultFile(path, false));
+        }
+        return Optional.empty();
+    }
+
+    private Path getPath(String fileName) {
+        return Paths.get(basePath + File.separator + fileName);
+    }
+
     private BufferedReader getReader(String asyncQueryID) {
         try {
-            return Files.newBufferedReader(Paths.get(basePath + File.separator + asyncQueryID));
+            Optional<StoredResultFile> resultFile = getResultFileByID(asyncQueryID);
+            if (resultFile.isPresent() && resultFile.get().isCompressed()) {
+                return new BufferedReader(new InputStreamReader(
+                        new GZIPInputStream(Files.newInputStream(resultFile.get().getPath()), BUFFER_SIZE),
+                        StandardCharsets.UTF_8), BUFFER_SIZE);
+            }
+            return Files.newBufferedReader(getPath(asyncQueryID));
         } catch (IOException e) {
             log.debug(e.getMessage());
             throw new IllegalStateException(RETRIEVE_ERROR, e);
         }
     }
 
-    private BufferedWriter getWriter(String asyncQueryID) {
-        try {
-            return Files.newBufferedWriter(Paths.get(basePath + File.separator + asyncQueryID));
-        } catch (IOException e) {
-            log.debug(e.getMessage());
-            throw new IllegalStateException(STORE_ERROR, e);
+    private OutputStream getOutputStream(Path path) throws IOException {
+        OutputStream outputStream = Files.newOutputStream(path);
+        return compressed
+                ? new GZIPOutputStream(outputStream, BUFFER_SIZE)
+                : new BufferedOutputStream(outputStream, BUFFER_SIZE);
+    }
+
+    /**
+     * Writes results to the stream of a result file.
+     */
+    @FunctionalInterface
+    private interface ResultWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * Writes chunks to a stream, requesting the next chunk only once the previous one is written.
+     */
+    private static class ChunkSubscriber extends DefaultSubscriber<byte[]> {
+        private final OutputStream outputStream;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Throwable error;
+
+        ChunkSubscriber(OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        protected void onStart() {
+            request(1);
+        }
+
+        @Override
+        public void onNext(byte[] chunk) {
+            try {
+                outputStream.write(chunk);
+            } catch (IOException e) {
+                cancel();
+                onError(e);
+                return;
+            }
+            request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+
+        void await() {
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                cancel();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(STORE_ERROR, e);
+            }
+            if (error != null) {
+                throw new IllegalStateException(STORE_ERROR, error);
+            }
         }
     }
 }
@@ -7,14 +7,22 @@
 package com.yahoo.elide.async.service.storageengine;
 
 import com.yahoo.elide.async.models.TableExport;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
 /**
  * Utility interface used for storing the results of AsyncQuery for downloads.
  */
 public interface ResultStorageEngine {
     public static final String RETRIEVE_ERROR = "Unable to retrieve results.";
     public static final String STORE_ERROR = "Unable to store results.";
+    public static final int DEFAULT_BATCH_SIZE = 1000;
 
     /**
      * Stores the result of the query.
@@ -24,10 +32,48 @@ public interface ResultStorageEngine {
      */
     public TableExport storeResults(TableExport tableExport, Observable<String> result);
 
+    /**
+     * Stores the result of the query as chunks of encoded records.  Each chunk holds up to
+     * {@link #getBatchSize()} records, each followed by a line separator.  Engines request chunks as they store
+     * them.
+     * <p>
+     * By default the chunks are split back into records and stored with
+     * {@link #storeResults(TableExport, Observable)}.
+     * @param tableExport TableExport object
+     * @param result is the flowable of UTF-8 encoded chunks obtained by running the query
+     * @return String to store as attachment. Can be null.
+     */
+    public default TableExport storeResultChunks(TableExport tableExport, Flowable<byte[]> result) {
+        String lineSeparator = System.lineSeparator();
+        return storeResults(tableExport, result.toObservable().concatMapIterable(chunk -> {
+            List<String> records = Arrays.asList(
+                    new String(chunk, StandardCharsets.UTF_8).split(Pattern.quote(lineSeparator), -1));
+            // Every record ends with a separator, which leaves an empty string at the end.
+            return records.subList(0, records.size() - 1);
+        }));
+    }
+
+    /**
+     * The most records in each chunk passed to {@link #storeResultChunks(TableExport, Flowable)}.
+     * @return the batch size.
+     */
+    public default int getBatchSize() {
+        return DEFAULT_BATCH_SIZE;
+    }
+
     /**
      * Searches for the async query results by ID and returns the record.
      * @param asyncQueryID is the query ID of the AsyncQuery
      * @return returns the result associated with the AsyncQueryID
      */
     public Observable<String> getResultsByID(String asyncQueryID);
+
+    /**
+     * Searches for the local file holding the async query results so that downloads can copy it as it is stored.
+     * @param asyncQueryID is the query ID of the AsyncQuery
+     * @return the file or empty if the results are not stored in a local file.
+     */
+    public default Optional<StoredResultFile> getResultFileByID(String asyncQueryID) {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service.storageengine;
+
+import static com.yahoo.elide.async.service.storageengine.ResultStorageEngine.RETRIEVE_ERROR;
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A local file holding the results of a table export.  Downloads copy its bytes as they are stored.
+ */
+@Value
+public class StoredResultFile {
+    public static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private Path path;
+
+    /**
+     * Whether the file is gzip compressed.  Such files are sent with a gzip Content-Encoding.
+     */
+    private boolean compressed;
+
+    /**
+     * Returns the size of the file.
+     * @return The size of the file in bytes.
+     */
+    public long size() {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new IllegalStateException(RETRIEVE_ERROR, e);
+        }
+    }
+
+    /**
+     * Returns the time the file was last modified.
+     * @return The last modified time in milliseconds since the epoch.
+     */
+    public long lastModified() {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            throw new IllegalStateException(RETRIEVE_ERROR, e);
+        }
+    }
+
+    /**
+     * Returns the entity tag of the file.  Results are never modified in place, so the size and last modified time
+     * identify the stored bytes.
+     * @return A strong entity tag, quoted.
+     */
+    public String entityTag() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return "\"" + Long.toHexString(attributes.size()) + "-"
+                    + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+        } catch (IOException e) {
+            throw new IllegalStateException(RETRIEVE_ERROR, e);
+        }
+    }
+
+    /**
+     * Whether the Range header of a download applies, given its If-Range header.
+     * @param ifRange The If-Range header of the download request.  Can be null.
+     * @return True if there is no If-Range header or it matches the file.  Otherwise the whole file is served.
+     */
+    public boolean isRangeCurrent(String ifRange) {
+        if (ifRange == null) {
+            return true;
+        }
+        String validator = ifRange.trim();
+        if (validator.startsWith("\"") || validator.startsWith(WEAK_PREFIX)) {
+            //Weak tags never match a range request.
+            return validator.equals(entityTag());
+        }
+        try {
+            long date = ZonedDateTime.parse(validator, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+            return date == TimeUnit.MILLISECONDS.toSeconds(lastModified());
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Whether a client can download the file as it is stored.
+     * @param acceptEncoding The Accept-Encoding header of the download request.  Can be null.
+     * @return True if the file is not compressed or the client accepts gzip content.
+     */
+    public boolean isAcceptedBy(String acceptEncoding) {
+        if (!compressed) {
+            return true;
+        }
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        //A gzip coding takes precedence over the wildcard.  A quality of 0 refuses the coding.
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parameters = element.split(";");
+            String coding = parameters[0].trim().toLowerCase(Locale.ENGLISH);
+            if (coding.equals(GZIP) || coding.equals(X_GZIP)) {
+                gzipQuality = Math.max(gzipQuality == null ? 0 : gzipQuality, quality(parameters));
+            } else if (coding.equals(ANY)) {
+                anyQuality = quality(parameters);
+            }
+        }
+
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return anyQuality != null && anyQuality > 0;
+    }
+
+    /**
+     * Returns the quality value of an Accept-Encoding element.
+     * @param parameters The coding of the element followed by its parameters.
+     * @return The q parameter, 1 when it is missing or 0 when it cannot be parsed.
+     */
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String[] parameter = parameters[i].split("=", 2);
+            if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(parameter[1].trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Copies a range of the file to a stream.  The file channel hands the bytes to the target without decoding
+     * them.
+     * @param outputStream The stream to write to.
+     * @param range The bytes to copy.
+     * @throws IOException If the file cannot be read or the stream written.
+     */
+    public void transferTo(OutputStream outputStream, ByteRange range) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long position = range.getStart();
+            long remaining = range.getLength();
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+        outputStream.flush();
+    }
+}
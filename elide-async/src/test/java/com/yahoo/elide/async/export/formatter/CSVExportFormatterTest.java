@@ -8,7 +8,6 @@ package com.yahoo.elide.async.export.formatter;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import com.yahoo.elide.Elide;
@@ -25,7 +24,6 @@ import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.security.checks.Check;
 import com.yahoo.elide.core.utils.DefaultClassScanner;
-import com.yahoo.elide.jsonapi.models.Resource;
 import org.apache.commons.lang3.time.FastDateFormat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -84,16 +82,45 @@ public class CSVExportFormatterTest {
         resourceAttributes.put("queryType", queryObj.getQueryType());
         resourceAttributes.put("createdOn", queryObj.getCreatedOn());
 
-        Resource resource = new Resource("tableExport", "0", resourceAttributes, null, null, null);
+        PersistentResource persistentResource = mockResource(queryObj, projection, resourceAttributes);
 
+        String output = formatter.format(persistentResource, 1);
+        assertTrue(output.contains(row));
+    }
+
+    @Test
+    public void testEscapedValuesToCSV() {
+        CSVExportFormatter formatter = new CSVExportFormatter(elide, false);
+        TableExport queryObj = new TableExport();
+
+        Set<Attribute> attributes = new LinkedHashSet<>();
+        attributes.add(Attribute.builder().type(TableExport.class).name("query").build());
+        attributes.add(Attribute.builder().type(TableExport.class).name("principalName").build());
+        attributes.add(Attribute.builder().type(TableExport.class).name("asyncAfterSeconds").build());
+        attributes.add(Attribute.builder().type(TableExport.class).name("resultType").build());
+        EntityProjection projection = EntityProjection.builder().type(TableExport.class).attributes(attributes).build();
+
+        Map<String, Object> resourceAttributes = new LinkedHashMap<>();
+        resourceAttributes.put("query", "say \"hi\", bye");
+        resourceAttributes.put("principalName", null);
+        resourceAttributes.put("asyncAfterSeconds", 10);
+        resourceAttributes.put("resultType", ResultType.CSV);
+
+        PersistentResource persistentResource = mockResource(queryObj, projection, resourceAttributes);
+
+        assertEquals("\"say \"\"hi\"\", bye\", null, 10, \"CSV\"", formatter.format(persistentResource, 1));
+        assertEquals("\"say \"\"hi\"\", bye\", null, 10, \"CSV\"", formatter.format(persistentResource, 2));
+    }
+
+    private PersistentResource mockResource(TableExport queryObj, EntityProjection projection,
+                                            Map<String, Object> resourceAttributes) {
         PersistentResource persistentResource = mock(PersistentResource.class);
         when(persistentResource.getObject()).thenReturn(queryObj);
         when(persistentResource.getRequestScope()).thenReturn(scope);
-        when(persistentResource.toResource(any(), any())).thenReturn(resource);
         when(scope.getEntityProjection()).thenReturn(projection);
-
-        String output = formatter.format(persistentResource, 1);
-        assertTrue(output.contains(row));
+        projection.getAttributes().forEach(attribute -> when(persistentResource.getAttribute(attribute))
+                .thenReturn(resourceAttributes.get(attribute.getName())));
+        return persistentResource;
     }
 
     @Test
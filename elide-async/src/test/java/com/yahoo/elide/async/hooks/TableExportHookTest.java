@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.hooks;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.security.RequestScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+public class TableExportHookTest {
+
+    private TableExportHook hook;
+    private RequestScope requestScope;
+
+    @BeforeEach
+    public void setup() {
+        hook = new TableExportHook(mock(AsyncExecutorService.class), 10, Collections.emptyMap(),
+                mock(ResultStorageEngine.class));
+        requestScope = mock(RequestScope.class);
+    }
+
+    @Test
+    public void testValidPartitions() {
+        for (Integer partitions : new Integer[] {null, 1, TableExportHook.MAX_PARTITIONS}) {
+            TableExport export = new TableExport();
+            export.setPartitions(partitions);
+            assertDoesNotThrow(() -> hook.validateOptions(export, requestScope));
+        }
+    }
+
+    @Test
+    public void testInvalidPartitions() {
+        for (Integer partitions : new Integer[] {-1, 0, TableExportHook.MAX_PARTITIONS + 1}) {
+            TableExport export = new TableExport();
+            export.setPartitions(partitions);
+            InvalidValueException e = assertThrows(InvalidValueException.class,
+                    () -> hook.validateOptions(export, requestScope));
+            assertEquals("Invalid value: Invalid Partitions", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright 2021, Yahoo.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.models;
+
+import com.yahoo.elide.annotation.Include;
+import lombok.Data;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Include(name = "download")
+@Entity
+@Data
+public class ArtifactDownload {
+    @Id
+    private long id;
+
+    private String name;
+}
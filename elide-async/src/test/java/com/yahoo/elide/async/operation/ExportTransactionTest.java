@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.operation;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStore;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+public class ExportTransactionTest {
+
+    @Test
+    public void testCancelPartitions() throws IOException {
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        DataStoreTransaction first = mock(DataStoreTransaction.class);
+        DataStoreTransaction second = mock(DataStoreTransaction.class);
+        DataStoreTransaction third = mock(DataStoreTransaction.class);
+        DataStore dataStore = mock(DataStore.class);
+        when(dataStore.beginTransaction()).thenReturn(first, second, third);
+        RequestScope scope = mock(RequestScope.class);
+
+        ExportTransaction exportTransaction = new ExportTransaction(tx);
+        exportTransaction.begin(dataStore);
+        exportTransaction.begin(dataStore);
+        exportTransaction.end(first);
+        verify(first).close();
+
+        exportTransaction.cancel(scope);
+        verify(tx).cancel(scope);
+        verify(first, never()).cancel(scope);
+        verify(second).cancel(scope);
+
+        // Partitions that begin after the export is cancelled are cancelled at once.
+        exportTransaction.begin(dataStore);
+        verify(third).cancel(scope);
+    }
+}
@@ -7,19 +7,24 @@ package com.yahoo.elide.async.operation;
 
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.async.export.formatter.JSONExportFormatter;
+import com.yahoo.elide.async.models.ArtifactDownload;
 import com.yahoo.elide.async.models.ArtifactGroup;
+import com.yahoo.elide.async.models.QueryStatus;
 import com.yahoo.elide.async.models.QueryType;
 import com.yahoo.elide.async.models.ResultType;
 import com.yahoo.elide.async.models.TableExport;
 import com.yahoo.elide.async.models.TableExportResult;
 import com.yahoo.elide.async.models.security.AsyncAPIInlineChecks;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.dao.DefaultAsyncAPIDAO;
 import com.yahoo.elide.async.service.storageengine.FileResultStorageEngine;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.RequestScope;
@@ -27,6 +32,7 @@ import com.yahoo.elide.core.audit.Slf4jLogger;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.core.security.checks.Check;
 import com.yahoo.elide.core.utils.DefaultClassScanner;
@@ -38,10 +44,13 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -79,6 +88,8 @@ public class JsonAPITableExportOperationTest {
         asyncExecutorService = mock(AsyncExecutorService.class);
         engine = new FileResultStorageEngine(tempDir.toString());
         when(asyncExecutorService.getElide()).thenReturn(elide);
+        when(asyncExecutorService.getAsyncAPIDao()).thenReturn(
+                new DefaultAsyncAPIDAO(elide.getElideSettings(), elide.getDataStore()));
         when(requestScope.getApiVersion()).thenReturn(NO_VERSION);
         when(requestScope.getUser()).thenReturn(user);
         when(requestScope.getElideSettings()).thenReturn(elide.getElideSettings());
@@ -104,6 +115,241 @@ public class JsonAPITableExportOperationTest {
         assertEquals("https://elide.io/export/edc4a871-dff2-4054-804e-d80075cf827d", queryResultObj.getUrl().toString());
         assertEquals(1, queryResultObj.getRecordCount());
         assertNull(queryResultObj.getMessage());
+        assertEquals(1, queryObj.getExportedRecords());
+        assertTrue(queryObj.getExportedBytes() > 0);
+    }
+
+    @Test
+    public void testProcessPartitionedQuery() throws IOException {
+        // The window of downloads 9 to 2, past the first of the descending IDs, is split into 8 ID ranges.
+        for (int i = 1; i <= 10; i++) {
+            ArtifactDownload download = new ArtifactDownload();
+            download.setId(i);
+            download.setName("download" + i);
+            save(download);
+        }
+        String query = "/download?sort=-id&fields[download]=name&page[offset]=1&page[limit]=8";
+
+        TableExport partitioned = new TableExport();
+        partitioned.setId("edc4a871-dff2-4054-804e-d80075cf8276");
+        partitioned.setQuery(query);
+        partitioned.setQueryType(QueryType.JSONAPI_V1_0);
+        partitioned.setResultType(ResultType.JSON);
+        partitioned.setPartitions(2);
+        JSONAPITableExportOperation operation = new JSONAPITableExportOperation(new JSONExportFormatter(elide),
+                asyncExecutorService, partitioned, requestScope, engine);
+
+        try (DataStoreTransaction tx = elide.getDataStore().beginTransaction()) {
+            RequestScope scope = operation.getRequestScope(partitioned, requestScope, tx);
+            EntityProjection projection = operation.getProjections(partitioned, scope).iterator().next();
+            assertEquals(2 * TableExportOperation.KEY_RANGES_PER_PARTITION,
+                    operation.partition(projection, scope, 2).size());
+        }
+
+        TableExportResult partitionedResult = (TableExportResult) operation.call();
+
+        assertNull(partitionedResult.getMessage());
+        assertEquals(8, partitionedResult.getRecordCount());
+        assertEquals(8, partitioned.getExportedRecords());
+
+        // Only the first record is not preceded by a comma.
+        List<String> expected = new ArrayList<>();
+        expected.add("[");
+        expected.add("{\"name\":\"download9\"}");
+        for (int i = 8; i >= 2; i--) {
+            expected.add(",{\"name\":\"download" + i + "\"}");
+        }
+        expected.add("]");
+        assertEquals(expected, engine.getResultsByID(partitioned.getId()).toList().blockingGet());
+        assertTrue(elide.getTransactionRegistry().getRunningTransactions().isEmpty());
+    }
+
+    @Test
+    public void testProcessPartitionedQueryNotSortedById() throws IOException {
+        // Exports that are not sorted by ID are read in a single transaction.
+        ResultType[] resultTypes = {ResultType.CSV, ResultType.JSON, ResultType.CSV, ResultType.JSON, ResultType.JSON};
+        for (int i = 0; i < resultTypes.length; i++) {
+            TableExport row = new TableExport();
+            row.setId("edc4a871-dff2-4054-804e-d80075cf828" + (i + 1));
+            row.setResultType(resultTypes[i]);
+            row.setQuery("/row" + (i + 1));
+            save(row);
+        }
+        String query = "/tableExport?sort=resultType&fields[tableExport]=query&page[limit]=5";
+
+        TableExport partitioned = new TableExport();
+        partitioned.setId("edc4a871-dff2-4054-804e-d80075cf8271");
+        partitioned.setQuery(query);
+        partitioned.setQueryType(QueryType.JSONAPI_V1_0);
+        partitioned.setResultType(ResultType.JSON);
+        partitioned.setPartitions(3);
+        TableExportResult partitionedResult = (TableExportResult) new JSONAPITableExportOperation(
+                new JSONExportFormatter(elide), asyncExecutorService, partitioned, requestScope, engine).call();
+
+        assertNull(partitionedResult.getMessage());
+        assertEquals(5, partitionedResult.getRecordCount());
+        assertEquals(5, partitioned.getExportedRecords());
+
+        // Only the first record is not preceded by a comma.
+        List<String> expected = Arrays.asList(
+                "[",
+                "{\"query\":\"/row2\"}",
+                ",{\"query\":\"/row4\"}",
+                ",{\"query\":\"/row5\"}",
+                ",{\"query\":\"/row1\"}",
+                ",{\"query\":\"/row3\"}",
+                "]");
+        assertEquals(expected, engine.getResultsByID(partitioned.getId()).toList().blockingGet());
+        assertTrue(elide.getTransactionRegistry().getRunningTransactions().isEmpty());
+    }
+
+    @Test
+    public void testProcessIncrementalQuery() throws IOException {
+        dataPrep();
+        dataPrep();
+        String query = "/tableExport?fields=principalName";
+
+        TableExport first = new TableExport();
+        first.setId("edc4a871-dff2-4054-804e-d80075cf8272");
+        first.setQuery(query);
+        first.setQueryType(QueryType.JSONAPI_V1_0);
+        first.setResultType(ResultType.CSV);
+        first.setWatermarkField("createdOn");
+        first.setCreatedOn(new Date(0));
+        TableExportResult firstResult = (TableExportResult) new JSONAPITableExportOperation(
+                new JSONExportFormatter(elide), asyncExecutorService, first, requestScope, engine).call();
+
+        assertNull(firstResult.getMessage());
+        assertEquals(2, firstResult.getRecordCount());
+        assertNull(firstResult.getPreviousExportId());
+        assertNull(firstResult.getWatermarkFrom());
+        assertNotNull(firstResult.getWatermarkTo());
+
+        first.setResult(firstResult);
+        first.setStatus(QueryStatus.COMPLETE);
+        save(first);
+        Date latest = new Date(System.currentTimeMillis() + 60000);
+        TableExport newer = new TableExport();
+        newer.setCreatedOn(latest);
+        save(newer);
+
+        TableExport second = new TableExport();
+        second.setId("edc4a871-dff2-4054-804e-d80075cf8273");
+        second.setQuery(query);
+        second.setQueryType(QueryType.JSONAPI_V1_0);
+        second.setResultType(ResultType.CSV);
+        second.setWatermarkField("createdOn");
+        TableExportResult secondResult = (TableExportResult) new JSONAPITableExportOperation(
+                new JSONExportFormatter(elide), asyncExecutorService, second, requestScope, engine).call();
+
+        assertNull(secondResult.getMessage());
+        assertEquals(1, secondResult.getRecordCount());
+        assertEquals(first.getId(), secondResult.getPreviousExportId());
+        assertEquals(firstResult.getWatermarkTo(), secondResult.getWatermarkFrom());
+        assertEquals(String.valueOf(latest.getTime()), secondResult.getWatermarkTo());
+    }
+
+    @Test
+    public void testFindPreviousExport() throws IOException {
+        String query = "/tableExport?fields=principalName";
+        String[] queries = {query, query, "/tableExport?fields=query", query};
+        long[] completedOn = {1000, 2000, 3000, 4000};
+        String[] watermarks = {"1", "2", "3", null};
+        for (int i = 0; i < queries.length; i++) {
+            TableExportResult result = new TableExportResult();
+            result.setCompletedOn(new Date(completedOn[i]));
+            result.setWatermarkTo(watermarks[i]);
+
+            TableExport export = new TableExport();
+            export.setId("edc4a871-dff2-4054-804e-d80075cf82a" + i);
+            export.setQuery(queries[i]);
+            export.setQueryType(QueryType.JSONAPI_V1_0);
+            export.setResultType(ResultType.CSV);
+            export.setWatermarkField("createdOn");
+            export.setStatus(QueryStatus.COMPLETE);
+            export.setResult(result);
+            save(export);
+        }
+
+        TableExport next = new TableExport();
+        next.setQuery(query);
+        next.setQueryType(QueryType.JSONAPI_V1_0);
+        next.setResultType(ResultType.CSV);
+        next.setWatermarkField("createdOn");
+        JSONAPITableExportOperation operation = new JSONAPITableExportOperation(new JSONExportFormatter(elide),
+                asyncExecutorService, next, requestScope, engine);
+
+        // The latest completed export of the same query that reached a watermark.
+        assertEquals("edc4a871-dff2-4054-804e-d80075cf82a1", operation.findPreviousExport(next).getId());
+
+        next.setResultType(ResultType.JSON);
+        assertNull(operation.findPreviousExport(next));
+    }
+
+    @Test
+    public void testProcessIncrementalQueryAcrossPages() throws IOException {
+        // The page of the first export ends between rows with the same watermark.
+        long[] createdOn = {1000, 1000, 1000, 2000};
+        for (int i = 0; i < createdOn.length; i++) {
+            TableExport row = new TableExport();
+            row.setId("edc4a871-dff2-4054-804e-d80075cf829" + (i + 1));
+            row.setCreatedOn(new Date(createdOn[i]));
+            row.setQuery("/row" + (i + 1));
+            save(row);
+        }
+        String query = "/tableExport?fields[tableExport]=query&page[limit]=2";
+
+        TableExport first = new TableExport();
+        first.setId("edc4a871-dff2-4054-804e-d80075cf8274");
+        first.setQuery(query);
+        first.setQueryType(QueryType.JSONAPI_V1_0);
+        first.setResultType(ResultType.JSON);
+        first.setWatermarkField("createdOn");
+        first.setCreatedOn(new Date(0));
+        TableExportResult firstResult = (TableExportResult) new JSONAPITableExportOperation(
+                new JSONExportFormatter(elide), asyncExecutorService, first, requestScope, engine).call();
+
+        assertNull(firstResult.getMessage());
+        assertEquals(Arrays.asList("[", "{\"query\":\"/row1\"}", ",{\"query\":\"/row2\"}", "]"),
+                engine.getResultsByID(first.getId()).toList().blockingGet());
+        assertEquals("1000", firstResult.getWatermarkTo());
+        assertEquals("edc4a871-dff2-4054-804e-d80075cf8292", firstResult.getWatermarkToId());
+
+        first.setResult(firstResult);
+        first.setStatus(QueryStatus.COMPLETE);
+        save(first);
+
+        TableExport second = new TableExport();
+        second.setId("edc4a871-dff2-4054-804e-d80075cf8275");
+        second.setQuery(query);
+        second.setQueryType(QueryType.JSONAPI_V1_0);
+        second.setResultType(ResultType.JSON);
+        second.setWatermarkField("createdOn");
+        TableExportResult secondResult = (TableExportResult) new JSONAPITableExportOperation(
+                new JSONExportFormatter(elide), asyncExecutorService, second, requestScope, engine).call();
+
+        assertNull(secondResult.getMessage());
+        assertEquals(first.getId(), secondResult.getPreviousExportId());
+        assertEquals("1000", secondResult.getWatermarkFrom());
+        assertEquals("edc4a871-dff2-4054-804e-d80075cf8292", secondResult.getWatermarkFromId());
+        assertEquals(Arrays.asList("[", "{\"query\":\"/row3\"}", ",{\"query\":\"/row4\"}", "]"),
+                engine.getResultsByID(second.getId()).toList().blockingGet());
+        assertEquals("2000", secondResult.getWatermarkTo());
+        assertEquals("edc4a871-dff2-4054-804e-d80075cf8294", secondResult.getWatermarkToId());
+    }
+
+    @Test
+    public void testProcessBadWatermarkQuery() {
+        TableExport queryObj = new TableExport();
+        queryObj.setQuery("/tableExport?fields=principalName");
+        queryObj.setQueryType(QueryType.JSONAPI_V1_0);
+        queryObj.setResultType(ResultType.CSV);
+        queryObj.setWatermarkField("noSuchField");
+        TableExportResult queryResultObj = (TableExportResult) new JSONAPITableExportOperation(
+                new JSONExportFormatter(elide), asyncExecutorService, queryObj, requestScope, engine).call();
+
+        assertEquals("Invalid watermark field: noSuchField", queryResultObj.getMessage());
+        assertNull(queryResultObj.getUrl());
     }
 
     @Test
@@ -171,7 +417,10 @@ public class JsonAPITableExportOperationTest {
      * @throws IOException  IOException
      */
     private void dataPrep() throws IOException {
-        TableExport temp = new TableExport();
+        save(new TableExport());
+    }
+
+    private void save(Object temp) throws IOException {
         DataStoreTransaction tx = dataStore.beginTransaction();
         RequestScope scope = new RequestScope(null, null, NO_VERSION, null, tx, user, null, Collections.emptyMap(),
                 UUID.randomUUID(), elide.getElideSettings());
@@ -55,7 +55,7 @@ public class ExportApiEndpointTest {
 
         exportApiProperties = new ExportApiProperties(Executors.newFixedThreadPool(1), maxDownloadTimeSeconds);
         endpoint = new ExportApiEndpoint(engine, exportApiProperties);
-        endpoint.get(queryId, response, asyncResponse);
+        endpoint.get(queryId, null, null, null, response, asyncResponse);
 
         // Timeout(int) succeeds as soon as the function to be verified is called.
         // It waits maximum upto value of "int" for function to be called.
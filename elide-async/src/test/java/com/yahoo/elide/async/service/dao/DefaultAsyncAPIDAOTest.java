@@ -6,8 +6,11 @@
 package com.yahoo.elide.async.service.dao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -23,11 +26,13 @@ import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.security.checks.Check;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.TimeZone;
@@ -83,6 +88,23 @@ public class DefaultAsyncAPIDAOTest {
         verify(asyncQuery, times(1)).setStatus(QueryStatus.PROCESSING);
     }
 
+    @Test
+    public void testUpdateAsyncAPI() {
+        when(tx.loadObject(any(), any(), any())).thenReturn(asyncQuery);
+        asyncAPIDAO.updateAsyncAPI("1234", query -> query.setStatus(QueryStatus.PROCESSING), AsyncQuery.class);
+        verify(dataStore, times(1)).beginTransaction();
+        verify(tx, times(1)).save(any(AsyncQuery.class), any(RequestScope.class));
+        verify(asyncQuery, times(1)).setStatus(QueryStatus.PROCESSING);
+    }
+
+    @Test
+    public void testUpdateMissingAsyncAPI() {
+        when(tx.loadObject(any(), any(), any())).thenReturn(null);
+        assertNull(asyncAPIDAO.updateAsyncAPI("1234", query -> query.setStatus(QueryStatus.PROCESSING),
+                AsyncQuery.class));
+        verify(tx, never()).save(any(), any(RequestScope.class));
+    }
+
    @Test
    public void testUpdateStatusAsyncQueryCollection() {
        Iterable<Object> loaded = Arrays.asList(asyncQuery, asyncQuery);
@@ -122,4 +144,18 @@ public class DefaultAsyncAPIDAOTest {
         verify(dataStore, times(1)).beginTransaction();
         verify(tx, times(1)).loadObjects(any(), any());
     }
+
+    @Test
+    public void testLoadFirstAsyncQuery() {
+        Iterable<Object> loaded = Arrays.asList(asyncQuery);
+        when(tx.loadObjects(any(), any())).thenReturn(loaded);
+        assertEquals(asyncQuery, asyncAPIDAO.loadFirstAsyncAPIByFilter(filter,
+                Collections.singletonMap("createdOn", Sorting.SortOrder.desc), AsyncQuery.class));
+        verify(tx, times(1)).loadObjects(argThat(projection -> projection.getPagination().getLimit() == 1
+                && !projection.getSorting().isDefaultInstance()), any());
+
+        when(tx.loadObjects(any(), any())).thenReturn(Collections.emptyList());
+        assertNull(asyncAPIDAO.loadFirstAsyncAPIByFilter(filter,
+                Collections.singletonMap("createdOn", Sorting.SortOrder.desc), AsyncQuery.class));
+    }
 }
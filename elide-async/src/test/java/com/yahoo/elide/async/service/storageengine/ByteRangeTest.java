@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service.storageengine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for ByteRange.
+ */
+public class ByteRangeTest {
+
+    @Test
+    public void testNoRange() {
+        ByteRange range = ByteRange.parse(null, 100);
+        assertTrue(range.isSatisfiable());
+        assertFalse(range.isPartial());
+        assertEquals(100, range.getLength());
+    }
+
+    @Test
+    public void testClosedRange() {
+        ByteRange range = ByteRange.parse("bytes=10-19", 100);
+        assertTrue(range.isPartial());
+        assertEquals(10, range.getLength());
+        assertEquals("bytes 10-19/100", range.getContentRange());
+    }
+
+    @Test
+    public void testOpenRange() {
+        ByteRange range = ByteRange.parse("bytes=90-", 100);
+        assertEquals(10, range.getLength());
+        assertEquals("bytes 90-99/100", range.getContentRange());
+    }
+
+    @Test
+    public void testEndPastSize() {
+        ByteRange range = ByteRange.parse("bytes=90-500", 100);
+        assertEquals("bytes 90-99/100", range.getContentRange());
+    }
+
+    @Test
+    public void testSuffixRange() {
+        ByteRange range = ByteRange.parse("bytes=-30", 100);
+        assertEquals("bytes 70-99/100", range.getContentRange());
+
+        range = ByteRange.parse("bytes=-300", 100);
+        assertFalse(range.isPartial());
+    }
+
+    @Test
+    public void testUnsatisfiableRange() {
+        ByteRange range = ByteRange.parse("bytes=100-", 100);
+        assertFalse(range.isSatisfiable());
+        assertEquals("bytes */100", range.getContentRange());
+    }
+
+    @Test
+    public void testIgnoredRanges() {
+        assertFalse(ByteRange.parse("bytes=0-1,5-6", 100).isPartial());
+        assertFalse(ByteRange.parse("items=0-1", 100).isPartial());
+        assertFalse(ByteRange.parse("bytes=5-1", 100).isPartial());
+        assertFalse(ByteRange.parse("bytes=a-b", 100).isPartial());
+    }
+}
@@ -6,15 +6,30 @@
 package com.yahoo.elide.async.service.storageengine;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.yahoo.elide.async.models.TableExport;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Test cases for FileResultStorageEngine.
@@ -57,6 +72,158 @@ public class FileResultStorageEngineTest {
         assertEquals(finalResult, validOutput);
     }
 
+    @Test
+    public void testStoreCompressedResults(@TempDir Path tempDir) throws IOException {
+        String queryId = "store_compressed_results_success";
+        String validOutput = "hi\nhello";
+        String[] input = validOutput.split("\n");
+
+        FileResultStorageEngine engine = new FileResultStorageEngine(tempDir.toString(), true);
+        TableExport query = new TableExport();
+        query.setId(queryId);
+        engine.storeResults(query, Observable.fromArray(input));
+
+        StoredResultFile resultFile = engine.getResultFileByID(queryId).get();
+        assertTrue(resultFile.isCompressed());
+        assertEquals(queryId + FileResultStorageEngine.GZIP_SUFFIX, resultFile.getPath().getFileName().toString());
+        assertFalse(resultFile.isAcceptedBy(null));
+        assertTrue(resultFile.isAcceptedBy("gzip, deflate"));
+
+        try (InputStream stream = new GZIPInputStream(Files.newInputStream(resultFile.getPath()))) {
+            assertEquals("hi" + System.lineSeparator() + "hello" + System.lineSeparator(),
+                    new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        // verify contents of stored files are readable and match original
+        String finalResult = readResultsFile(engine, queryId);
+        assertEquals(finalResult, validOutput);
+    }
+
+    @Test
+    public void testCompressedResultFileAcceptEncoding(@TempDir Path tempDir) {
+        StoredResultFile resultFile = new StoredResultFile(tempDir.resolve("accept.gz"), true);
+
+        assertTrue(resultFile.isAcceptedBy("gzip"));
+        assertTrue(resultFile.isAcceptedBy("deflate, GZIP;q=0.5"));
+        assertTrue(resultFile.isAcceptedBy("x-gzip"));
+        assertTrue(resultFile.isAcceptedBy("*"));
+        assertTrue(resultFile.isAcceptedBy("br;q=1.0, *;q=0.1"));
+        assertFalse(resultFile.isAcceptedBy(""));
+        assertFalse(resultFile.isAcceptedBy("identity"));
+        assertFalse(resultFile.isAcceptedBy("gzip;q=0"));
+        assertFalse(resultFile.isAcceptedBy("gzip; q=0.000, *"));
+        assertFalse(resultFile.isAcceptedBy("x-gzip2"));
+        assertFalse(resultFile.isAcceptedBy("*;q=0"));
+        assertFalse(resultFile.isAcceptedBy("gzip;q=abc"));
+    }
+
+    @Test
+    public void testTransferResultFileRange(@TempDir Path tempDir) throws IOException {
+        String queryId = "transfer_results";
+        storeResultsFile(tempDir.toString(), queryId, Observable.fromArray("hi", "hello"));
+
+        FileResultStorageEngine engine = new FileResultStorageEngine(tempDir.toString());
+        StoredResultFile resultFile = engine.getResultFileByID(queryId).get();
+        assertFalse(resultFile.isCompressed());
+        assertTrue(resultFile.isAcceptedBy(null));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        resultFile.transferTo(outputStream, ByteRange.parse("bytes=0-1", resultFile.size()));
+        assertEquals("hi", outputStream.toString(StandardCharsets.UTF_8));
+
+        assertFalse(engine.getResultFileByID("nonexisting_results").isPresent());
+    }
+
+    @Test
+    public void testResultFileIfRange(@TempDir Path tempDir) throws IOException {
+        String queryId = "if_range_results";
+        storeResultsFile(tempDir.toString(), queryId, Observable.fromArray("hi", "hello"));
+
+        StoredResultFile resultFile = new FileResultStorageEngine(tempDir.toString()).getResultFileByID(queryId).get();
+        Files.setLastModifiedTime(resultFile.getPath(), FileTime.from(Instant.parse("2021-01-15T10:15:30Z")));
+        String entityTag = resultFile.entityTag();
+
+        assertTrue(entityTag.startsWith("\"") && entityTag.endsWith("\""));
+        assertTrue(resultFile.isRangeCurrent(null));
+        assertTrue(resultFile.isRangeCurrent(entityTag));
+        assertTrue(resultFile.isRangeCurrent("Fri, 15 Jan 2021 10:15:30 GMT"));
+        assertFalse(resultFile.isRangeCurrent("W/" + entityTag));
+        assertFalse(resultFile.isRangeCurrent("\"other\""));
+        assertFalse(resultFile.isRangeCurrent("Fri, 15 Jan 2021 10:15:31 GMT"));
+        assertFalse(resultFile.isRangeCurrent("yesterday"));
+
+        Files.setLastModifiedTime(resultFile.getPath(), FileTime.from(Instant.parse("2021-01-16T10:15:30Z")));
+        assertFalse(resultFile.isRangeCurrent(entityTag));
+    }
+
+    @Test
+    public void testStoreResultsLeavesNoTemporaryFiles(@TempDir Path tempDir) throws IOException {
+        FileResultStorageEngine engine = new FileResultStorageEngine(tempDir.toString(), true);
+        TableExport query = new TableExport();
+        query.setId("store_results_rename");
+        engine.storeResults(query, Observable.fromArray("hi", "hello"));
+
+        query.setId("store_results_rename_fail");
+        assertThrows(IllegalStateException.class, () ->
+                engine.storeResultChunks(query, Flowable.concat(Flowable.just("hi".getBytes(StandardCharsets.UTF_8)),
+                        Flowable.error(new IOException("failed")))));
+
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(Arrays.asList("store_results_rename" + FileResultStorageEngine.GZIP_SUFFIX),
+                    files.map(file -> file.getFileName().toString()).collect(Collectors.toList()));
+        }
+        assertFalse(engine.getResultFileByID("store_results_rename_fail").isPresent());
+    }
+
+    @Test
+    public void testStoreResultChunks(@TempDir Path tempDir) {
+        String queryId = "store_result_chunks";
+        String separator = System.lineSeparator();
+        Flowable<byte[]> chunks = Flowable.just("hi" + separator + "hello" + separator, "bye" + separator)
+                .map(chunk -> chunk.getBytes(StandardCharsets.UTF_8));
+
+        FileResultStorageEngine engine = new FileResultStorageEngine(tempDir.toString());
+        TableExport query = new TableExport();
+        query.setId(queryId);
+        engine.storeResultChunks(query, chunks);
+
+        assertEquals("hi\nhello\nbye", readResultsFile(engine, queryId).replace(separator, "\n"));
+    }
+
+    @Test
+    public void testStoreResultChunksFail(@TempDir Path tempDir) {
+        FileResultStorageEngine engine = new FileResultStorageEngine(tempDir.toString());
+        TableExport query = new TableExport();
+        query.setId("store_result_chunks_fail");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () ->
+                engine.storeResultChunks(query, Flowable.error(new IOException("failed"))));
+        assertEquals(ResultStorageEngine.STORE_ERROR, e.getMessage());
+    }
+
+    @Test
+    public void testDefaultStoreResultChunks() {
+        List<String> stored = new ArrayList<>();
+        ResultStorageEngine engine = new ResultStorageEngine() {
+            @Override
+            public TableExport storeResults(TableExport tableExport, Observable<String> result) {
+                result.blockingForEach(stored::add);
+                return tableExport;
+            }
+
+            @Override
+            public Observable<String> getResultsByID(String asyncQueryID) {
+                return Observable.empty();
+            }
+        };
+
+        String separator = System.lineSeparator();
+        engine.storeResultChunks(new TableExport(), Flowable.just("a" + separator + separator, "b" + separator)
+                .map(chunk -> chunk.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(Arrays.asList("a", "", "b"), stored);
+    }
+
     // O/P Directory does not exist.
     @Test
     public void testStoreResultsFail(@TempDir File tempDir) {
@@ -67,8 +234,10 @@ public class FileResultStorageEngineTest {
     }
 
     private String readResultsFile(String path, String queryId) {
-        FileResultStorageEngine engine = new FileResultStorageEngine(path);
+        return readResultsFile(new FileResultStorageEngine(path), queryId);
+    }
 
+    private String readResultsFile(FileResultStorageEngine engine, String queryId) {
         return engine.getResultsByID(queryId).collect(() -> new StringBuilder(),
                 (resultBuilder, tempResult) -> {
                     if (resultBuilder.length() > 0) {
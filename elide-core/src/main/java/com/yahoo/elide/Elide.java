@@ -37,6 +37,7 @@ import com.yahoo.elide.jsonapi.parser.BaseVisitor;
 import com.yahoo.elide.jsonapi.parser.DeleteVisitor;
 import com.yahoo.elide.jsonapi.parser.GetVisitor;
 import com.yahoo.elide.jsonapi.parser.JsonApiParser;
+import com.yahoo.elide.jsonapi.parser.ParseTreeCache;
 import com.yahoo.elide.jsonapi.parser.PatchVisitor;
 import com.yahoo.elide.jsonapi.parser.PostVisitor;
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -46,7 +47,9 @@ import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import lombok.Getter;
@@ -83,6 +86,9 @@ public class Elide {
     @Getter private final TransactionRegistry transactionRegistry;
     @Getter private final ClassScanner scanner;
 
+    //Null unless parse trees are cached (see ElideSettingsBuilder#withJsonApiParseTreeCacheSize).
+    private final ParseTreeCache parseTreeCache;
+
     /**
      * Instantiates a new Elide instance.
      *
@@ -107,6 +113,9 @@ public class Elide {
         this.mapper = elideSettings.getMapper();
         this.errorMapper = elideSettings.getErrorMapper();
         this.transactionRegistry = new TransactionRegistry();
+        this.parseTreeCache = elideSettings.getJsonApiParseTreeCacheSize() > 0
+                ? new ParseTreeCache(elideSettings.getJsonApiParseTreeCacheSize())
+                : null;
 
         elideSettings.getSerdes().forEach((type, serde) -> registerCustomSerde(type, serde, type.getSimpleName()));
 
@@ -220,7 +229,7 @@ public class Elide {
             RequestScope requestScope = new RequestScope(baseUrlEndPoint, path, apiVersion, jsonApiDoc,
                     tx, user, queryParams, requestHeaders, requestId, elideSettings);
             requestScope.setEntityProjection(new EntityProjectionMaker(elideSettings.getDictionary(),
-                    requestScope).parsePath(path));
+                    requestScope).parsePath(parse(path)));
             BaseVisitor visitor = new GetVisitor(requestScope);
             return visit(path, requestScope, visitor);
         });
@@ -281,7 +290,7 @@ public class Elide {
             RequestScope requestScope = new RequestScope(baseUrlEndPoint, path, apiVersion,
                     jsonApiDoc, tx, user, queryParams, requestHeaders, requestId, elideSettings);
             requestScope.setEntityProjection(new EntityProjectionMaker(elideSettings.getDictionary(),
-                    requestScope).parsePath(path));
+                    requestScope).parsePath(parse(path)));
             BaseVisitor visitor = new PostVisitor(requestScope);
             return visit(path, requestScope, visitor);
         });
@@ -368,7 +377,7 @@ public class Elide {
                 RequestScope requestScope = new RequestScope(baseUrlEndPoint, path, apiVersion, jsonApiDoc,
                         tx, user, queryParams, requestHeaders, requestId, elideSettings);
                 requestScope.setEntityProjection(new EntityProjectionMaker(elideSettings.getDictionary(),
-                        requestScope).parsePath(path));
+                        requestScope).parsePath(parse(path)));
                 BaseVisitor visitor = new PatchVisitor(requestScope);
                 return visit(path, requestScope, visitor);
             };
@@ -435,7 +444,7 @@ public class Elide {
             RequestScope requestScope = new RequestScope(baseUrlEndPoint, path, apiVersion, jsonApiDoc,
                     tx, user, queryParams, requestHeaders, requestId, elideSettings);
             requestScope.setEntityProjection(new EntityProjectionMaker(elideSettings.getDictionary(),
-                    requestScope).parsePath(path));
+                    requestScope).parsePath(parse(path)));
             BaseVisitor visitor = new DeleteVisitor(requestScope);
             return visit(path, requestScope, visitor);
         });
@@ -443,13 +452,17 @@ public class Elide {
 
     public HandlerResult visit(String path, RequestScope requestScope, BaseVisitor visitor) {
         try {
-            Supplier<Pair<Integer, JsonNode>> responder = visitor.visit(JsonApiParser.parse(path));
+            Supplier<Pair<Integer, JsonNode>> responder = visitor.visit(parse(path));
             return new HandlerResult(requestScope, responder);
         } catch (RuntimeException e) {
             return new HandlerResult(requestScope, e);
         }
     }
 
+    private ParseTree parse(String path) {
+        return parseTreeCache == null ? JsonApiParser.parse(path) : parseTreeCache.parse(path);
+    }
+
     /**
      * Handle JSON API requests.
      *
@@ -596,9 +609,15 @@ public class Elide {
         try {
             JsonNode responseNode = response.getRight();
             Integer responseCode = response.getLeft();
+            if (responseNode != null && elideSettings.isStreamingResponses()) {
+                //Serialize while the transaction is still open but defer writing until the caller has a stream.
+                TokenBuffer buffer = mapper.bufferJsonApiDocument(responseNode);
+                return new ElideResponse(responseCode, null,
+                        outputStream -> mapper.writeJsonApiDocument(buffer, outputStream));
+            }
             String body = responseNode == null ? null : mapper.writeJsonApiDocument(responseNode);
             return new ElideResponse(responseCode, body);
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             return new ElideResponse(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.toString());
         }
     }
@@ -8,13 +8,20 @@ package com.yahoo.elide;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Elide response object.
  */
 @Builder
 public class ElideResponse {
     @Getter private final int responseCode;
-    @Getter private final String body;
+    private final String body;
+    private final BodyWriter bodyWriter;
 
     /**
      * Constructor.
@@ -23,7 +30,70 @@ public class ElideResponse {
      * @param body returned body string
      */
     public ElideResponse(int responseCode, String body) {
+        this(responseCode, body, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param responseCode HTTP response code
+     * @param body returned body string
+     * @param bodyWriter writes the returned body to a stream (takes precedence over body when set)
+     */
+    public ElideResponse(int responseCode, String body, BodyWriter bodyWriter) {
         this.responseCode = responseCode;
         this.body = body;
+        this.bodyWriter = bodyWriter;
+    }
+
+    /**
+     * Returns the response body as a string.  Deferred bodies are rendered in full on every call.
+     *
+     * @return the response body
+     */
+    public String getBody() {
+        if (bodyWriter == null) {
+            return body;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            bodyWriter.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Whether the body of this response is held serialized (but not rendered to a string) until it is written
+     * to a stream.
+     *
+     * @return true if the response carries a body writer
+     */
+    public boolean isStreaming() {
+        return bodyWriter != null;
+    }
+
+    /**
+     * Writes the response body (UTF-8 encoded) to the given stream.
+     *
+     * @param outputStream the stream to write to.  It is not closed.
+     * @throws IOException if the body cannot be written
+     */
+    public void writeBody(OutputStream outputStream) throws IOException {
+        if (bodyWriter != null) {
+            bodyWriter.write(outputStream);
+        } else if (body != null) {
+            outputStream.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Writes a response body to a stream.
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+        void write(OutputStream outputStream) throws IOException;
     }
 }
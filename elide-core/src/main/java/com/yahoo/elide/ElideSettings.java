@@ -14,14 +14,17 @@ import com.yahoo.elide.core.filter.dialect.graphql.FilterDialect;
 import com.yahoo.elide.core.filter.dialect.jsonapi.JoinFilterDialect;
 import com.yahoo.elide.core.filter.dialect.jsonapi.SubqueryFilterDialect;
 import com.yahoo.elide.core.security.PermissionExecutor;
+import com.yahoo.elide.core.security.permissions.UserCheckResultCache;
 import com.yahoo.elide.core.utils.coerce.converters.Serde;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.jsonapi.links.JSONApiLinks;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 
 /**
@@ -45,6 +48,13 @@ public class ElideSettings {
     @Getter private final Map<Class, Serde> serdes;
     @Getter private final boolean enableJsonLinks;
     @Getter private final boolean strictQueryParams;
+    @Getter private final boolean streamingResponses;
+    @Getter private final int jsonApiParseTreeCacheSize;
+    @Getter private final ExecutorService graphQLQueryExecutor;
+    @Getter private final int graphQLDocumentCacheSize;
+    @Getter private final Collection<String> graphQLPersistedQueries;
+    @Getter private final boolean graphQLPersistedQueriesOnly;
+    @Getter private final UserCheckResultCache userCheckResultCache;
     @Getter private final String baseUrl;
     @Getter private final String jsonApiPath;
     @Getter private final String graphQLApiPath;
@@ -21,6 +21,7 @@ import com.yahoo.elide.core.pagination.PaginationImpl;
 import com.yahoo.elide.core.security.PermissionExecutor;
 import com.yahoo.elide.core.security.executors.ActivePermissionExecutor;
 import com.yahoo.elide.core.security.executors.VerbosePermissionExecutor;
+import com.yahoo.elide.core.security.permissions.UserCheckResultCache;
 import com.yahoo.elide.core.utils.coerce.converters.EpochToDateConverter;
 import com.yahoo.elide.core.utils.coerce.converters.ISO8601DateSerde;
 import com.yahoo.elide.core.utils.coerce.converters.InstantSerde;
@@ -32,14 +33,17 @@ import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.jsonapi.links.JSONApiLinks;
 
 import java.net.URL;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 
 /**
@@ -62,6 +66,13 @@ public class ElideSettingsBuilder {
     private int updateStatusCode;
     private boolean enableJsonLinks;
     private boolean strictQueryParams = true;
+    private boolean streamingResponses;
+    private int jsonApiParseTreeCacheSize;
+    private ExecutorService graphQLQueryExecutor;
+    private int graphQLDocumentCacheSize;
+    private Collection<String> graphQLPersistedQueries;
+    private boolean graphQLPersistedQueriesOnly;
+    private UserCheckResultCache userCheckResultCache;
     private String baseUrl = "";
     private String jsonApiPath;
     private String graphQLApiPath;
@@ -124,6 +135,13 @@ public class ElideSettingsBuilder {
                 serdes,
                 enableJsonLinks,
                 strictQueryParams,
+                streamingResponses,
+                jsonApiParseTreeCacheSize,
+                graphQLQueryExecutor,
+                graphQLDocumentCacheSize,
+                graphQLPersistedQueries,
+                graphQLPersistedQueriesOnly,
+                userCheckResultCache,
                 baseUrl,
                 jsonApiPath,
                 graphQLApiPath,
@@ -250,4 +268,72 @@ public class ElideSettingsBuilder {
         this.strictQueryParams = enabled;
         return this;
     }
+
+    public ElideSettingsBuilder withStreamingResponses(boolean enabled) {
+        this.streamingResponses = enabled;
+        return this;
+    }
+
+    /**
+     * Runs the read-only queries of a batched GraphQL document concurrently, each in its own transaction.
+     * @param executor The executor the queries run on (or null to run them one after another).
+     * @return the builder.
+     */
+    public ElideSettingsBuilder withGraphQLQueryExecutor(ExecutorService executor) {
+        this.graphQLQueryExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Caches the parse trees of the most recently requested distinct JSON-API paths.  Paths include resource IDs,
+     * so the cache only pays off when clients request the same resources repeatedly.
+     * @param maximumSize The most parse trees cached (or 0 to parse every path).
+     * @return the builder.
+     */
+    public ElideSettingsBuilder withJsonApiParseTreeCacheSize(int maximumSize) {
+        this.jsonApiParseTreeCacheSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * Caches the parsed and validated documents of the most recent distinct GraphQL queries.
+     * @param maximumSize The most documents cached per API version (or 0 to parse every query).
+     * @return the builder.
+     */
+    public ElideSettingsBuilder withGraphQLDocumentCacheSize(int maximumSize) {
+        this.graphQLDocumentCacheSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * Accepts the hash of a persisted GraphQL query in place of its document.  Queries are registered the first
+     * time a client sends them along with their hash.
+     * @param queries The query documents registered up front.
+     * @return the builder.
+     */
+    public ElideSettingsBuilder withGraphQLPersistedQueries(Collection<String> queries) {
+        this.graphQLPersistedQueries = queries;
+        return this;
+    }
+
+    /**
+     * Only runs the GraphQL queries registered up front.  Other documents are rejected before they are parsed.
+     * @param queries The query documents that are allowed.
+     * @return the builder.
+     */
+    public ElideSettingsBuilder withGraphQLPersistedQueriesOnly(Collection<String> queries) {
+        this.graphQLPersistedQueries = queries;
+        this.graphQLPersistedQueriesOnly = true;
+        return this;
+    }
+
+    /**
+     * Shares the results of cacheable user checks across the requests of a user.
+     * @param timeToLive How long a result is shared after it is computed.
+     * @return the builder.
+     */
+    public ElideSettingsBuilder withUserCheckCache(Duration timeToLive) {
+        this.userCheckResultCache = new UserCheckResultCache(timeToLive);
+        return this;
+    }
 }
@@ -1202,6 +1202,71 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
                 getRelation(relationship, true));
     }
 
+    /**
+     * Get observables of resources from the same relation field of several resources.  The relationship is
+     * loaded for all owners of a given type with a single call to the data store.  Each owner's observable
+     * behaves as if {@link #getRelationCheckedFiltered} had been called on that owner.
+     *
+     * @param resources the owners of the relationship
+     * @param relationship relationship
+     * @return collection relation per owner.  Owners without access to the relationship map to an error.
+     *         If page totals are requested, each owner is loaded separately when its observable is subscribed.
+     */
+    public static Map<PersistentResource, Observable<PersistentResource>> getRelationsCheckedFiltered(
+            Collection<PersistentResource> resources,
+            com.yahoo.elide.core.request.Relationship relationship) {
+
+        Map<PersistentResource, Observable<PersistentResource>> results = new LinkedHashMap<>();
+
+        //Page totals are recorded on the (shared) pagination and must be read before the next owner is loaded.
+        Pagination pagination = relationship.getProjection().getPagination();
+        if (pagination != null && pagination.returnPageTotals()) {
+            resources.forEach(owner ->
+                    results.put(owner, Observable.defer(() -> owner.getRelationCheckedFiltered(relationship))));
+            return results;
+        }
+
+        Map<Type<?>, List<PersistentResource>> ownersByType = resources.stream()
+                .collect(Collectors.groupingBy(PersistentResource::getResourceType,
+                        LinkedHashMap::new, Collectors.toList()));
+
+        ownersByType.values().forEach(owners -> {
+            List<PersistentResource> readable = new ArrayList<>();
+            for (PersistentResource owner : owners) {
+                try {
+                    if (owner.checkRelationForRead(relationship, true)) {
+                        readable.add(owner);
+                    } else {
+                        results.put(owner, Observable.empty());
+                    }
+                } catch (ForbiddenAccessException e) {
+                    results.put(owner, Observable.error(e));
+                }
+            }
+
+            if (readable.isEmpty()) {
+                return;
+            }
+
+            PersistentResource<?> first = readable.get(0);
+            List<Object> objects = readable.stream()
+                    .map(PersistentResource::getObject)
+                    .collect(Collectors.toList());
+
+            Map<Object, Object> loaded = first.transaction.getRelations(first.transaction, objects,
+                    first.addPermissionFilter(relationship), first.requestScope);
+
+            for (PersistentResource<?> owner : readable) {
+                results.put(owner, filter(ReadPermission.class,
+                        Optional.ofNullable(relationship.getProjection().getFilterExpression()),
+                        relationship.getProjection().getRequestedFields(),
+                        owner.toRelationResources(relationship.getName(), loaded.get(owner.getObject()))));
+            }
+        });
+
+        return results;
+    }
+
     private Observable<PersistentResource> getRelationUncheckedUnfiltered(String relationName) {
         assertPropertyExists(relationName);
         return getRelation(com.yahoo.elide.core.request.Relationship.builder()
@@ -1221,6 +1286,21 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
 
     private Observable<PersistentResource> getRelation(com.yahoo.elide.core.request.Relationship relationship,
                                                        boolean checked) {
+        if (!checkRelationForRead(relationship, checked)) {
+            return Observable.empty();
+        }
+
+        return getRelationUnchecked(relationship);
+    }
+
+    /**
+     * Publishes the read events for a relationship and verifies it can be loaded.
+     *
+     * @param relationship The relationship to the entity
+     * @param checked Whether the load was triggered by the API client and must be permission checked
+     * @return True if the relationship should be loaded
+     */
+    private boolean checkRelationForRead(com.yahoo.elide.core.request.Relationship relationship, boolean checked) {
         if (checked) {
             //All getRelation calls funnel to here.  We only publish events for actions triggered directly
             //by the API client.
@@ -1229,7 +1309,7 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
         }
 
         if (checked && !checkRelation(relationship)) {
-            return Observable.empty();
+            return false;
         }
 
         Type<?> relationClass = dictionary.getParameterizedType(obj, relationship.getName());
@@ -1247,7 +1327,7 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
                     dictionary.getJsonAliasFor(relationClass)));
         }
 
-        return getRelationUnchecked(relationship);
+        return true;
     }
 
     /**
@@ -1292,12 +1372,23 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
      */
     private Observable<PersistentResource> getRelationUnchecked(
             com.yahoo.elide.core.request.Relationship relationship) {
+        com.yahoo.elide.core.request.Relationship modifiedRelationship = addPermissionFilter(relationship);
+
+        Object val = transaction.getRelation(transaction, obj, modifiedRelationship, requestScope);
+
+        return toRelationResources(relationship.getName(), val);
+    }
+
+    /**
+     * Merges the read permission filter of the relationship's type into the relationship's filter.
+     */
+    private com.yahoo.elide.core.request.Relationship addPermissionFilter(
+            com.yahoo.elide.core.request.Relationship relationship) {
         String relationName = relationship.getName();
         FilterExpression filterExpression = relationship.getProjection().getFilterExpression();
         Pagination pagination = relationship.getProjection().getPagination();
         Sorting sorting = relationship.getProjection().getSorting();
 
-        RelationshipType type = getRelationshipType(relationName);
         final Type<?> relationClass = dictionary.getParameterizedType(obj, relationName);
         if (relationClass == null) {
             throw new InvalidAttributeException(relationName, this.getTypeName());
@@ -1316,16 +1407,19 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
             computedFilters = permissionFilter;
         }
 
-        com.yahoo.elide.core.request.Relationship modifiedRelationship = relationship.copyOf()
+        return relationship.copyOf()
                 .projection(relationship.getProjection().copyOf()
                         .filterExpression(computedFilters.orElse(null))
                         .sorting(sorting)
                         .pagination(pagination)
                         .build()
                 ).build();
+    }
 
-        Object val = transaction.getRelation(transaction, obj, modifiedRelationship, requestScope);
-
+    /**
+     * Wraps the value of a relationship loaded from the data store.
+     */
+    private Observable<PersistentResource> toRelationResources(String relationName, Object val) {
         if (val == null) {
             return Observable.empty();
         }
@@ -1628,6 +1722,17 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
     protected Map<String, Object> getAttributes() {
         final Map<String, Object> attributes = new LinkedHashMap<>();
 
+        //Field read access is the same for every resource of the type.  Skip the per resource field checks.
+        if (requestScope.getPermissionExecutor().isUserCheckOnly(getResourceType())) {
+            for (Attribute attribute : requestScope.getReadableAttributes(getResourceType(),
+                    this::getReadableAttributes)) {
+                requestScope.publishLifecycleEvent(this, READ);
+                requestScope.publishLifecycleEvent(this, attribute.getName(), READ, Optional.empty());
+                attributes.put(attribute.getName(), transaction.getAttribute(getObject(), attribute, requestScope));
+            }
+            return attributes;
+        }
+
         final Set<String> attrFields = filterFields(dictionary.getAttributes(obj));
         for (String field : attrFields) {
             Object val = getAttribute(field);
@@ -1636,6 +1741,21 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
         return attributes;
     }
 
+    /**
+     * Get the attributes of this resource's type that are requested and readable.
+     *
+     * @return Readable attributes
+     */
+    private List<Attribute> getReadableAttributes() {
+        return filterFields(dictionary.getAttributes(obj)).stream()
+                .map(field -> Attribute.builder()
+                        .name(field)
+                        .alias(field)
+                        .type(dictionary.getParameterizedType(getResourceType(), field))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     /**
      * Sets value.
      *
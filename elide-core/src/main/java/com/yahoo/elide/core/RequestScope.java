@@ -7,6 +7,8 @@ package com.yahoo.elide.core;
 
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.annotation.LifeCycleHookBinding;
+import com.yahoo.elide.annotation.LifeCycleHookBinding.Operation;
+import com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase;
 import com.yahoo.elide.core.audit.AuditLogger;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
@@ -17,6 +19,7 @@ import com.yahoo.elide.core.filter.dialect.jsonapi.MultipleFilterDialect;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.lifecycle.CRUDEvent;
 import com.yahoo.elide.core.lifecycle.LifecycleHookInvoker;
+import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.security.ChangeSpec;
 import com.yahoo.elide.core.security.PermissionExecutor;
@@ -27,9 +30,9 @@ import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
 import org.apache.commons.collections.MapUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import io.reactivex.Observable;
 import io.reactivex.subjects.PublishSubject;
-import io.reactivex.subjects.ReplaySubject;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -40,9 +43,13 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 
@@ -50,6 +57,10 @@ import javax.ws.rs.core.MultivaluedMap;
  * Request scope object for relaying request-related data to various subsystems.
  */
 public class RequestScope implements com.yahoo.elide.core.security.RequestScope {
+    private static final Operation[] QUEUED_OPERATIONS = {
+            Operation.CREATE, Operation.UPDATE, Operation.DELETE, Operation.READ
+    };
+
     @Getter private final JsonApiDocument jsonApiDocument;
     @Getter private final DataStoreTransaction transaction;
     @Getter private final User user;
@@ -76,9 +87,17 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
     @Getter private final UUID requestId;
     private final Map<String, FilterExpression> expressionsByType;
 
+    /* Readable attributes of types whose field read access is decided by user checks alone */
+    private final Map<Type<?>, List<Attribute>> readableAttributesByType;
+
     private PublishSubject<CRUDEvent> lifecycleEvents;
     private Observable<CRUDEvent> distinctLifecycleEvents;
-    private ReplaySubject<CRUDEvent> queuedLifecycleEvents;
+
+    /* Events waiting for the hooks of a later phase, grouped by phase and operation */
+    private Map<Pair<TransactionPhase, Operation>, Queue<CRUDEvent>> queuedLifecycleEvents;
+
+    /* Invokers of the phases that already ran.  Events published later are dispatched to them directly */
+    private Map<Pair<TransactionPhase, Operation>, LifecycleHookInvoker> lifecycleHookInvokers;
 
     /* Used to filter across heterogeneous types during the first load */
     private FilterExpression globalFilterExpression;
@@ -109,8 +128,9 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
         this.apiVersion = apiVersion;
         this.lifecycleEvents = PublishSubject.create();
         this.distinctLifecycleEvents = lifecycleEvents.distinct();
-        this.queuedLifecycleEvents = ReplaySubject.create();
-        this.distinctLifecycleEvents.subscribe(queuedLifecycleEvents);
+        this.queuedLifecycleEvents = new ConcurrentHashMap<>();
+        this.lifecycleHookInvokers = new ConcurrentHashMap<>();
+        this.distinctLifecycleEvents.subscribe(this::queueLifecycleEvent);
 
         this.path = path;
         this.baseUrlEndPoint = baseUrlEndPoint;
@@ -127,6 +147,7 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
 
         this.globalFilterExpression = null;
         this.expressionsByType = new HashMap<>();
+        this.readableAttributesByType = new HashMap<>();
         this.objectEntityCache = new ObjectEntityCache();
         this.newPersistentResources = new LinkedHashSet<>();
         this.dirtyResources = new LinkedHashSet<>();
@@ -179,13 +200,10 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
         }
 
         Function<RequestScope, PermissionExecutor> permissionExecutorGenerator = elideSettings.getPermissionExecutor();
-        this.permissionExecutor = new MultiplexPermissionExecutor(
-                dictionary.buildPermissionExecutors(this),
+        this.permissionExecutor = new MultiplexPermissionExecutor(this,
                 (permissionExecutorGenerator == null)
-                        ? new ActivePermissionExecutor(this)
-                        : permissionExecutorGenerator.apply(this),
-                dictionary
-        );
+                        ? ActivePermissionExecutor::new
+                        : permissionExecutorGenerator);
     }
 
     /**
@@ -217,11 +235,13 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
         this.deletedResources = outerRequestScope.deletedResources;
         this.filterDialect = outerRequestScope.filterDialect;
         this.expressionsByType = outerRequestScope.expressionsByType;
+        this.readableAttributesByType = outerRequestScope.readableAttributesByType;
         this.elideSettings = outerRequestScope.elideSettings;
         this.lifecycleEvents = outerRequestScope.lifecycleEvents;
         this.distinctLifecycleEvents = outerRequestScope.distinctLifecycleEvents;
         this.updateStatusCode = outerRequestScope.updateStatusCode;
         this.queuedLifecycleEvents = outerRequestScope.queuedLifecycleEvents;
+        this.lifecycleHookInvokers = outerRequestScope.lifecycleHookInvokers;
         this.requestId = outerRequestScope.requestId;
         this.sparseFields = outerRequestScope.sparseFields;
     }
@@ -330,111 +350,69 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
      * Run queued pre-security lifecycle triggers.
      */
     public void runQueuedPreSecurityTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.CREATE,
-                        LifeCycleHookBinding.TransactionPhase.PRESECURITY, false))
-                .throwOnError();
+        runQueuedTriggers(TransactionPhase.PRESECURITY, Operation.CREATE);
     }
 
     /**
      * Run queued pre-flush lifecycle triggers.
      */
     public void runQueuedPreFlushTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.CREATE,
-                        LifeCycleHookBinding.TransactionPhase.PREFLUSH, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isUpdateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.UPDATE,
-                        LifeCycleHookBinding.TransactionPhase.PREFLUSH, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isDeleteEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.DELETE,
-                        LifeCycleHookBinding.TransactionPhase.PREFLUSH, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isReadEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.READ,
-                        LifeCycleHookBinding.TransactionPhase.PREFLUSH, false))
-                .throwOnError();
+        runQueuedTriggers(TransactionPhase.PREFLUSH, QUEUED_OPERATIONS);
     }
 
     /**
      * Run queued pre-commit lifecycle triggers.
      */
     public void runQueuedPreCommitTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.CREATE,
-                        LifeCycleHookBinding.TransactionPhase.PRECOMMIT, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isUpdateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.UPDATE,
-                        LifeCycleHookBinding.TransactionPhase.PRECOMMIT, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isDeleteEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.DELETE,
-                        LifeCycleHookBinding.TransactionPhase.PRECOMMIT, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isReadEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.READ,
-                        LifeCycleHookBinding.TransactionPhase.PRECOMMIT, false))
-                .throwOnError();
+        runQueuedTriggers(TransactionPhase.PRECOMMIT, QUEUED_OPERATIONS);
     }
 
     /**
      * Run queued post-commit lifecycle triggers.
      */
     public void runQueuedPostCommitTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.CREATE,
-                        LifeCycleHookBinding.TransactionPhase.POSTCOMMIT, false))
-                .throwOnError();
+        runQueuedTriggers(TransactionPhase.POSTCOMMIT, QUEUED_OPERATIONS);
+    }
 
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isUpdateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.UPDATE,
-                        LifeCycleHookBinding.TransactionPhase.POSTCOMMIT, false))
-                .throwOnError();
+    private void runQueuedTriggers(TransactionPhase phase, Operation... operations) {
+        for (Operation operation : operations) {
+            Pair<TransactionPhase, Operation> key = Pair.of(phase, operation);
+            LifecycleHookInvoker invoker = new LifecycleHookInvoker(dictionary, operation, phase, false);
+            lifecycleHookInvokers.put(key, invoker);
 
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isDeleteEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.DELETE,
-                        LifeCycleHookBinding.TransactionPhase.POSTCOMMIT, false))
-                .throwOnError();
+            Queue<CRUDEvent> events = queuedLifecycleEvents.remove(key);
+            if (events != null) {
+                events.forEach(invoker::onNext);
+            }
+            invoker.throwOnError();
+        }
+    }
 
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isReadEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.READ,
-                        LifeCycleHookBinding.TransactionPhase.POSTCOMMIT, false))
-                .throwOnError();
+    /**
+     * Queues an event for each later phase with hooks it triggers.  Pre-security hooks of operations other than
+     * create run as soon as the event is published, and so do the hooks of phases that already ran.
+     *
+     * @param event The lifecycle event
+     */
+    private void queueLifecycleEvent(CRUDEvent event) {
+        Type<?> type = event.getResource().getResourceType();
+        Operation operation = event.getEventType();
+        for (TransactionPhase phase : TransactionPhase.values()) {
+            if (phase == TransactionPhase.PRESECURITY && operation != Operation.CREATE) {
+                continue;
+            }
+            if (!dictionary.hasTriggers(type, operation, phase, event.getFieldName())) {
+                continue;
+            }
+
+            Pair<TransactionPhase, Operation> key = Pair.of(phase, operation);
+            LifecycleHookInvoker invoker = lifecycleHookInvokers.get(key);
+            if (invoker != null) {
+                invoker.onNext(event);
+            } else {
+                queuedLifecycleEvents.computeIfAbsent(key, unused -> new ConcurrentLinkedQueue<>()).add(event);
+            }
+        }
     }
 
     /**
@@ -444,6 +422,9 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
      * @param crudAction CRUD action
      */
     protected void publishLifecycleEvent(PersistentResource<?> resource, LifeCycleHookBinding.Operation crudAction) {
+        if (!dictionary.hasTriggers(resource.getResourceType(), crudAction)) {
+            return;
+        }
         lifecycleEvents.onNext(
                     new CRUDEvent(crudAction, resource, PersistentResource.CLASS_NO_FIELD, Optional.empty())
         );
@@ -461,6 +442,9 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
                                          String fieldName,
                                          LifeCycleHookBinding.Operation crudAction,
                                          Optional<ChangeSpec> changeSpec) {
+        if (!dictionary.hasTriggers(resource.getResourceType(), crudAction)) {
+            return;
+        }
         lifecycleEvents.onNext(
                     new CRUDEvent(crudAction, resource, fieldName, changeSpec)
         );
@@ -477,6 +461,19 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
         dirtyResources.stream().map(PersistentResource::getObject).forEach(obj -> transaction.save(obj, this));
     }
 
+    /**
+     * Returns the attributes of a type the user may read.  The attributes are resolved by the first resource of the
+     * type and reused for the rest of the request.  Only valid for types whose field read access is decided by user
+     * checks alone (see {@link PermissionExecutor#isUserCheckOnly}).
+     *
+     * @param type The resource type
+     * @param resolver Resolves the readable attributes of the type
+     * @return The readable attributes in the order they are serialized
+     */
+    public List<Attribute> getReadableAttributes(Type<?> type, Supplier<List<Attribute>> resolver) {
+        return readableAttributesByType.computeIfAbsent(type, key -> resolver.get());
+    }
+
     public String getUUIDFor(Object o) {
         return objectEntityCache.getUUID(o);
     }
@@ -34,4 +34,14 @@ public class TransactionRegistry {
     public void removeRunningTransaction(UUID requestId) {
         transactionMap.remove(requestId);
     }
+
+    /**
+     * Removes a transaction only if it is still the one registered for the request.  Requests that run several
+     * transactions concurrently use this so that finishing one does not unregister another.
+     * @param requestId The request ID.
+     * @param tx The transaction to remove.
+     */
+    public void removeRunningTransaction(UUID requestId, DataStoreTransaction tx) {
+        transactionMap.remove(requestId, tx);
+    }
 }
@@ -22,7 +22,11 @@ import com.yahoo.elide.core.type.Type;
 
 import java.io.Closeable;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 /**
@@ -194,6 +198,31 @@ public interface DataStoreTransaction extends Closeable {
         return (R) PersistentResource.getValue(entity, relationship.getName(), scope);
     }
 
+    /**
+     * Retrieve the same relation from several objects at once.  Stores that can fetch the relationship
+     * for many owners in a single round trip should override this to avoid loading it once per owner.
+     *
+     * @param relationTx - The datastore that governs objects of the relationhip's type.
+     * @param entities - The objects which own the relationship.  All share the same model type.
+     * @param relationship - the relationship to fetch.
+     * @param scope - contains request level metadata.
+     * @param <T> - The model type which owns the relationship.
+     * @param <R> - The model type of the relationship.
+     * @return the object in the relation for each owner, keyed by owner identity.
+     */
+    default <T, R> Map<T, R> getRelations(
+            DataStoreTransaction relationTx,
+            List<T> entities,
+            Relationship relationship,
+            RequestScope scope) {
+
+        Map<T, R> results = new IdentityHashMap<>();
+        for (T entity : entities) {
+            results.put(entity, getRelation(relationTx, entity, relationship, scope));
+        }
+        return results;
+    }
+
     /**
      * Elide core will update the in memory representation of the objects to the requested state.
      * These functions allow a data store to optionally persist the relationship if needed.
@@ -312,6 +341,22 @@ public interface DataStoreTransaction extends Closeable {
         return true;
     }
 
+    /**
+     * The paths whose values together identify a record loaded with the provided projection.  Keyset (cursor)
+     * pagination sorts by them after the requested sort to break ties.
+     * @param scope The request scope
+     * @param projection The projection being loaded
+     * @return the identifying paths (the entity identifier by default).  Empty if records cannot be identified.
+     */
+    default List<Path> getIdentifyingPaths(RequestScope scope, EntityProjection projection) {
+        EntityDictionary dictionary = scope.getDictionary();
+        String idFieldName = dictionary.getIdFieldName(projection.getType());
+        if (idFieldName == null) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(new Path(projection.getType(), dictionary, idFieldName));
+    }
+
     /**
      * Cancel running transaction.
      * Implementation must be thread-safe.
@@ -13,6 +13,7 @@ import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterPredicatePushdownExtractor;
 import com.yahoo.elide.core.filter.expression.InMemoryExecutionVerifier;
+import com.yahoo.elide.core.pagination.KeysetPagination;
 import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Pagination;
@@ -20,19 +21,23 @@ import com.yahoo.elide.core.request.Relationship;
 import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.type.Type;
 import org.apache.commons.lang3.tuple.Pair;
+import lombok.Value;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 
 /**
@@ -70,6 +75,19 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
     }
 
 
+    /**
+     * The split of a fetch between the data store and memory.
+     */
+    @Value
+    private static class FetchPlan {
+        Optional<FilterExpression> dataStoreFilter;
+        Optional<Sorting> dataStoreSort;
+        Optional<Pagination> dataStorePagination;
+        Optional<FilterExpression> inMemoryFilter;
+        Optional<Sorting> inMemorySort;
+        Optional<Pagination> inMemoryPagination;
+    }
+
     public InMemoryStoreTransaction(DataStoreTransaction tx) {
         this.tx = tx;
     }
@@ -79,6 +97,16 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
                               Object entity,
                               Relationship relationship,
                               RequestScope scope) {
+        if (KeysetPagination.isKeyset(relationship.getProjection().getPagination())) {
+            KeysetPagination keyset = new KeysetPagination(relationship.getProjection(), scope,
+                    tx.getIdentifyingPaths(scope, relationship.getProjection()));
+            Object result = getRelation(relationTx, entity, relationship.copyOf()
+                    .projection(keyset.getSeekProjection(relationship.getProjection()))
+                    .build(), scope);
+
+            return result instanceof Iterable ? keyset.processPage((Iterable<Object>) result) : result;
+        }
+
         DataFetcher fetcher = (filterExpression, sorting, pagination, requestScope) ->
                 tx.getRelation(relationTx, entity, relationship.copyOf()
                         .projection(relationship.getProjection().copyOf()
@@ -97,6 +125,44 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         return fetchData(fetcher, Optional.of(entity), relationship.getProjection(), filterInMemory, scope);
     }
 
+    @Override
+    public <T, R> Map<T, R> getRelations(DataStoreTransaction relationTx,
+                                         List<T> entities,
+                                         Relationship relationship,
+                                         RequestScope scope) {
+
+        EntityProjection projection = relationship.getProjection();
+
+        //Cursors are recorded per page, so each owner is paged on its own.
+        if (KeysetPagination.isKeyset(projection.getPagination())) {
+            return DataStoreTransaction.super.getRelations(relationTx, entities, relationship, scope);
+        }
+
+        boolean filterInMemory = scope.getNewPersistentResources().size() > 0;
+
+        //Owners which push the same filter, sort, and pagination down to the store are fetched together.
+        Map<FetchPlan, List<T>> batches = new LinkedHashMap<>();
+        for (T entity : entities) {
+            FetchPlan plan = planFetch(Optional.of(entity), projection, filterInMemory, scope);
+            batches.computeIfAbsent(plan, (key) -> new ArrayList<>()).add(entity);
+        }
+
+        Map<T, R> results = new IdentityHashMap<>();
+        batches.forEach((plan, batch) -> {
+            Map<T, Object> loaded = tx.getRelations(relationTx, batch, relationship.copyOf()
+                    .projection(projection.copyOf()
+                            .filterExpression(plan.getDataStoreFilter().orElse(null))
+                            .sorting(plan.getDataStoreSort().orElse(null))
+                            .pagination(plan.getDataStorePagination().orElse(null))
+                            .build()
+                    ).build(), scope);
+
+            batch.forEach(entity ->
+                    results.put(entity, (R) processInMemory(plan, loaded.get(entity), projection, scope)));
+        });
+        return results;
+    }
+
     @Override
     public Object loadObject(EntityProjection projection,
                       Serializable id,
@@ -113,6 +179,12 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
     public Iterable<Object> loadObjects(EntityProjection projection,
                                         RequestScope scope) {
 
+        if (KeysetPagination.isKeyset(projection.getPagination())) {
+            KeysetPagination keyset = new KeysetPagination(projection, scope,
+                    tx.getIdentifyingPaths(scope, projection));
+            return keyset.processPage(loadObjects(keyset.getSeekProjection(projection), scope));
+        }
+
         DataFetcher fetcher = (filterExpression, sorting, pagination, requestScope) ->
                 tx.loadObjects(projection.copyOf()
                         .filterExpression(filterExpression.orElse(null))
@@ -213,27 +285,43 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
                                boolean filterInMemory,
                                RequestScope scope) {
 
-        Optional<FilterExpression> filterExpression = Optional.ofNullable(projection.getFilterExpression());
+        FetchPlan plan = planFetch(parent, projection, filterInMemory, scope);
+
+        Object result = fetcher.fetch(plan.getDataStoreFilter(), plan.getDataStoreSort(),
+                plan.getDataStorePagination(), scope);
+
+        return processInMemory(plan, result, projection, scope);
+    }
+
+    /**
+     * Decides which parts of the filter, sort, and pagination are pushed to the store and which are
+     * performed in memory.
+     */
+    private FetchPlan planFetch(Optional<Object> parent,
+                                EntityProjection projection,
+                                boolean filterInMemory,
+                                RequestScope scope) {
 
         Pair<Optional<FilterExpression>, Optional<FilterExpression>> expressionSplit = splitFilterExpression(
                 scope, parent, projection, filterInMemory);
 
-        Optional<FilterExpression> dataStoreFilter = expressionSplit.getLeft();
         Optional<FilterExpression> inMemoryFilter = expressionSplit.getRight();
 
         Pair<Optional<Sorting>, Optional<Sorting>> sortSplit = splitSorting(scope, parent,
                 projection, inMemoryFilter.isPresent());
 
-        Optional<Sorting> dataStoreSort = sortSplit.getLeft();
-        Optional<Sorting> inMemorySort = sortSplit.getRight();
-
         Pair<Optional<Pagination>, Optional<Pagination>> paginationSplit = splitPagination(scope, parent,
-                 projection, inMemoryFilter.isPresent(), inMemorySort.isPresent());
+                 projection, inMemoryFilter.isPresent(), sortSplit.getRight().isPresent());
 
-        Optional<Pagination> dataStorePagination = paginationSplit.getLeft();
-        Optional<Pagination> inMemoryPagination = paginationSplit.getRight();
+        return new FetchPlan(
+                expressionSplit.getLeft(), sortSplit.getLeft(), paginationSplit.getLeft(),
+                inMemoryFilter, sortSplit.getRight(), paginationSplit.getRight());
+    }
 
-        Object result = fetcher.fetch(dataStoreFilter, dataStoreSort, dataStorePagination, scope);
+    private Object processInMemory(FetchPlan plan,
+                                   Object result,
+                                   EntityProjection projection,
+                                   RequestScope scope) {
 
         if (! (result instanceof Iterable)) {
             return result;
@@ -241,19 +329,18 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
 
         Iterable<Object> loadedRecords = (Iterable<Object>) result;
 
-        if (inMemoryFilter.isPresent()) {
-            loadedRecords = filterLoadedData(loadedRecords, filterExpression, scope);
+        if (plan.getInMemoryFilter().isPresent()) {
+            loadedRecords = filterLoadedData(loadedRecords,
+                    Optional.ofNullable(projection.getFilterExpression()), scope);
         }
 
-
         return sortAndPaginateLoadedData(
                     loadedRecords,
-                    inMemorySort,
-                    inMemoryPagination,
+                    plan.getInMemorySort(),
+                    plan.getInMemoryPagination(),
                     scope);
     }
 
-
     private Iterable<Object> sortAndPaginateLoadedData(Iterable<Object> loadedRecords,
                                                          Optional<Sorting> sorting,
                                                          Optional<Pagination> pagination,
@@ -272,78 +359,136 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         if (sortRules.isEmpty() && ! pagination.isPresent()) {
             return loadedRecords;
         }
-        //We need an in memory copy to sort or paginate.
-        List<Object> results = StreamSupport.stream(loadedRecords.spliterator(), false).collect(Collectors.toList());
-
-        if (! sortRules.isEmpty()) {
-            results = sortInMemory(results, sortRules, scope);
-        }
 
-        if (pagination.isPresent()) {
-            results = paginateInMemory(results, pagination.get());
+        if (sortRules.isEmpty()) {
+            return paginateInMemory(loadedRecords, pagination.get());
         }
 
-        return results;
+        return sortInMemory(loadedRecords, sortRules, pagination, scope);
     }
 
-    private List<Object> paginateInMemory(List<Object> records, Pagination pagination) {
+    /**
+     * Copies only the requested page of records.  Records after the page are only read to count the page totals.
+     */
+    private List<Object> paginateInMemory(Iterable<Object> records, Pagination pagination) {
         int offset = pagination.getOffset();
         int limit = pagination.getLimit();
-        if (offset < 0 || offset >= records.size()) {
+        if (offset < 0) {
             return Collections.emptyList();
         }
 
-        int endIdx = offset + limit;
-        if (endIdx > records.size()) {
-            endIdx = records.size();
+        List<Object> page = new ArrayList<>();
+        long total = 0;
+        Iterator<Object> iterator = records.iterator();
+        while (iterator.hasNext()) {
+            if (total >= (long) offset + limit && ! pagination.returnPageTotals()) {
+                break;
+            }
+
+            Object record = iterator.next();
+            if (total >= offset && page.size() < limit) {
+                page.add(record);
+            }
+            total++;
         }
 
         if (pagination.returnPageTotals()) {
-            pagination.setPageTotals((long) records.size());
+            pagination.setPageTotals(total);
         }
-        return records.subList(offset, endIdx);
+        return page;
     }
 
-    private List<Object> sortInMemory(List<Object> records,
-                                        Map<Path, Sorting.SortOrder> sortRules,
-                                        RequestScope scope) {
-        //Build a comparator that handles multiple comparison rules.
-        Comparator<Object> noSort = (left, right) -> 0;
-
-        Comparator<Object> comp = sortRules.entrySet().stream()
-            .map(entry -> getComparator(entry.getKey(), entry.getValue(), scope))
-            .reduce(noSort, (comparator1, comparator2) -> (left, right) -> {
-                int comparison = comparator1.compare(left, right);
-                if (comparison == 0) {
-                    return comparator2.compare(left, right);
+    /**
+     * Sorts records by extracting their sort keys once per record.  When paginated, only the first offset + limit
+     * records are kept (in a bounded heap) while the rest are streamed past.
+     */
+    private List<Object> sortInMemory(Iterable<Object> records,
+                                      Map<Path, Sorting.SortOrder> sortRules,
+                                      Optional<Pagination> pagination,
+                                      RequestScope scope) {
+        List<Path> paths = new ArrayList<>(sortRules.keySet());
+        Comparator<SortKey> comp = getComparator(new ArrayList<>(sortRules.values()));
+
+        int offset = pagination.map(Pagination::getOffset).orElse(0);
+        if (offset < 0) {
+            return Collections.emptyList();
+        }
+
+        List<SortKey> sorted = new ArrayList<>();
+        long total = 0;
+        if (! pagination.isPresent()) {
+            for (Object record : records) {
+                sorted.add(new SortKey(record, getSortValues(record, paths, scope), total++));
+            }
+        } else {
+            long bound = (long) offset + pagination.get().getLimit();
+
+            //The heap keeps the worst of the retained records on top so that it can be evicted.
+            PriorityQueue<SortKey> heap = new PriorityQueue<>(comp.reversed());
+            for (Object record : records) {
+                SortKey key = new SortKey(record, getSortValues(record, paths, scope), total++);
+                if (heap.size() < bound) {
+                    heap.add(key);
+                } else if (! heap.isEmpty() && comp.compare(key, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(key);
                 }
-                return comparison;
-            });
+            }
+            sorted.addAll(heap);
+        }
+        sorted.sort(comp);
+
+        if (pagination.isPresent() && pagination.get().returnPageTotals()) {
+            pagination.get().setPageTotals(total);
+        }
 
-        records.sort(comp);
-        return records;
+        return sorted.stream()
+                .skip(offset)
+                .map(SortKey::getRecord)
+                .collect(Collectors.toList());
     }
 
-    private Comparator<Object> getComparator(Path path, Sorting.SortOrder order, RequestScope requestScope) {
-        return (left, right) -> {
-            Object leftCompare = left;
-            Object rightCompare = right;
+    private static Object[] getSortValues(Object record, List<Path> paths, RequestScope requestScope) {
+        Object[] values = new Object[paths.size()];
+        for (int idx = 0; idx < values.length; idx++) {
+            Object value = record;
 
             // Drill down into path to find value for comparison
-            for (Path.PathElement pathElement : path.getPathElements()) {
-                leftCompare = (leftCompare == null ? null
-                        : PersistentResource.getValue(leftCompare, pathElement.getFieldName(), requestScope));
-                rightCompare = (rightCompare == null ? null
-                        : PersistentResource.getValue(rightCompare, pathElement.getFieldName(), requestScope));
+            for (Path.PathElement pathElement : paths.get(idx).getPathElements()) {
+                value = (value == null ? null
+                        : PersistentResource.getValue(value, pathElement.getFieldName(), requestScope));
             }
+            values[idx] = value;
+        }
+        return values;
+    }
 
-            if (order == Sorting.SortOrder.asc) {
-                return NULL_SAFE_COMPARE.compare(leftCompare, rightCompare);
+    private static Comparator<SortKey> getComparator(List<Sorting.SortOrder> orders) {
+        return (left, right) -> {
+            for (int idx = 0; idx < orders.size(); idx++) {
+                int comparison = (orders.get(idx) == Sorting.SortOrder.asc)
+                        ? NULL_SAFE_COMPARE.compare(left.getValues()[idx], right.getValues()[idx])
+                        : NULL_SAFE_COMPARE.compare(right.getValues()[idx], left.getValues()[idx]);
+                if (comparison != 0) {
+                    return comparison;
+                }
             }
-            return NULL_SAFE_COMPARE.compare(rightCompare, leftCompare);
+
+            //Records with equal keys keep the order they were loaded in.
+            return Long.compare(left.getSequence(), right.getSequence());
         };
     }
 
+    /**
+     * A record with the values it is sorted by.
+     */
+    @Value
+    private static class SortKey {
+        Object record;
+        Object[] values;
+        long sequence;
+    }
+
     /**
      * Splits a filter expression into two components:
      *  - a component that should be pushed down to the data store
@@ -458,6 +603,11 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
        tx.cancel(scope);
    }
 
+    @Override
+    public List<Path> getIdentifyingPaths(RequestScope scope, EntityProjection projection) {
+        return tx.getIdentifyingPaths(scope, projection);
+    }
+
     @Override
     public <T> T getProperty(String propertyName) {
         return tx.getProperty(propertyName);
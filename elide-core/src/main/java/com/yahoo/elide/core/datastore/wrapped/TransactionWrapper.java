@@ -6,6 +6,7 @@
 
 package com.yahoo.elide.core.datastore.wrapped;
 
+import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.request.Attribute;
@@ -16,6 +17,8 @@ import lombok.Data;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -44,6 +47,12 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         return tx.getRelation(relationTx, entity, relationship, scope);
     }
 
+    @Override
+    public <T, R> Map<T, R> getRelations(DataStoreTransaction relationTx, List<T> entities,
+                                         Relationship relationship, RequestScope scope) {
+        return tx.getRelations(relationTx, entities, relationship, scope);
+    }
+
     @Override
     public <T, R> void updateToManyRelation(DataStoreTransaction relationTx, T entity, String relationName,
                                      Set<R> newRelationships, Set<R> deletedRelationships,
@@ -83,6 +92,11 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         return tx.supportsPagination(scope, parent, projection);
     }
 
+    @Override
+    public List<Path> getIdentifyingPaths(RequestScope scope, EntityProjection projection) {
+        return tx.getIdentifyingPaths(scope, projection);
+    }
+
     @Override
     public <T> void save(T o, RequestScope requestScope) {
         tx.save(o, requestScope);
@@ -38,8 +38,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -107,10 +111,16 @@ public class EntityBinding {
     public final ConcurrentHashMap<String, String> relationshipToInverse = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, CascadeType[]> relationshipToCascadeTypes = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, AccessibleObject> fieldsToValues = new ConcurrentHashMap<>();
+    public final ConcurrentHashMap<String, FieldAccessor> fieldsToAccessors = new ConcurrentHashMap<>();
     public final MultiValuedMap<Triple<String, Operation, TransactionPhase>, LifeCycleHook> fieldTriggers =
             new HashSetValuedHashMap<>();
     public final MultiValuedMap<Pair<Operation, TransactionPhase>, LifeCycleHook> classTriggers =
             new HashSetValuedHashMap<>();
+
+    /* Index of the phases with hooks by operation and field (fieldTriggers) or by operation alone (classTriggers) */
+    private final Map<Operation, Map<String, Set<TransactionPhase>>> fieldTriggerPhases =
+            new EnumMap<>(Operation.class);
+    private final Map<Operation, Set<TransactionPhase>> classTriggerPhases = new EnumMap<>(Operation.class);
     public final ConcurrentHashMap<String, Type<?>> fieldsToTypes = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, String> aliasesToFields = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<Method, Boolean> requestScopeableMethods = new ConcurrentHashMap<>();
@@ -342,6 +352,7 @@ public class EntityBinding {
         idFieldName = fieldName;
 
         fieldsToValues.put(fieldName, fieldOrMethod);
+        bindAccessor(fieldOrMethod, fieldName, fieldType);
 
         if (idField != null && !fieldOrMethod.equals(idField)) {
             throw new DuplicateMappingException(type + " " + cls.getName() + ":" + fieldName);
@@ -448,6 +459,7 @@ public class EntityBinding {
         }
         fieldsToValues.put(fieldName, fieldOrMethod);
         fieldsToTypes.put(fieldName, fieldType);
+        bindAccessor(fieldOrMethod, fieldName, fieldType);
     }
 
     /**
@@ -464,6 +476,28 @@ public class EntityBinding {
         }
         fieldsToValues.put(fieldName, fieldOrMethod);
         fieldsToTypes.put(fieldName, fieldType);
+        bindAccessor(fieldOrMethod, fieldName, fieldType);
+    }
+
+    /**
+     * Build the accessor used to read and write a field.
+     *
+     * @param fieldOrMethod Field or method bound to the field name
+     * @param fieldName Field name
+     * @param fieldType Field type
+     */
+    private void bindAccessor(AccessibleObject fieldOrMethod, String fieldName, Type<?> fieldType) {
+        Method setter;
+        try {
+            setter = EntityDictionary.findMethod(entityClass, "set" + StringUtils.capitalize(fieldName), fieldType);
+        } catch (NoSuchMethodException e) {
+            setter = null;
+        }
+
+        boolean requestScopeable = fieldOrMethod instanceof Method
+                && isRequestScopeableMethod((Method) fieldOrMethod);
+
+        fieldsToAccessors.put(fieldName, FieldAccessor.of(fieldOrMethod, setter, fieldType, requestScopeable));
     }
 
     /**
@@ -564,6 +598,9 @@ public class EntityBinding {
                 Triple.of(fieldOrMethodName, operation, phase);
 
         fieldTriggers.put(key, hook);
+        fieldTriggerPhases.computeIfAbsent(operation, op -> new HashMap<>())
+                .computeIfAbsent(fieldOrMethodName, field -> EnumSet.noneOf(TransactionPhase.class))
+                .add(phase);
     }
 
     private void bindTrigger(LifeCycleHookBinding binding,
@@ -580,6 +617,7 @@ public class EntityBinding {
                 Pair.of(operation, phase);
 
         classTriggers.put(key, hook);
+        classTriggerPhases.computeIfAbsent(operation, op -> EnumSet.noneOf(TransactionPhase.class)).add(phase);
     }
 
     private void bindTrigger(LifeCycleHookBinding binding) {
@@ -611,6 +649,33 @@ public class EntityBinding {
         return (bindings == null ? Collections.emptyList() : bindings);
     }
 
+    /**
+     * Whether any hook is bound to an operation on this entity.
+     *
+     * @param op the operation
+     * @return true if an event of the operation can trigger a hook
+     */
+    public boolean hasTriggers(Operation op) {
+        return fieldTriggerPhases.containsKey(op) || classTriggerPhases.containsKey(op);
+    }
+
+    /**
+     * Whether an event triggers any hook in a phase.  Matches the hooks {@link #getTriggers(Operation,
+     * TransactionPhase, String)} returns plus, for field events, the hooks bound to every field.
+     *
+     * @param op the operation
+     * @param phase the transaction phase
+     * @param fieldName the field of the event or {@link PersistentResource#CLASS_NO_FIELD}
+     * @return true if the event triggers a hook in the phase
+     */
+    public boolean hasTriggers(Operation op, TransactionPhase phase, String fieldName) {
+        if (!fieldName.isEmpty() && classTriggerPhases.getOrDefault(op, Collections.emptySet()).contains(phase)) {
+            return true;
+        }
+        Set<TransactionPhase> phases = fieldTriggerPhases.getOrDefault(op, Collections.emptyMap()).get(fieldName);
+        return phases != null && phases.contains(phase);
+    }
+
     /**
      * Cache placeholder for no annotation.
      */
@@ -42,6 +42,11 @@ import com.yahoo.elide.core.security.checks.UserCheck;
 import com.yahoo.elide.core.security.checks.prefab.Collections.AppendOnly;
 import com.yahoo.elide.core.security.checks.prefab.Collections.RemoveOnly;
 import com.yahoo.elide.core.security.checks.prefab.Role;
+import com.yahoo.elide.core.security.permissions.expressions.CheckExpression;
+import com.yahoo.elide.core.security.permissions.expressions.Expression;
+import com.yahoo.elide.core.security.visitors.PermissionExpressionBindingVisitor;
+import com.yahoo.elide.core.security.visitors.PermissionExpressionNormalizationVisitor;
+import com.yahoo.elide.core.security.visitors.PermissionExpressionVisitor;
 import com.yahoo.elide.core.type.AccessibleObject;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.type.Dynamic;
@@ -120,6 +125,7 @@ public class EntityDictionary {
     @Getter
     protected final ConcurrentHashMap<Type<?>, Function<RequestScope, PermissionExecutor>> entityPermissionExecutor =
             new ConcurrentHashMap<>();
+    protected final ConcurrentHashMap<ParseTree, Expression> permissionTemplates = new ConcurrentHashMap<>();
     protected final CopyOnWriteArrayList<Type<?>> bindEntityRoots = new CopyOnWriteArrayList<>();
     protected final ConcurrentHashMap<Type<?>, List<Type<?>>> subclassingEntities = new ConcurrentHashMap<>();
     protected final BiMap<String, Class<? extends Check>> checkNames;
@@ -369,6 +375,21 @@ public class EntityDictionary {
         return binding.entityPermissions.getFieldChecksForPermission(field, annotationClass);
     }
 
+    /**
+     * Returns the normalized permission expression of a permission definition.  The expression is built once and
+     * shared by all requests.  Its checks must be bound to a request before it is evaluated
+     * (see {@link PermissionExpressionBindingVisitor}).
+     *
+     * @param permissions the permission definition
+     * @return the unbound permission expression
+     */
+    public Expression getPermissionExpressionTemplate(ParseTree permissions) {
+        return permissionTemplates.computeIfAbsent(permissions, parseTree -> parseTree
+                .accept(new PermissionExpressionVisitor(this,
+                        check -> new CheckExpression(check, null, null, null, null)))
+                .accept(new PermissionExpressionNormalizationVisitor()));
+    }
+
     /**
      * Returns the check class mapped to a particular identifier.
      *
@@ -1068,6 +1089,15 @@ public class EntityDictionary {
         entityPermissionExecutor.put(lookupBoundClass(clz), permissionExecutorFunction);
     }
 
+    /**
+     * Returns the function bound to create the PermissionExecutor of a model.
+     * @param boundType - the bound model type.
+     * @return the bound function or null if the model uses the default PermissionExecutor.
+     */
+    public Function<RequestScope, PermissionExecutor> getPermissionExecutorFunction(Type<?> boundType) {
+        return boundType == null ? null : entityPermissionExecutor.get(boundType);
+    }
+
     /**
      * Create a PermissionExecutor from list of bound permissionExecutorGenerator.
      * @param scope - request scope to generate permission executor.
@@ -1152,6 +1182,30 @@ public class EntityDictionary {
         return getEntityBinding(cls).getTriggers(op, phase);
     }
 
+    /**
+     * Whether any hook is bound to an operation on an entity.
+     *
+     * @param cls the entity type
+     * @param op the operation
+     * @return true if an event of the operation can trigger a hook
+     */
+    public boolean hasTriggers(Type<?> cls, Operation op) {
+        return getEntityBinding(cls).hasTriggers(op);
+    }
+
+    /**
+     * Whether an event on an entity triggers any hook in a phase.
+     *
+     * @param cls the entity type
+     * @param op the operation
+     * @param phase the transaction phase
+     * @param fieldName the field of the event or {@link PersistentResource#CLASS_NO_FIELD}
+     * @return true if the event triggers a hook in the phase
+     */
+    public boolean hasTriggers(Type<?> cls, Operation op, TransactionPhase phase, String fieldName) {
+        return getEntityBinding(cls).hasTriggers(op, phase, fieldName);
+    }
+
     /**
      * Return a single annotation from field or accessor method.
      *
@@ -1680,24 +1734,20 @@ public class EntityDictionary {
      * @return the value
      */
     public Object getValue(Object target, String fieldName, RequestScope scope) {
-        AccessibleObject accessor = getAccessibleObject(target, fieldName);
+        Type<?> targetClass = getType(target);
+        FieldAccessor accessor = getEntityBinding(targetClass).fieldsToAccessors.get(fieldName);
+        if (accessor == null) {
+            throw new InvalidAttributeException(fieldName, getJsonAliasFor(targetClass));
+        }
+
         try {
-            if (accessor instanceof Method) {
-                // Pass RequestScope into @Computed fields if requested
-                if (isMethodRequestScopeable(target, (Method) accessor)) {
-                    return ((Method) accessor).invoke(target, scope);
-                }
-                return ((Method) accessor).invoke(target);
-            }
-            if (accessor instanceof Field) {
-                return ((Field) accessor).get(target);
-            }
+            // Request scope is passed into @Computed fields if requested
+            return accessor.getValue(target, scope);
         } catch (IllegalAccessException e) {
-            throw new InvalidAttributeException(fieldName, getJsonAliasFor(getType(target)), e);
-        } catch (InvocationTargetException e) {
-            throw handleInvocationTargetException(e);
+            throw new InvalidAttributeException(fieldName, getJsonAliasFor(targetClass), e);
+        } catch (Throwable e) {
+            throw handleTargetException(e);
         }
-        throw new InvalidAttributeException(fieldName, getJsonAliasFor(getType(target)));
     }
 
     /**
@@ -1717,6 +1767,29 @@ public class EntityDictionary {
      */
     public void setValue(Object target, String fieldName, Object value) {
         Type<?> targetClass = getType(target);
+
+        String realName = getNameFromAlias(target, fieldName);
+        String fieldAlias = (realName != null) ? realName : fieldName;
+        FieldAccessor accessor = getEntityBinding(targetClass).fieldsToAccessors.get(fieldAlias);
+        if (accessor != null && accessor.isWritable()) {
+            Object coerced = coerce(target, value, fieldAlias, accessor.getSetterType());
+            try {
+                accessor.setValue(target, coerced);
+            } catch (IllegalAccessException e) {
+                throw new InvalidAttributeException(fieldAlias, getJsonAliasFor(targetClass), e);
+            } catch (Throwable e) {
+                throw handleTargetException(e);
+            }
+            return;
+        }
+
+        setValueReflectively(target, targetClass, fieldName, value);
+    }
+
+    /**
+     * Sets a field that has no bound accessor by looking up its setter method or field.
+     */
+    private void setValueReflectively(Object target, Type<?> targetClass, String fieldName, Object value) {
         String targetType = getJsonAliasFor(targetClass);
 
         String fieldAlias = fieldName;
@@ -1761,6 +1834,20 @@ public class EntityDictionary {
         return new InternalServerErrorException("Unexpected exception caught", e);
     }
 
+    /**
+     * Handle an exception thrown by a model getter or setter.
+     *
+     * @param e Exception thrown while accessing an object's field
+     * @return Equivalent runtime exception
+     */
+    private static RuntimeException handleTargetException(Throwable e) {
+        if (e instanceof HttpStatusException || e instanceof WebApplicationException) {
+            return (RuntimeException) e;
+        }
+        log.error("Caught an unexpected exception (rethrowing as internal server error)", e);
+        return new InternalServerErrorException("Unexpected exception caught", e);
+    }
+
     /**
      * Coerce provided value into expected class type.
      *
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.dictionary;
+
+import com.yahoo.elide.core.type.AccessibleObject;
+import com.yahoo.elide.core.type.Field;
+import com.yahoo.elide.core.type.FieldType;
+import com.yahoo.elide.core.type.Method;
+import com.yahoo.elide.core.type.MethodType;
+import com.yahoo.elide.core.type.Type;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Reads and writes a single bound field of a model.
+ * <p>
+ * Accessors are built once when a model is bound so that reading or writing a field does not look up or
+ * reflectively invoke a member per call.  Getter and setter methods of Java classes are compiled into lambdas with
+ * {@link LambdaMetafactory}.  Java fields are read and written through {@link MethodHandle}s.  Members of other
+ * {@link Type} implementations (like dynamic models) are invoked through the Elide type API.
+ */
+@Slf4j
+public class FieldAccessor {
+
+    /**
+     * Reads a field value.
+     */
+    @FunctionalInterface
+    private interface Reader {
+        Object get(Object target, Object scope) throws Throwable;
+    }
+
+    /**
+     * Writes a field value.
+     */
+    @FunctionalInterface
+    private interface Writer {
+        void set(Object target, Object value) throws Throwable;
+    }
+
+    private static final java.lang.invoke.MethodType GETTER_TYPE =
+            java.lang.invoke.MethodType.methodType(Object.class, Object.class);
+    private static final java.lang.invoke.MethodType SETTER_TYPE =
+            java.lang.invoke.MethodType.methodType(void.class, Object.class, Object.class);
+    private static final java.lang.invoke.MethodType SCOPED_GETTER_TYPE =
+            java.lang.invoke.MethodType.methodType(Object.class, Object.class, Object.class);
+
+    private final Reader getter;
+    private final Writer setter;
+
+    /**
+     * The type values must be coerced to before they are written.
+     */
+    @Getter
+    private final Type<?> setterType;
+
+    private FieldAccessor(Reader getter, Writer setter, Type<?> setterType) {
+        this.getter = getter;
+        this.setter = setter;
+        this.setterType = setterType;
+    }
+
+    /**
+     * Builds the accessor for a bound field.
+     * @param fieldOrMethod The field or getter method bound to the field name.
+     * @param setterMethod The setter method of the field or null if it has none.
+     * @param setterType The parameter type of the setter method.
+     * @param requestScopeable Whether the getter method takes the request scope as its only argument.
+     * @return The accessor.
+     */
+    public static FieldAccessor of(AccessibleObject fieldOrMethod, Method setterMethod, Type<?> setterType,
+                                   boolean requestScopeable) {
+        Reader getter = buildGetter(fieldOrMethod, requestScopeable);
+
+        if (setterMethod != null) {
+            return new FieldAccessor(getter, buildSetter(setterMethod), setterType);
+        }
+        if (fieldOrMethod instanceof Field) {
+            Field field = (Field) fieldOrMethod;
+            return new FieldAccessor(getter, buildSetter(field), field.getType());
+        }
+        return new FieldAccessor(getter, null, null);
+    }
+
+    /**
+     * Reads the field.
+     * @param target The model instance.
+     * @param scope The request scope passed to request scopeable computed getters.
+     * @return The field value.
+     * @throws Throwable Anything thrown by the getter.
+     */
+    public Object getValue(Object target, Object scope) throws Throwable {
+        return getter.get(target, scope);
+    }
+
+    /**
+     * Whether the field has a setter method or is a Java field.
+     * @return true if the field can be written.
+     */
+    public boolean isWritable() {
+        return setter != null;
+    }
+
+    /**
+     * Writes the field.
+     * @param target The model instance.
+     * @param value The value already coerced to the setter type.
+     * @throws Throwable Anything thrown by the setter.
+     */
+    public void setValue(Object target, Object value) throws Throwable {
+        setter.set(target, value);
+    }
+
+    private static Reader buildGetter(AccessibleObject fieldOrMethod, boolean requestScopeable) {
+        if (fieldOrMethod instanceof MethodType) {
+            java.lang.reflect.Method method = (java.lang.reflect.Method) ((MethodType) fieldOrMethod)
+                    .getJavaExecutable();
+            try {
+                MethodHandles.Lookup lookup = lookupIn(method.getDeclaringClass());
+                MethodHandle handle = lookup.unreflect(method);
+                if (requestScopeable) {
+                    BiFunction<Object, Object, Object> function = (BiFunction<Object, Object, Object>) metafactory(
+                            lookup, handle, "apply", BiFunction.class, SCOPED_GETTER_TYPE);
+                    return function::apply;
+                }
+                Function<Object, Object> function = (Function<Object, Object>) metafactory(
+                        lookup, handle, "apply", Function.class, GETTER_TYPE);
+                return (target, scope) -> function.apply(target);
+            } catch (Throwable e) {
+                log.debug("Unable to compile getter {}, falling back to reflection", method, e);
+            }
+        } else if (fieldOrMethod instanceof FieldType) {
+            java.lang.reflect.Field field = ((FieldType) fieldOrMethod).getJavaField();
+            try {
+                MethodHandle handle = lookupIn(field.getDeclaringClass()).unreflectGetter(field).asType(GETTER_TYPE);
+                return (target, scope) -> handle.invokeExact(target);
+            } catch (Throwable e) {
+                log.debug("Unable to build handle for field {}, falling back to reflection", field, e);
+            }
+        }
+
+        if (fieldOrMethod instanceof Method) {
+            Method method = (Method) fieldOrMethod;
+            return requestScopeable
+                    ? (target, scope) -> invoke(method, target, scope)
+                    : (target, scope) -> invoke(method, target);
+        }
+        if (fieldOrMethod instanceof Field) {
+            Field field = (Field) fieldOrMethod;
+            return (target, scope) -> field.get(target);
+        }
+        return null;
+    }
+
+    private static Writer buildSetter(Method setterMethod) {
+        if (setterMethod instanceof MethodType) {
+            java.lang.reflect.Method method = (java.lang.reflect.Method) ((MethodType) setterMethod)
+                    .getJavaExecutable();
+            try {
+                MethodHandles.Lookup lookup = lookupIn(method.getDeclaringClass());
+                BiConsumer<Object, Object> consumer = (BiConsumer<Object, Object>) metafactory(
+                        lookup, lookup.unreflect(method), "accept", BiConsumer.class, SETTER_TYPE);
+                return consumer::accept;
+            } catch (Throwable e) {
+                log.debug("Unable to compile setter {}, falling back to reflection", method, e);
+            }
+        }
+        return (target, value) -> invoke(setterMethod, target, value);
+    }
+
+    private static Writer buildSetter(Field field) {
+        if (field instanceof FieldType) {
+            java.lang.reflect.Field javaField = ((FieldType) field).getJavaField();
+            if (! Modifier.isFinal(javaField.getModifiers())) {
+                try {
+                    MethodHandle handle = lookupIn(javaField.getDeclaringClass()).unreflectSetter(javaField)
+                            .asType(SETTER_TYPE);
+                    return (target, value) -> {
+                        handle.invokeExact(target, value);
+                    };
+                } catch (Throwable e) {
+                    log.debug("Unable to build handle for field {}, falling back to reflection", javaField, e);
+                }
+            }
+        }
+        return field::set;
+    }
+
+    /**
+     * Spins a lambda implementing a functional interface on top of a direct method handle.
+     */
+    private static Object metafactory(MethodHandles.Lookup lookup, MethodHandle handle, String name,
+                                      Class<?> functionalInterface,
+                                      java.lang.invoke.MethodType erasedType) throws Throwable {
+        //Box primitives and drop setter return values the way a hand written lambda would.
+        java.lang.invoke.MethodType instantiatedType = handle.type().wrap();
+        if (erasedType.returnType() == void.class) {
+            instantiatedType = instantiatedType.changeReturnType(void.class);
+        }
+
+        CallSite site = LambdaMetafactory.metafactory(lookup, name,
+                java.lang.invoke.MethodType.methodType(functionalInterface), erasedType, handle, instantiatedType);
+        return site.getTarget().invoke();
+    }
+
+    private static MethodHandles.Lookup lookupIn(Class<?> cls) throws IllegalAccessException {
+        //Lambdas are defined next to the model so that they are visible to its class loader.
+        if (! cls.getModule().isNamed()) {
+            return MethodHandles.privateLookupIn(cls, MethodHandles.lookup());
+        }
+
+        //Members of classes in named modules (like the JDK) are only reachable if they are public.
+        return MethodHandles.lookup();
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
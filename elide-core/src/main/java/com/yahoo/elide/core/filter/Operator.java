@@ -13,16 +13,22 @@ import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.InvalidOperatorNegationException;
 import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import org.apache.commons.collections4.CollectionUtils;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -51,14 +57,14 @@ public enum Operator {
     NOT("not", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(fieldPath, values, requestScope).test(entity);
+            return Operator.<T>in(fieldPath, values, requestScope).negate();
         }
     },
 
     NOT_INSENSITIVE("noti", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(fieldPath, values, requestScope, FOLD_CASE).test(entity);
+            return Operator.<T>in(fieldPath, values, requestScope, FOLD_CASE).negate();
         }
     },
 
@@ -114,7 +120,7 @@ public enum Operator {
     NOTNULL("notnull", false) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (val) -> !isNull(fieldPath, requestScope).test(val);
+            return Operator.<T>isNull(fieldPath, requestScope).negate();
         }
     },
 
@@ -171,7 +177,7 @@ public enum Operator {
     NOTEMPTY("notempty", false) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (entity) -> !isEmpty(fieldPath, requestScope).test(entity);
+            return Operator.<T>isEmpty(fieldPath, requestScope).negate();
         }
     },
 
@@ -185,19 +191,19 @@ public enum Operator {
     HASNOMEMBER("hasnomember", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> !hasMember(fieldPath, values, requestScope).test(entity);
+            return Operator.<T>hasMember(fieldPath, values, requestScope).negate();
         }
     },
     BETWEEN("between", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> between(fieldPath, values, requestScope).test(entity);
+            return between(fieldPath, values, requestScope);
         }
     },
     NOTBETWEEN("notbetween", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> !between(fieldPath, values, requestScope).test(entity);
+            return Operator.<T>between(fieldPath, values, requestScope).negate();
         }
     };
 
@@ -249,95 +255,76 @@ public enum Operator {
     //
     // Predicate generation
     //
+    // Predicates are built once per filter and then tested against many entities.  Filter values are coerced (and
+    // case folded) the first time a predicate is tested so that per entity work is limited to reading the field.
+    //
 
     //
     // In with strict equality
     private static <T> Predicate<T> in(Path fieldPath, List<Object> values, RequestScope requestScope) {
-        return (T entity) -> {
-            BiPredicate predicate = (a, b) -> a.equals(b);
+        Supplier<Set<Object>> valueSet = Suppliers.memoize(() -> new HashSet<>(coerceValues(fieldPath, values)));
 
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return (T entity) -> evaluate(entity, fieldPath, value -> valueSet.get().contains(value), requestScope);
     }
 
     //
     // String-like In with optional transformation
     private static <T> Predicate<T> in(Path fieldPath, List<Object> values,
             RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-
-            BiPredicate predicate = (a, b) -> {
-                if (!a.getClass().isAssignableFrom(String.class)) {
-                    throw new IllegalStateException("Cannot case insensitive compare non-string values");
-                }
-
-                String lhs = transform.apply((String) a);
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
+        Supplier<Set<String>> valueSet = Suppliers.memoize(() -> coerceValues(fieldPath, values).stream()
+                .map(value -> CoerceUtil.coerce(value, String.class))
+                .map(value -> value == null ? null : transform.apply(value))
+                .collect(Collectors.toCollection(HashSet::new)));
 
-                return lhs.equals(rhs);
-            };
+        return (T entity) -> evaluate(entity, fieldPath, value -> {
+            if (valueSet.get().isEmpty()) {
+                return false;
+            }
+            if (!value.getClass().isAssignableFrom(String.class)) {
+                throw new IllegalStateException("Cannot case insensitive compare non-string values");
+            }
 
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+            return valueSet.get().contains(transform.apply((String) value));
+        }, requestScope);
     }
 
     //
     // String-like prefix matching with optional transformation
     private static <T> Predicate<T> prefix(Path fieldPath, List<Object> values,
             RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("PREFIX can only take one argument");
-            }
-
-            BiPredicate predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && lhs.startsWith(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return matches("PREFIX", fieldPath, values, requestScope, transform, String::startsWith);
     }
 
     //
     // String-like postfix matching with optional transformation
     private static <T> Predicate<T> postfix(Path fieldPath, List<Object> values,
             RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("POSTFIX can only take one argument");
-            }
-
-            BiPredicate predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && lhs.endsWith(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return matches("POSTFIX", fieldPath, values, requestScope, transform, String::endsWith);
     }
 
     //
     // String-like infix matching with optional transformation
     private static <T> Predicate<T> infix(Path fieldPath, List<Object> values,
             RequestScope requestScope, UnaryOperator<String> transform) {
+        return matches("INFIX", fieldPath, values, requestScope, transform, String::contains);
+    }
+
+    private static <T> Predicate<T> matches(String operatorName, Path fieldPath, List<Object> values,
+            RequestScope requestScope, UnaryOperator<String> transform, BiPredicate<String, String> matcher) {
+        Supplier<String> rhs = Suppliers.memoize(() -> {
+            String value = CoerceUtil.coerce(coerceValues(fieldPath, values).get(0), String.class);
+            return value == null ? null : transform.apply(value);
+        });
+
         return (T entity) -> {
             if (values.size() != 1) {
-                throw new BadRequestException("INFIX can only take one argument");
+                throw new BadRequestException(operatorName + " can only take one argument");
             }
 
-            BiPredicate predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && lhs.contains(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
+            return evaluate(entity, fieldPath, value -> {
+                String lhs = CoerceUtil.coerce(value, String.class);
+                return lhs != null && rhs.get() != null && matcher.test(transform.apply(lhs), rhs.get());
+            }, requestScope);
         };
     }
 
@@ -364,19 +351,22 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> between(Path fieldPath, List<Object> values, RequestScope requestScope) {
+        Function<Class<?>, List<Comparable>> testValues = comparableValues(values);
+
         return (T entity) -> {
             if (values.size() != 2) {
                 throw new BadRequestException("Between operator expects exactly 2 values");
             }
             Object fieldVal = getFieldValue(entity, fieldPath, requestScope);
 
-            if (fieldVal instanceof Collection) {
+            if (fieldVal == null || fieldVal instanceof Collection) {
                 return false;
             }
 
-            return fieldVal != null
-                    && compare(fieldVal, values.get(0)) >= 0
-                    && compare(fieldVal, values.get(1)) <= 0;
+            List<Comparable> bounds = testValues.apply(fieldVal.getClass());
+            Comparable fieldComp = CoerceUtil.coerce(fieldVal, Comparable.class);
+            return fieldComp.compareTo(bounds.get(0)) >= 0
+                    && fieldComp.compareTo(bounds.get(1)) <= 0;
         };
     }
 
@@ -404,20 +394,21 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> hasMember(Path fieldPath, List<Object> values, RequestScope requestScope) {
+        Supplier<Object> member = Suppliers.memoize(() -> fieldPath.lastElement()
+                .map(last -> CoerceUtil.coerce(values.get(0), last.getFieldType()))
+                .orElseGet(() -> CoerceUtil.coerce(values.get(0), String.class)));
+
         return (T entity) -> {
             if (values.size() != 1) {
                 throw new BadRequestException("HasMember can only take one argument");
             }
             Object val = getFieldValue(entity, fieldPath, requestScope);
-            Object filterStr = fieldPath.lastElement()
-                    .map(last -> CoerceUtil.coerce(values.get(0), last.getFieldType()))
-                    .orElseGet(() -> CoerceUtil.coerce(values.get(0), String.class));
 
             if (val instanceof Collection<?>) {
-                return ((Collection<?>) val).contains(filterStr);
+                return ((Collection<?>) val).contains(member.get());
             }
             if (val instanceof Map<?, ?>) {
-                return ((Map<?, ?>) val).containsKey(filterStr);
+                return ((Map<?, ?>) val).containsKey(member.get());
             }
 
             return false;
@@ -463,6 +454,8 @@ public enum Operator {
 
     private static <T> Predicate<T> getComparator(Path fieldPath, List<Object> values,
             RequestScope requestScope, IntPredicate condition) {
+        Function<Class<?>, List<Comparable>> testValues = comparableValues(values);
+
         return (T entity) -> {
             if (CollectionUtils.isEmpty(values)) {
                 throw new BadRequestException("No value to compare");
@@ -473,41 +466,61 @@ public enum Operator {
                 return ((Collection) fieldVal).stream()
                         .anyMatch(fieldValueElement ->
                             fieldValueElement != null
-                            && values.stream()
-                            .anyMatch(testVal -> condition.test(compare(fieldValueElement, testVal))));
+                            && compareAny(fieldValueElement, testValues, condition));
             }
 
-            return fieldVal != null
-                    && values.stream()
-                    .anyMatch(testVal -> condition.test(compare(fieldVal, testVal)));
+            return fieldVal != null && compareAny(fieldVal, testValues, condition);
         };
 
     }
 
-    private static int compare(Object fieldValue, Object rawTestValue) {
-        Object testValue = CoerceUtil.coerce(rawTestValue, fieldValue.getClass());
-        Comparable testComp = CoerceUtil.coerce(testValue, Comparable.class);
+    private static boolean compareAny(Object fieldValue, Function<Class<?>, List<Comparable>> testValues,
+                                      IntPredicate condition) {
         Comparable fieldComp = CoerceUtil.coerce(fieldValue, Comparable.class);
 
-        return fieldComp.compareTo(testComp);
+        for (Comparable testComp : testValues.apply(fieldValue.getClass())) {
+            if (condition.test(fieldComp.compareTo(testComp))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Test values are coerced to the class of the field value they are compared with.  The coerced values are
+     * cached by that class (which rarely varies between the entities a filter is tested against).
+     */
+    private static Function<Class<?>, List<Comparable>> comparableValues(List<Object> values) {
+        Map<Class<?>, List<Comparable>> coerced = new ConcurrentHashMap<>();
+
+        return fieldClass -> coerced.computeIfAbsent(fieldClass, key -> values.stream()
+                .map(value -> CoerceUtil.coerce(CoerceUtil.coerce(value, key), Comparable.class))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Coerces filter values to the type of the filtered field.
+     */
+    private static List<Object> coerceValues(Path fieldPath, List<Object> values) {
+        Type<?> valueClass = fieldPath.lastElement().get().getFieldType();
+
+        return values.stream()
+                .map(value -> valueClass == null ? value : CoerceUtil.coerce(value, valueClass))
+                .collect(Collectors.toList());
     }
 
-    private static boolean evaluate(Object entity, Path fieldPath, List<Object> values,
-                             BiPredicate predicate, RequestScope requestScope) {
+    private static boolean evaluate(Object entity, Path fieldPath, Predicate<Object> matches,
+                                    RequestScope requestScope) {
         Type<?> valueClass = fieldPath.lastElement().get().getFieldType();
 
         Object leftHandSide = getFieldValue(entity, fieldPath, requestScope);
 
         if (leftHandSide instanceof Collection && !valueClass.isAssignableFrom(COLLECTION_TYPE)) {
-            return ((Collection) leftHandSide).stream()
-                    .anyMatch(leftHandSideElement ->
-                        values.stream()
-                            .map(value -> CoerceUtil.coerce(value, valueClass))
-                            .anyMatch(value -> predicate.test(leftHandSideElement, value)));
+            return ((Collection<?>) leftHandSide).stream()
+                    .anyMatch(leftHandSideElement -> leftHandSideElement != null
+                            && matches.test(leftHandSideElement));
         }
-        return leftHandSide != null && values.stream()
-                .map(value -> valueClass == null ? value : CoerceUtil.coerce(value, valueClass))
-                .anyMatch(value -> predicate.test(leftHandSide, value));
+        return leftHandSide != null && matches.test(leftHandSide);
     }
 
     public Operator negate() {
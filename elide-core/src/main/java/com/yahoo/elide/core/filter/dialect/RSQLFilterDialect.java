@@ -36,6 +36,8 @@ import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.core.utils.coerce.CoerceUtil;
 import com.yahoo.elide.jsonapi.parser.JsonApiParser;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import org.apache.commons.collections4.CollectionUtils;
 import cz.jirutka.rsql.parser.RSQLParser;
@@ -96,8 +98,15 @@ public class RSQLFilterDialect implements FilterDialect, SubqueryFilterDialect,
                     .build();
 
 
+    public static final long MAXIMUM_CACHED_EXPRESSIONS = 1024;
+
     private final RSQLParser parser;
 
+    //RSQL syntax trees are immutable.  They are converted into filter expressions for each request.
+    private final Cache<String, Node> syntaxTrees = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_CACHED_EXPRESSIONS)
+            .build();
+
     @NonNull
     private final EntityDictionary dictionary;
     private final CaseSensitivityStrategy caseSensitivityStrategy;
@@ -270,7 +279,11 @@ public class RSQLFilterDialect implements FilterDialect, SubqueryFilterDialect,
                                                   boolean allowNestedToManyAssociations,
                                                   Set<Attribute> attributes) throws ParseException {
         try {
-            Node ast = parser.parse(expressionText);
+            Node ast = syntaxTrees.getIfPresent(expressionText);
+            if (ast == null) {
+                ast = parser.parse(expressionText);
+                syntaxTrees.put(expressionText, ast);
+            }
             RSQL2FilterExpressionVisitor visitor = new RSQL2FilterExpressionVisitor(allowNestedToManyAssociations,
                     coerceValues, attributes);
             return ast.accept(visitor, entityType);
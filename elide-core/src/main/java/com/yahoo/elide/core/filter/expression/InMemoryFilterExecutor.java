@@ -12,6 +12,9 @@ import java.util.function.Predicate;
 
 /**
  * Visitor for in memory filterExpressions.
+ * <p>
+ * Compiles a filter expression into a single predicate.  The predicate is built once and can be tested against any
+ * number of entities.
  */
 public class InMemoryFilterExecutor implements FilterExpressionVisitor<Predicate> {
     private final RequestScope requestScope;
@@ -29,19 +32,19 @@ public class InMemoryFilterExecutor implements FilterExpressionVisitor<Predicate
     public Predicate visitAndExpression(AndFilterExpression expression) {
         Predicate leftPredicate = expression.getLeft().accept(this);
         Predicate rightPredicate = expression.getRight().accept(this);
-        return t -> leftPredicate.and(rightPredicate).test(t);
+        return leftPredicate.and(rightPredicate);
     }
 
     @Override
     public Predicate visitOrExpression(OrFilterExpression expression) {
         Predicate leftPredicate = expression.getLeft().accept(this);
         Predicate rightPredicate = expression.getRight().accept(this);
-        return t -> leftPredicate.or(rightPredicate).test(t);
+        return leftPredicate.or(rightPredicate);
     }
 
     @Override
     public Predicate visitNotExpression(NotFilterExpression expression) {
         Predicate predicate = expression.getNegated().accept(this);
-        return t -> predicate.negate().test(t);
+        return predicate.negate();
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.filter.expression;
+
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+
+/**
+ * A Visitor which deep clones a filter expression, naming the parameters of each predicate after the field it
+ * filters and its position in the expression.
+ * <p>
+ * Predicates otherwise name their parameters after a hash that includes their values, so the same query with
+ * different filter values translates to different JPQL or SQL.  Expressions cloned by this visitor translate to the
+ * same text whenever they have the same shape, which lets the ORM, the JDBC driver and the database reuse their
+ * query plans.  A single visitor can clone several expressions that are translated into the same statement.
+ */
+public class ParameterNamingVisitor implements FilterExpressionVisitor<FilterExpression> {
+    private static final String UNDERSCORE = "_";
+    private static final String PERIOD = ".";
+
+    private int position = 0;
+
+    /**
+     * Clones a filter expression with positional parameter names.
+     * @param expression The expression to clone (possibly null).
+     * @return The clone or null if the expression is null.
+     */
+    public static FilterExpression nameParameters(FilterExpression expression) {
+        return expression == null ? null : expression.accept(new ParameterNamingVisitor());
+    }
+
+    @Override
+    public FilterExpression visitPredicate(FilterPredicate filterPredicate) {
+        return filterPredicate.withParameterName(
+                filterPredicate.getFieldPath().replace(PERIOD, UNDERSCORE) + UNDERSCORE + position++);
+    }
+
+    @Override
+    public FilterExpression visitAndExpression(AndFilterExpression expression) {
+        return new AndFilterExpression(
+                expression.getLeft().accept(this),
+                expression.getRight().accept(this));
+    }
+
+    @Override
+    public FilterExpression visitOrExpression(OrFilterExpression expression) {
+        return new OrFilterExpression(
+                expression.getLeft().accept(this),
+                expression.getRight().accept(this));
+    }
+
+    @Override
+    public FilterExpression visitNotExpression(NotFilterExpression expression) {
+        return new NotFilterExpression(expression.getNegated().accept(this));
+    }
+}
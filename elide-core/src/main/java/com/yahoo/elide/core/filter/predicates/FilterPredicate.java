@@ -47,6 +47,11 @@ public class FilterPredicate implements FilterExpression, Function<RequestScope,
     @Getter @NonNull private String fieldPath;
     @Getter @NonNull private Type fieldType;
 
+    /**
+     * The prefix of this predicate's parameter names or null if they are named after a hash of its values.
+     */
+    @Getter private String parameterName;
+
     public static boolean toManyInPath(EntityDictionary dictionary, Path path) {
         return path.getPathElements().stream()
                 .map(element -> dictionary.getRelationshipType(element.getType(), element.getFieldName()))
@@ -76,6 +81,7 @@ public class FilterPredicate implements FilterExpression, Function<RequestScope,
 
     public FilterPredicate(FilterPredicate copy) {
         this(copy.path, copy.operator, copy.values);
+        this.parameterName = copy.parameterName;
     }
 
     public FilterPredicate(Path path, Operator op, List<Object> values) {
@@ -98,9 +104,9 @@ public class FilterPredicate implements FilterExpression, Function<RequestScope,
      * @return the filter parameters for this predicate
      */
     public List<FilterParameter> getParameters() {
-        String baseName = String.format("%s_%s_",
-                getFieldPath().replace(PERIOD, UNDERSCORE),
-                Integer.toHexString(hashCode()));
+        String baseName = parameterName != null
+                ? parameterName + UNDERSCORE
+                : String.format("%s_%s_", getFieldPath().replace(PERIOD, UNDERSCORE), Integer.toHexString(hashCode()));
         return IntStream.range(0, values.size())
                 .mapToObj(idx -> new FilterParameter(String.format("%s%d", baseName, idx), values.get(idx)))
                 .collect(Collectors.toList());
@@ -115,7 +121,24 @@ public class FilterPredicate implements FilterExpression, Function<RequestScope,
      */
     public FilterPredicate scopedBy(PathElement scope) {
         List<PathElement> pathElements = Lists.asList(scope, path.getPathElements().toArray(ELEMENT_ARRAY));
-        return new FilterPredicate(new Path(pathElements), operator, values);
+        FilterPredicate scoped = new FilterPredicate(new Path(pathElements), operator, values);
+        scoped.parameterName = parameterName;
+        return scoped;
+    }
+
+    /**
+     * Create a copy of this filter whose parameters are named after a prefix instead of a hash of its values.
+     * Queries whose predicates are named by their position (see
+     * {@link com.yahoo.elide.core.filter.expression.ParameterNamingVisitor}) translate to the same text regardless
+     * of their filter values.
+     *
+     * @param parameterName the prefix of the parameter names.
+     * @return the named filter predicate.
+     */
+    public FilterPredicate withParameterName(String parameterName) {
+        FilterPredicate named = new FilterPredicate(this);
+        named.parameterName = parameterName;
+        return named;
     }
 
     public Type getEntityType() {
@@ -160,7 +183,9 @@ public class FilterPredicate implements FilterExpression, Function<RequestScope,
 
     public FilterPredicate negate() {
         Operator newOp = operator.negate();
-        return new FilterPredicate(this.path, newOp, this.values);
+        FilterPredicate negated = new FilterPredicate(this.path, newOp, this.values);
+        negated.parameterName = parameterName;
+        return negated;
     }
 
     /**
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.pagination;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.filter.predicates.FalsePredicate;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.filter.predicates.IsNullPredicate;
+import com.yahoo.elide.core.filter.predicates.NotNullPredicate;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Pagination;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+import com.yahoo.elide.core.utils.coerce.converters.Serde;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Translates keyset (cursor) pagination into an offset-free fetch.
+ * <p>
+ * A cursor encodes the sort key values of a record.  The page after a cursor is fetched by sorting on the
+ * requested sort keys (with the paths that identify a record as tie breakers) and filtering to records whose
+ * keys sort after the cursor:
+ * <pre>
+ *   (k1 &gt; v1) OR (k1 = v1 AND k2 &gt; v2) OR ...
+ * </pre>
+ * The seek predicate is an ordinary {@link FilterExpression}, so stores push it down like any other filter
+ * and the cost of a page does not depend on how deep it is.  Pages before a cursor are fetched in reverse
+ * order and flipped back.  One record more than the page size is fetched to learn whether more records follow.
+ * <p>
+ * Null key values sort before all other values (as they do in the in-memory store and in the default ordering
+ * of H2, MySQL and SQL Server), so they are sought with IS NULL and IS NOT NULL predicates.
+ */
+public class KeysetPagination {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> CURSOR_TYPE = new TypeReference<List<String>>() { };
+
+    private final Pagination pagination;
+    private final Type<?> type;
+    private final Map<Path, Sorting.SortOrder> keys;
+    private final RequestScope scope;
+
+    /**
+     * Constructor.
+     * @param projection The projection being paginated by cursor.
+     * @param scope The request scope.
+     * @param identifyingPaths The paths whose values identify a record (see
+     *                         {@link com.yahoo.elide.core.datastore.DataStoreTransaction#getIdentifyingPaths}).
+     */
+    public KeysetPagination(EntityProjection projection, RequestScope scope, List<Path> identifyingPaths) {
+        this.pagination = projection.getPagination();
+        this.type = projection.getType();
+        this.scope = scope;
+        this.keys = getKeys(projection.getSorting(), type, identifyingPaths);
+    }
+
+    /**
+     * Whether a pagination requests a page relative to a cursor.
+     * @param pagination The pagination (possibly null).
+     * @return true if the pagination has an after or before cursor.
+     */
+    public static boolean isKeyset(Pagination pagination) {
+        return pagination != null && (pagination.getAfter() != null || pagination.getBefore() != null);
+    }
+
+    /**
+     * Rewrites the projection so that the store fetches the requested page without an offset.
+     * @param projection The projection being paginated by cursor.
+     * @return The projection to fetch from the store.
+     */
+    public EntityProjection getSeekProjection(EntityProjection projection) {
+        boolean backward = pagination.getBefore() != null;
+        String cursor = backward ? pagination.getBefore() : pagination.getAfter();
+
+        FilterExpression seek = cursor.isEmpty() ? null : getSeekExpression(decode(cursor), backward);
+
+        Map<Path, Sorting.SortOrder> sortRules = new LinkedHashMap<>();
+        keys.forEach((path, order) -> sortRules.put(path, backward ? reverse(order) : order));
+
+        return projection.copyOf()
+                .filterExpression(AndFilterExpression.fromPair(projection.getFilterExpression(), seek))
+                .sorting(new KeysetSorting(type, sortRules))
+                .pagination(new PaginationImpl(type, 0, pagination.getLimit() + 1,
+                        pagination.getLimit() + 1, pagination.getLimit() + 1, null, false))
+                .build();
+    }
+
+    /**
+     * Restores the requested order of a fetched page and records the cursors of its first and last records.
+     * @param records The records fetched with the seek projection.
+     * @return The page.
+     */
+    public List<Object> processPage(Iterable<Object> records) {
+        List<Object> page = StreamSupport.stream(records.spliterator(), false).collect(Collectors.toList());
+
+        //The extra record fetched past the page only tells whether more records follow.
+        boolean hasMore = page.size() > pagination.getLimit();
+        if (hasMore) {
+            page = page.subList(0, pagination.getLimit());
+        }
+        pagination.setHasMore(hasMore);
+
+        if (pagination.getBefore() != null) {
+            Collections.reverse(page);
+        }
+
+        if (! page.isEmpty()) {
+            pagination.setStartCursor(encode(page.get(0)));
+            pagination.setEndCursor(encode(page.get(page.size() - 1)));
+        }
+
+        return page;
+    }
+
+    private FilterExpression getSeekExpression(List<Object> values, boolean backward) {
+        List<Path> paths = new ArrayList<>(keys.keySet());
+        FilterExpression seek = null;
+        for (int idx = 0; idx < paths.size(); idx++) {
+            Path path = paths.get(idx);
+            boolean ascending = keys.get(path) == Sorting.SortOrder.asc;
+
+            FilterExpression branch = getSeekBranch(path, values.get(idx), ascending != backward);
+            if (branch == null) {
+                continue;
+            }
+
+            for (int prior = idx - 1; prior >= 0; prior--) {
+                Object value = values.get(prior);
+                FilterPredicate equal = value == null
+                        ? new IsNullPredicate(paths.get(prior))
+                        : new FilterPredicate(paths.get(prior), Operator.IN, Collections.singletonList(value));
+                branch = new AndFilterExpression(equal, branch);
+            }
+
+            seek = seek == null ? branch : new OrFilterExpression(seek, branch);
+        }
+
+        //Nothing sorts after the cursor.
+        return seek == null ? new FalsePredicate(paths.get(0)) : seek;
+    }
+
+    /**
+     * Matches the values of a key that sort after a cursor value, with nulls sorting before all other values.
+     * @param path The key.
+     * @param value The cursor value (possibly null).
+     * @param greater Whether values after the cursor are greater than it.
+     * @return The predicate or null if no value sorts after the cursor value.
+     */
+    private static FilterExpression getSeekBranch(Path path, Object value, boolean greater) {
+        if (value == null) {
+            return greater ? new NotNullPredicate(path) : null;
+        }
+        if (greater) {
+            return new FilterPredicate(path, Operator.GT, Collections.singletonList(value));
+        }
+        return new OrFilterExpression(
+                new FilterPredicate(path, Operator.LT, Collections.singletonList(value)),
+                new IsNullPredicate(path));
+    }
+
+    private String encode(Object record) {
+        List<String> values = new ArrayList<>();
+        for (Path path : keys.keySet()) {
+            Object value = record;
+            for (Path.PathElement pathElement : path.getPathElements()) {
+                value = (value == null ? null
+                        : PersistentResource.getValue(value, pathElement.getFieldName(), scope));
+            }
+            values.add(serialize(value));
+        }
+
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(values));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<Object> decode(String cursor) {
+        List<String> values;
+        try {
+            values = MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), CURSOR_TYPE);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidValueException(cursor, "Invalid pagination cursor: " + cursor);
+        }
+
+        if (values.size() != keys.size()) {
+            throw new InvalidValueException(cursor, "Pagination cursor does not match the requested sort");
+        }
+
+        List<Object> coerced = new ArrayList<>();
+        int idx = 0;
+        for (Path path : keys.keySet()) {
+            String value = values.get(idx++);
+            Type<?> fieldType = path.lastElement().map(Path.PathElement::getFieldType).orElse(null);
+            coerced.add(value == null ? null : CoerceUtil.coerce(value, fieldType));
+        }
+        return coerced;
+    }
+
+    private static String serialize(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+
+        Serde serde = CoerceUtil.lookup(value.getClass());
+        return String.valueOf(serde == null ? value : serde.serialize(value));
+    }
+
+    private static Map<Path, Sorting.SortOrder> getKeys(Sorting sorting, Type<?> type,
+            List<Path> identifyingPaths) {
+        Map<Path, Sorting.SortOrder> keys = new LinkedHashMap<>();
+        if (sorting != null) {
+            keys.putAll(sorting.getSortingPaths());
+        }
+
+        //The identifying paths break ties between records with the same sort key values.
+        for (Path identifyingPath : identifyingPaths) {
+            String alias = identifyingPath.lastElement().map(Path.PathElement::getAlias).orElse(null);
+            boolean sorted = keys.keySet().stream()
+                    .anyMatch(path -> path.getPathElements().size() == 1
+                            && path.lastElement().map(Path.PathElement::getAlias).orElse("").equals(alias));
+
+            if (! sorted) {
+                keys.put(identifyingPath, Sorting.SortOrder.asc);
+            }
+        }
+
+        if (keys.isEmpty()) {
+            throw new InvalidValueException(type.getName(), "Pagination cursors require a sort order");
+        }
+        return keys;
+    }
+
+    private static Sorting.SortOrder reverse(Sorting.SortOrder order) {
+        return order == Sorting.SortOrder.asc ? Sorting.SortOrder.desc : Sorting.SortOrder.asc;
+    }
+
+    /**
+     * Sorting over the keys of a keyset page.
+     */
+    @ToString
+    @EqualsAndHashCode
+    private static class KeysetSorting implements Sorting {
+        @Getter private final Type<?> type;
+        @Getter private final Map<Path, SortOrder> sortingPaths;
+
+        KeysetSorting(Type<?> type, Map<Path, SortOrder> sortingPaths) {
+            this.type = type;
+            this.sortingPaths = sortingPaths;
+        }
+
+        @Override
+        public boolean isDefaultInstance() {
+            return false;
+        }
+    }
+}
@@ -31,7 +31,7 @@ public class PaginationImpl implements Pagination {
     /**
      * Denotes the internal field names for paging.
      */
-    public enum PaginationKey { offset, number, size, limit, totals }
+    public enum PaginationKey { offset, number, size, limit, totals, after, before }
 
     // For specifying which page of records is to be returned in the response
     public static final String PAGE_NUMBER_KEY = "page[number]";
@@ -48,12 +48,21 @@ public class PaginationImpl implements Pagination {
     // For requesting total pages/records be included in the response page meta data
     public static final String PAGE_TOTALS_KEY = "page[totals]";
 
-    public static final Map<String, PaginationKey> PAGE_KEYS = ImmutableMap.of(
-            PAGE_NUMBER_KEY, PaginationKey.number,
-            PAGE_SIZE_KEY, PaginationKey.size,
-            PAGE_OFFSET_KEY, PaginationKey.offset,
-            PAGE_LIMIT_KEY, PaginationKey.limit,
-            PAGE_TOTALS_KEY, PaginationKey.totals);
+    // For requesting the records that sort after a cursor
+    public static final String PAGE_AFTER_KEY = "page[after]";
+
+    // For requesting the records that sort before a cursor
+    public static final String PAGE_BEFORE_KEY = "page[before]";
+
+    public static final Map<String, PaginationKey> PAGE_KEYS = ImmutableMap.<String, PaginationKey>builder()
+            .put(PAGE_NUMBER_KEY, PaginationKey.number)
+            .put(PAGE_SIZE_KEY, PaginationKey.size)
+            .put(PAGE_OFFSET_KEY, PaginationKey.offset)
+            .put(PAGE_LIMIT_KEY, PaginationKey.limit)
+            .put(PAGE_TOTALS_KEY, PaginationKey.totals)
+            .put(PAGE_AFTER_KEY, PaginationKey.after)
+            .put(PAGE_BEFORE_KEY, PaginationKey.before)
+            .build();
 
     @Getter
     @Setter
@@ -69,6 +78,26 @@ public class PaginationImpl implements Pagination {
 
     private final boolean generateTotals;
 
+    @Getter
+    private final String after;
+
+    @Getter
+    private final String before;
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode.Exclude
+    private String startCursor;
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode.Exclude
+    private String endCursor;
+
+    @Setter
+    @EqualsAndHashCode.Exclude
+    private boolean hasMore;
+
     @Getter
     private final boolean defaultInstance;
 
@@ -113,9 +142,49 @@ public class PaginationImpl implements Pagination {
                            int systemMaxLimit,
                            Boolean generateTotals,
                            Boolean pageByPages) {
+        this(entityClass, clientOffset, clientLimit, systemDefaultLimit, systemMaxLimit, generateTotals,
+                pageByPages, null, null);
+    }
+
+    /**
+     * Constructor.
+     * @param entityClass The type of collection we are paginating.
+     * @param clientOffset The client requested offset or null if not provided.
+     * @param clientLimit The client requested limit or null if not provided.
+     * @param systemDefaultLimit The system default limit (in terms of records).
+     * @param systemMaxLimit The system max limit (in terms of records).
+     * @param generateTotals Whether to return the total number of records.
+     * @param pageByPages Whether to page by pages or records.
+     * @param after The cursor the page starts after or null if not provided.
+     * @param before The cursor the page ends before or null if not provided.
+     */
+    public PaginationImpl(Type<?> entityClass,
+                           Integer clientOffset,
+                           Integer clientLimit,
+                           int systemDefaultLimit,
+                           int systemMaxLimit,
+                           Boolean generateTotals,
+                           Boolean pageByPages,
+                           String after,
+                           String before) {
 
         this.entityClass = entityClass;
-        this.defaultInstance = (clientOffset == null && clientLimit == null && generateTotals == null);
+        this.after = after;
+        this.before = before;
+        this.defaultInstance = (clientOffset == null && clientLimit == null && generateTotals == null
+                && after == null && before == null);
+
+        if (after != null || before != null) {
+            if (after != null && before != null) {
+                throw new InvalidValueException("Pagination cannot request a page both after and before a cursor.");
+            }
+            if (clientOffset != null) {
+                throw new InvalidValueException("Pagination cursors cannot be combined with an offset or number.");
+            }
+            if (generateTotals != null && generateTotals) {
+                throw new InvalidValueException("Pagination cursors cannot be combined with page totals.");
+            }
+        }
 
         Paginate paginate = entityClass != null ? (Paginate) entityClass.getAnnotation(Paginate.class) : null;
 
@@ -162,6 +231,11 @@ public class PaginationImpl implements Pagination {
         return generateTotals;
     }
 
+    @Override
+    public boolean hasMore() {
+        return hasMore;
+    }
+
     /**
      * Given json-api paging params, generate page and pageSize values from query params.
      *
@@ -181,12 +255,17 @@ public class PaginationImpl implements Pagination {
         }
 
         final Map<PaginationKey, Integer> pageData = new HashMap<>();
+        final Map<PaginationKey, String> cursors = new HashMap<>();
         queryParams.entrySet()
                 .forEach(paramEntry -> {
                     final String queryParamKey = paramEntry.getKey();
                     if (PAGE_KEYS.containsKey(queryParamKey)) {
                         PaginationKey paginationKey = PAGE_KEYS.get(queryParamKey);
-                        if (paginationKey.equals(PaginationKey.totals)) {
+                        if (paginationKey.equals(PaginationKey.after) || paginationKey.equals(PaginationKey.before)) {
+                            // cursors are opaque strings.  An empty cursor requests the first (or last) page.
+                            String value = paramEntry.getValue().get(0);
+                            cursors.put(paginationKey, value == null ? "" : value);
+                        } else if (paginationKey.equals(PaginationKey.totals)) {
                             // page[totals] is a valueless parameter, use value of 0 just so that its presence can
                             // be recorded in the map
                             pageData.put(paginationKey, 0);
@@ -204,7 +283,7 @@ public class PaginationImpl implements Pagination {
                                 + PAGE_KEYS_CSV);
                     }
                 });
-        return getPagination(entityClass, pageData, elideSettings);
+        return getPagination(entityClass, pageData, cursors, elideSettings);
     }
 
 
@@ -213,10 +292,12 @@ public class PaginationImpl implements Pagination {
      *
      * @param entityClass The collection type.
      * @param pageData Map containing pagination information
+     * @param cursors Map containing the after/before cursors
      * @param elideSettings Settings containing pagination defaults
      * @return Pagination object
      */
     private static PaginationImpl getPagination(Type<?> entityClass, Map<PaginationKey, Integer> pageData,
+                                                Map<PaginationKey, String> cursors,
                                                 ElideSettings elideSettings) {
         if (hasInvalidCombination(pageData)) {
             throw new InvalidValueException("Invalid usage of pagination parameters.");
@@ -238,7 +319,9 @@ public class PaginationImpl implements Pagination {
                 elideSettings.getDefaultPageSize(),
                 elideSettings.getDefaultMaxPageSize(),
                 pageData.containsKey(PaginationKey.totals) ? true : null,
-                pageByPages);
+                pageByPages,
+                cursors.get(PaginationKey.after),
+                cursors.get(PaginationKey.before));
     }
 
     private static boolean hasInvalidCombination(Map<PaginationKey, Integer> pageData) {
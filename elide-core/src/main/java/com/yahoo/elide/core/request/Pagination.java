@@ -56,6 +56,70 @@ public interface Pagination {
      */
     void setPageTotals(Long pageTotals);
 
+    /**
+     * Get the cursor the page starts after (keyset pagination).
+     * @return the cursor (empty for the first page) or null if the page is not requested by cursor.
+     */
+    default String getAfter() {
+        return null;
+    }
+
+    /**
+     * Get the cursor the page ends before (keyset pagination).
+     * @return the cursor (empty for the last page) or null if the page is not requested by cursor.
+     */
+    default String getBefore() {
+        return null;
+    }
+
+    /**
+     * Get the cursor of the first record in the page.
+     * @return the cursor or null if the page was not requested by cursor or is empty.
+     */
+    default String getStartCursor() {
+        return null;
+    }
+
+    /**
+     * Set the cursor of the first record in the page.
+     * @param cursor the cursor.
+     */
+    default void setStartCursor(String cursor) {
+        //NOOP
+    }
+
+    /**
+     * Get the cursor of the last record in the page.
+     * @return the cursor or null if the page was not requested by cursor or is empty.
+     */
+    default String getEndCursor() {
+        return null;
+    }
+
+    /**
+     * Set the cursor of the last record in the page.
+     * @param cursor the cursor.
+     */
+    default void setEndCursor(String cursor) {
+        //NOOP
+    }
+
+    /**
+     * Whether more records follow the page in the direction it was requested by cursor.
+     * @return true if a page requested by cursor is followed by more records.
+     */
+    default boolean hasMore() {
+        return false;
+    }
+
+    /**
+     * Set whether more records follow the page in the direction it was requested by cursor.
+     * @param hasMore whether more records follow the page.
+     */
+    default void setHasMore(boolean hasMore) {
+        //NOOP
+    }
+
     /**
      * Is this the default instance (not present).
      * @return true if pagination wasn't requested.  False otherwise.
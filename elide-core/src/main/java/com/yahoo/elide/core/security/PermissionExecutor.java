@@ -149,6 +149,17 @@ public interface PermissionExecutor {
         return false;
     }
 
+    /**
+     * Whether read access to the fields of a type is decided by user checks alone.  The readable fields of such a
+     * type are the same for every resource of the type and only need to be resolved once per request.
+     *
+     * @param resourceClass Resource class
+     * @return True if field read access does not depend on the resource, false otherwise.
+     */
+    default boolean isUserCheckOnly(Type<?> resourceClass) {
+        return false;
+    }
+
     /**
      * Evaluate filterPredicate for a provided resource, or return PASS or FAIL.
      * Return UNEVALUATED for default handling.
@@ -20,6 +20,16 @@ public abstract class UserCheck implements Check {
      */
     public abstract boolean ok(User user);
 
+    /**
+     * Whether the result of the check only depends on the name of the user's principal.  The results of such checks
+     * can be shared by the requests of the same user for a configured time.
+     *
+     * @return True if the result can be shared across requests, false otherwise
+     */
+    public boolean isCacheable() {
+        return false;
+    }
+
     @Override
     public final boolean runAtCommit() {
         return false;
@@ -162,6 +162,16 @@ public class AggregationStorePermissionExecutor extends AbstractPermissionExecut
                 expressionSupplier);
     }
 
+    /**
+     * Aggregation Datastore model can only have user checks at field level permission expression.
+     * @param resourceClass Resource class
+     * @return true
+     */
+    @Override
+    public boolean isUserCheckOnly(Type<?> resourceClass) {
+        return true;
+    }
+
     @Override
     public Optional<FilterExpression> getReadPermissionFilter(Type<?> resourceClass, Set<String> requestedFields) {
         FilterExpression filterExpression = expressionBuilder.buildEntityFilterExpression(resourceClass, requestScope);
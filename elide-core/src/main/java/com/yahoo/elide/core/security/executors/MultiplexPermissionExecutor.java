@@ -8,6 +8,7 @@ package com.yahoo.elide.core.security.executors;
 
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
@@ -16,27 +17,78 @@ import com.yahoo.elide.core.security.ChangeSpec;
 import com.yahoo.elide.core.security.PermissionExecutor;
 import com.yahoo.elide.core.security.permissions.ExpressionResult;
 import com.yahoo.elide.core.type.Type;
-import lombok.AllArgsConstructor;
+import com.google.common.base.Suppliers;
 
 import java.lang.annotation.Annotation;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * MultiplexPermissionExecutor manages Model to permssion executor mapping.
  * All method call to multiple permission executor will be delegated
  *  to the underlying permission executor based on resource type.
+ * <p>
+ * The permission executor of a model is created the first time the request touches the model.
  */
-@AllArgsConstructor
 public class MultiplexPermissionExecutor implements PermissionExecutor {
 
-    private Map<Type<?>, PermissionExecutor> permissionExecutorMap;
-    private PermissionExecutor defaultPermissionExecutor;
-    private EntityDictionary dictionary;
+    private final Map<Type<?>, PermissionExecutor> permissionExecutorMap;
+    private final Supplier<PermissionExecutor> defaultPermissionExecutor;
+    private final RequestScope requestScope;
+    private final EntityDictionary dictionary;
+
+    /**
+     * Constructor.
+     *
+     * @param permissionExecutorMap The permission executors of models with their own executor
+     * @param defaultPermissionExecutor The permission executor of the other models
+     * @param dictionary The entity dictionary
+     */
+    public MultiplexPermissionExecutor(Map<Type<?>, PermissionExecutor> permissionExecutorMap,
+                                       PermissionExecutor defaultPermissionExecutor,
+                                       EntityDictionary dictionary) {
+        this.permissionExecutorMap = new ConcurrentHashMap<>(permissionExecutorMap);
+        this.defaultPermissionExecutor = () -> defaultPermissionExecutor;
+        this.requestScope = null;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Constructor which creates permission executors lazily from the functions bound in the dictionary.
+     *
+     * @param requestScope The request scope the permission executors are created for
+     * @param defaultPermissionExecutor Creates the permission executor of models without their own executor
+     */
+    public MultiplexPermissionExecutor(RequestScope requestScope,
+                                       Function<RequestScope, PermissionExecutor> defaultPermissionExecutor) {
+        this.permissionExecutorMap = new ConcurrentHashMap<>();
+        this.defaultPermissionExecutor = Suppliers.memoize(() -> defaultPermissionExecutor.apply(requestScope));
+        this.requestScope = requestScope;
+        this.dictionary = requestScope.getDictionary();
+    }
 
     public PermissionExecutor getPermissionExecutor(Type<?> cls) {
-        return permissionExecutorMap.getOrDefault(dictionary.lookupBoundClass(cls), defaultPermissionExecutor);
+        Type<?> boundType = dictionary.lookupBoundClass(cls);
+        if (boundType == null) {
+            return defaultPermissionExecutor.get();
+        }
+
+        PermissionExecutor executor = permissionExecutorMap.get(boundType);
+        if (executor != null) {
+            return executor;
+        }
+
+        Function<RequestScope, PermissionExecutor> executorFunction = requestScope == null
+                ? null
+                : dictionary.getPermissionExecutorFunction(boundType);
+        if (executorFunction == null) {
+            return defaultPermissionExecutor.get();
+        }
+        return permissionExecutorMap.computeIfAbsent(boundType, type -> executorFunction.apply(requestScope));
     }
 
     @Override
@@ -88,19 +140,24 @@ public class MultiplexPermissionExecutor implements PermissionExecutor {
 
     @Override
     public void executeCommitChecks() {
-        defaultPermissionExecutor.executeCommitChecks();
+        defaultPermissionExecutor.get().executeCommitChecks();
         permissionExecutorMap.values().forEach(PermissionExecutor::executeCommitChecks);
     }
 
     @Override
     public void logCheckStats() {
-        defaultPermissionExecutor.logCheckStats();
+        defaultPermissionExecutor.get().logCheckStats();
         permissionExecutorMap.values().forEach(PermissionExecutor::logCheckStats);
     }
 
     @Override
     public boolean isVerbose() {
-        return defaultPermissionExecutor.isVerbose();
+        return defaultPermissionExecutor.get().isVerbose();
+    }
+
+    @Override
+    public boolean isUserCheckOnly(Type<?> resourceClass) {
+        return getPermissionExecutor(resourceClass).isUserCheckOnly(resourceClass);
     }
 
     @Override
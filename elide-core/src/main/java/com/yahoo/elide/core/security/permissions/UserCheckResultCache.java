@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security.permissions;
+
+import com.yahoo.elide.core.security.User;
+import com.yahoo.elide.core.security.checks.UserCheck;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shares the results of cacheable user checks (see {@link UserCheck#isCacheable()}) across the requests of a user.
+ * <p>
+ * Results are keyed by the name of the user's principal and the check instance.  They expire a fixed time after
+ * they are computed.  Users without a principal name are never cached.
+ */
+public class UserCheckResultCache {
+    public static final long MAXIMUM_RESULTS = 100_000;
+
+    private final Cache<Pair<String, UserCheck>, Boolean> results;
+
+    /**
+     * Constructor.
+     * @param timeToLive How long a result is shared after it is computed.
+     */
+    public UserCheckResultCache(Duration timeToLive) {
+        this.results = CacheBuilder.newBuilder()
+                .maximumSize(MAXIMUM_RESULTS)
+                .expireAfterWrite(timeToLive.toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Evaluates a user check or returns its shared result.
+     * @param check The user check.
+     * @param user The user making the request.
+     * @return True if the check passes, false otherwise.
+     */
+    public boolean ok(UserCheck check, User user) {
+        String name = user == null ? null : user.getName();
+        if (name == null || ! check.isCacheable()) {
+            return check.ok(user);
+        }
+
+        Pair<String, UserCheck> key = Pair.of(name, check);
+        Boolean result = results.getIfPresent(key);
+        if (result == null) {
+            result = check.ok(user);
+            results.put(key, result);
+        }
+        return result;
+    }
+}
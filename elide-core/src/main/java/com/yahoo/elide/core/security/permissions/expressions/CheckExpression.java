@@ -18,6 +18,7 @@ import com.yahoo.elide.core.security.checks.OperationCheck;
 import com.yahoo.elide.core.security.checks.UserCheck;
 import com.yahoo.elide.core.security.permissions.ExpressionResult;
 import com.yahoo.elide.core.security.permissions.ExpressionResultCache;
+import com.yahoo.elide.core.security.permissions.UserCheckResultCache;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -124,13 +125,24 @@ public class CheckExpression implements Expression {
         Object entity = (resource == null) ? null : resource.getObject();
 
         if (check instanceof UserCheck) {
-            result = ((UserCheck) check).ok(requestScope.getUser()) ? PASS : FAIL;
+            result = computeUserCheck((UserCheck) check) ? PASS : FAIL;
         } else {
             result = ((OperationCheck) check).ok(entity, requestScope, changeSpec) ? PASS : FAIL;
         }
         return result;
     }
 
+    private boolean computeUserCheck(UserCheck userCheck) {
+        if (requestScope instanceof com.yahoo.elide.core.RequestScope) {
+            UserCheckResultCache sharedResults =
+                    ((com.yahoo.elide.core.RequestScope) requestScope).getElideSettings().getUserCheckResultCache();
+            if (sharedResults != null) {
+                return sharedResults.ok(userCheck, requestScope.getUser());
+            }
+        }
+        return userCheck.ok(requestScope.getUser());
+    }
+
     @Override
     public String toString() {
         EntityDictionary dictionary = ((com.yahoo.elide.core.RequestScope) requestScope).getDictionary();
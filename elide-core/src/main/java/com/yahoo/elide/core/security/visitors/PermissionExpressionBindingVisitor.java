@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.core.security.visitors;
+
+import com.yahoo.elide.core.security.checks.Check;
+import com.yahoo.elide.core.security.permissions.expressions.AndExpression;
+import com.yahoo.elide.core.security.permissions.expressions.CheckExpression;
+import com.yahoo.elide.core.security.permissions.expressions.Expression;
+import com.yahoo.elide.core.security.permissions.expressions.ExpressionVisitor;
+import com.yahoo.elide.core.security.permissions.expressions.NotExpression;
+import com.yahoo.elide.core.security.permissions.expressions.OrExpression;
+
+import java.util.function.Function;
+
+/**
+ * Expression Visitor that copies a normalized permission expression template and binds its checks to a request.
+ */
+public class PermissionExpressionBindingVisitor implements ExpressionVisitor<Expression> {
+    private final Function<Check, Expression> expressionGenerator;
+
+    public PermissionExpressionBindingVisitor(Function<Check, Expression> expressionGenerator) {
+        this.expressionGenerator = expressionGenerator;
+    }
+
+    @Override
+    public Expression visitExpression(Expression expression) {
+        return expression;
+    }
+
+    @Override
+    public Expression visitCheckExpression(CheckExpression checkExpression) {
+        return expressionGenerator.apply(checkExpression.getCheck());
+    }
+
+    @Override
+    public Expression visitAndExpression(AndExpression andExpression) {
+        return new AndExpression(andExpression.getLeft().accept(this), andExpression.getRight().accept(this));
+    }
+
+    @Override
+    public Expression visitOrExpression(OrExpression orExpression) {
+        return new OrExpression(orExpression.getLeft().accept(this), orExpression.getRight().accept(this));
+    }
+
+    @Override
+    public Expression visitNotExpression(NotExpression notExpression) {
+        return new NotExpression(notExpression.getLogical().accept(this));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.core.type;
+
+import com.yahoo.elide.core.request.Attribute;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns each attribute of a {@link ParameterizedModel} a slot in an array of values.
+ * <p>
+ * Models loaded by the same query share a single layout.  Each model then only holds the array of its values and
+ * an attribute is found by looking up the slot of its alias.
+ */
+public class AttributeLayout {
+
+    @Getter
+    private final List<Attribute> attributes;
+
+    private final Map<String, Integer> slots;
+
+    /**
+     * Constructor.
+     * @param attributes The attributes in slot order.  Aliases must be unique.
+     */
+    public AttributeLayout(List<Attribute> attributes) {
+        this.attributes = Collections.unmodifiableList(attributes);
+        this.slots = new HashMap<>();
+
+        for (int slot = 0; slot < attributes.size(); slot++) {
+            if (slots.put(attributes.get(slot).getAlias(), slot) != null) {
+                throw new IllegalArgumentException("Duplicate attribute alias: " + attributes.get(slot).getAlias());
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of an attribute.
+     * @param alias The attribute alias.
+     * @return The slot or -1 if the layout has no attribute with the alias.
+     */
+    public int getSlot(String alias) {
+        Integer slot = slots.get(alias);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Returns the number of slots.
+     * @return The number of attributes in the layout.
+     */
+    public int size() {
+        return attributes.size();
+    }
+}
@@ -22,6 +22,14 @@ public class FieldType implements Field {
 
     private java.lang.reflect.Field field;
 
+    /**
+     * Get the wrapped Java field.
+     * @return The Java field.
+     */
+    public java.lang.reflect.Field getJavaField() {
+        return field;
+    }
+
     @Override
     public void setAccessible(boolean flag) {
         field.setAccessible(flag);
@@ -23,6 +23,14 @@ public class MethodType implements Method {
 
     private java.lang.reflect.Executable method;
 
+    /**
+     * Get the wrapped Java method or constructor.
+     * @return The Java executable.
+     */
+    public java.lang.reflect.Executable getJavaExecutable() {
+        return method;
+    }
+
     @Override
     public int getModifiers() {
         return method.getModifiers();
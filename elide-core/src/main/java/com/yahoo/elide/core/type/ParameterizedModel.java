@@ -14,33 +14,67 @@ import com.yahoo.elide.core.request.Attribute;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 /**
  * Base class that contains one or more parameterized attributes.
+ * <p>
+ * Attributes are found by alias.  Values added together for a shared {@link AttributeLayout} are stored in an
+ * array indexed by the layout.  Other values are stored in a map.
  */
 public abstract class ParameterizedModel {
 
     @Exclude
     protected Map<Attribute, ParameterizedAttribute> parameterizedAttributes;
 
+    @Exclude
+    private final Map<String, ParameterizedAttribute> attributesByAlias = new HashMap<>();
+
+    @Exclude
+    private AttributeLayout layout;
+
+    @Exclude
+    private Object[] layoutValues;
+
     public ParameterizedModel() {
         this(new HashMap<>());
     }
 
     public ParameterizedModel(Map<Attribute, ParameterizedAttribute> attributes) {
         this.parameterizedAttributes = attributes;
+        attributes.forEach((attribute, value) -> attributesByAlias.putIfAbsent(attribute.getAlias(), value));
     }
 
     public <T> void addAttributeValue(Attribute attribute, T value) {
-        parameterizedAttributes.put(attribute,
-            new ParameterizedAttribute() {
-                @Override
-                public <T> T invoke(Set<Argument> arguments) {
-                    return (T) value;
-                }
-            });
+        int slot = layout == null ? -1 : layout.getSlot(attribute.getAlias());
+        if (slot >= 0) {
+            layoutValues[slot] = value;
+            return;
+        }
+
+        ParameterizedAttribute parameterizedAttribute = new ParameterizedAttribute() {
+            @Override
+            public <T> T invoke(Set<Argument> arguments) {
+                return (T) value;
+            }
+        };
+
+        parameterizedAttributes.put(attribute, parameterizedAttribute);
+        attributesByAlias.put(attribute.getAlias(), parameterizedAttribute);
+    }
+
+    /**
+     * Adds the values of every attribute of a layout.
+     * @param layout The layout shared by the models loaded by a query.
+     * @param values The attribute values indexed by slot.  The array is owned by the model afterwards.
+     */
+    public void addAttributeValues(AttributeLayout layout, Object[] values) {
+        if (values.length != layout.size()) {
+            throw new IllegalArgumentException("Expected " + layout.size() + " attribute values");
+        }
+
+        this.layout = layout;
+        this.layoutValues = values;
     }
 
     /**
@@ -50,14 +84,17 @@ public abstract class ParameterizedModel {
      * @return The attribute value.
      */
     public <T> T invoke(Attribute attribute) {
-        return parameterizedAttributes.entrySet().stream()
+        int slot = layout == null ? -1 : layout.getSlot(attribute.getAlias());
+        if (slot >= 0) {
+            return (T) layoutValues[slot];
+        }
 
-                //Only filter by alias required.  (Filtering by type may not work with inheritance).
-                .filter(entry -> attribute.getAlias().equals(entry.getKey().getAlias()))
-                .findFirst()
-                .map(Map.Entry::getValue)
-                .orElseThrow(() -> new InvalidParameterizedAttributeException(attribute))
-                .invoke(attribute.getArguments());
+        ParameterizedAttribute match = findAttribute(attribute.getAlias());
+        if (match == null) {
+            throw new InvalidParameterizedAttributeException(attribute);
+        }
+
+        return match.invoke(attribute.getArguments());
     }
 
     /**
@@ -68,17 +105,32 @@ public abstract class ParameterizedModel {
      * @return The attribute value or the provided default value.
      */
     public <T> T fetch(String alias, T defaultValue) {
-        Optional<ParameterizedAttribute> match = parameterizedAttributes.entrySet().stream()
-
-                //Only filter by alias required.  (Filtering by type may not work with inheritance).
-                .filter(entry -> alias.equals(entry.getKey().getAlias()))
-                .findFirst()
-                .map(Map.Entry::getValue);
+        int slot = layout == null ? -1 : layout.getSlot(alias);
+        if (slot >= 0) {
+            return (T) layoutValues[slot];
+        }
 
-        if (! match.isPresent()) {
+        ParameterizedAttribute match = findAttribute(alias);
+        if (match == null) {
             return defaultValue;
         }
 
-        return match.get().invoke(new HashSet<>());
+        return match.invoke(new HashSet<>());
+    }
+
+    private ParameterizedAttribute findAttribute(String alias) {
+        ParameterizedAttribute match = attributesByAlias.get(alias);
+        if (match != null || attributesByAlias.size() == parameterizedAttributes.size()) {
+            return match;
+        }
+
+        //Subclasses may add to the attribute map directly.
+        return parameterizedAttributes.entrySet().stream()
+
+                //Only filter by alias required.  (Filtering by type may not work with inheritance).
+                .filter(entry -> alias.equals(entry.getKey().getAlias()))
+                .findFirst()
+                .map(Map.Entry::getValue)
+                .orElse(null);
     }
 }
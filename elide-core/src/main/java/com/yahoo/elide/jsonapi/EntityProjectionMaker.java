@@ -24,6 +24,7 @@ import com.yahoo.elide.generated.parsers.CoreBaseVisitor;
 import com.yahoo.elide.generated.parsers.CoreParser;
 import com.yahoo.elide.jsonapi.parser.JsonApiParser;
 import com.google.common.collect.Sets;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import lombok.Builder;
@@ -69,7 +70,11 @@ public class EntityProjectionMaker
     }
 
     public EntityProjection parsePath(String path) {
-        return visit(JsonApiParser.parse(path)).apply(null).projection;
+        return parsePath(JsonApiParser.parse(path));
+    }
+
+    public EntityProjection parsePath(ParseTree path) {
+        return visit(path).apply(null).projection;
     }
 
     public EntityProjection parseInclude(Type<?> entityClass) {
@@ -7,12 +7,16 @@ package com.yahoo.elide.jsonapi;
 
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
 import com.yahoo.elide.jsonapi.models.Patch;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.POJONode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -60,6 +64,44 @@ public class JsonApiMapper {
         return mapper.convertValue(jsonApiDocument, JsonNode.class);
     }
 
+    /**
+     * Wraps a json api document in a node without converting it to a tree.  The document is serialized
+     * only when the node is written.
+     *
+     * @param jsonApiDocument the json api document
+     * @return the json node
+     */
+    public JsonNode toLazyJsonObject(JsonApiDocument jsonApiDocument) {
+        return new POJONode(jsonApiDocument);
+    }
+
+    /**
+     * Serializes a json api document into a token buffer that can later be replayed to a stream.
+     *
+     * @param node the node
+     * @return the buffered tokens
+     * @throws IOException the iO exception
+     */
+    public TokenBuffer bufferJsonApiDocument(JsonNode node) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(mapper, false);
+        mapper.writeValue(buffer, node);
+        return buffer;
+    }
+
+    /**
+     * Write buffered json api document to a stream.
+     *
+     * @param buffer the buffered tokens
+     * @param outputStream the stream to write to.  It is not closed.
+     * @throws IOException the iO exception
+     */
+    public void writeJsonApiDocument(TokenBuffer buffer, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = mapper.writer().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            buffer.serialize(generator);
+        }
+    }
+
     /**
      * Write json api document.
      *
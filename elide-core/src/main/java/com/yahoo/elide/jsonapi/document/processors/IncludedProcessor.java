@@ -9,15 +9,20 @@ import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Relationship;
+import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.jsonapi.EntityProjectionMaker;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
 import com.google.common.collect.Lists;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.MultivaluedMap;
 
 /**
@@ -36,7 +41,7 @@ public class IncludedProcessor implements DocumentProcessor {
     public void execute(JsonApiDocument jsonApiDocument, PersistentResource resource,
                         MultivaluedMap<String, String> queryParams) {
         if (isPresent(queryParams, INCLUDE)) {
-            addIncludedResources(jsonApiDocument, resource, queryParams.get(INCLUDE));
+            addIncludedResources(jsonApiDocument, Collections.singleton(resource), queryParams.get(INCLUDE));
         }
     }
 
@@ -48,28 +53,35 @@ public class IncludedProcessor implements DocumentProcessor {
     public void execute(JsonApiDocument jsonApiDocument, Set<PersistentResource> resources,
                         MultivaluedMap<String, String> queryParams) {
         if (isPresent(queryParams, INCLUDE)) {
-
-            // Process include for each resource
-            resources.forEach(resource ->
-                    addIncludedResources(jsonApiDocument, resource, queryParams.get(INCLUDE)));
+            addIncludedResources(jsonApiDocument, resources, queryParams.get(INCLUDE));
         }
     }
 
     /**
      * Adds the requested relation resources to the included block of the JsonApiDocument.
+     * Resources of the same type are processed together so each relationship is loaded once per level.
      */
-    private void addIncludedResources(JsonApiDocument jsonApiDocument, PersistentResource rec,
+    private void addIncludedResources(JsonApiDocument jsonApiDocument, Collection<PersistentResource> records,
             List<String> requestedRelationPaths) {
 
-        EntityProjectionMaker maker = new EntityProjectionMaker(rec.getDictionary(), rec.getRequestScope());
-        EntityProjection projection = maker.parseInclude(rec.getResourceType());
-        // Process each include relation path
-        requestedRelationPaths.forEach(pathParam -> {
-            List<String> pathList = Arrays.asList(pathParam.split(RELATION_PATH_SEPARATOR));
+        Map<Type<?>, List<PersistentResource>> recordsByType = records.stream()
+                .collect(Collectors.groupingBy(PersistentResource::getResourceType,
+                        LinkedHashMap::new, Collectors.toList()));
+
+        recordsByType.values().forEach(recs -> {
+            PersistentResource<?> first = recs.get(0);
+            EntityProjectionMaker maker = new EntityProjectionMaker(first.getDictionary(), first.getRequestScope());
+            EntityProjection projection = maker.parseInclude(first.getResourceType());
+
+            // Process each include relation path
+            requestedRelationPaths.forEach(pathParam -> {
+                List<String> pathList = Arrays.asList(pathParam.split(RELATION_PATH_SEPARATOR));
 
-            pathList.forEach(requestedRelationPath -> {
-                List<String> relationPath = Lists.newArrayList(requestedRelationPath.split(RELATION_PATH_DELIMITER));
-                addResourcesForPath(jsonApiDocument, rec, relationPath, projection);
+                pathList.forEach(requestedRelationPath -> {
+                    List<String> relationPath =
+                            Lists.newArrayList(requestedRelationPath.split(RELATION_PATH_DELIMITER));
+                    addResourcesForPath(jsonApiDocument, recs, relationPath, projection);
+                });
             });
         });
     }
@@ -78,32 +90,30 @@ public class IncludedProcessor implements DocumentProcessor {
      * Adds all the relation resources for a given relation path to the included block of the
      * JsonApiDocument.
      */
-    private void addResourcesForPath(JsonApiDocument jsonApiDocument, PersistentResource<?> rec,
+    private void addResourcesForPath(JsonApiDocument jsonApiDocument, Collection<PersistentResource> recs,
                                      List<String> relationPath,
                                      EntityProjection projection) {
 
         //Pop off a relation of relation path
         String relation = relationPath.remove(0);
 
-        Set<PersistentResource> collection;
         Relationship relationship = projection.getRelationship(relation).orElseThrow(IllegalStateException::new);
-        try {
-            collection = rec.getRelationCheckedFiltered(relationship).toList(LinkedHashSet::new).blockingGet();
-
-        } catch (ForbiddenAccessException e) {
-            return;
-        }
 
-        collection.forEach(resource -> {
-            jsonApiDocument.addIncluded(resource.toResource());
-
-            //If more relations left in the path, process a level deeper
-            if (!relationPath.isEmpty()) {
-                //Use a copy of the relationPath to preserve the path for remaining branches of the relationship tree
-                addResourcesForPath(jsonApiDocument, resource, new ArrayList<>(relationPath),
-                        relationship.getProjection());
+        Set<PersistentResource> collection = new LinkedHashSet<>();
+        PersistentResource.getRelationsCheckedFiltered(recs, relationship).values().forEach(relations -> {
+            try {
+                collection.addAll(relations.toList(LinkedHashSet::new).blockingGet());
+            } catch (ForbiddenAccessException e) {
+                //Skip relationships the user cannot read.
             }
         });
+
+        collection.forEach(resource -> jsonApiDocument.addIncluded(resource.toResource()));
+
+        //If more relations left in the path, process a level deeper
+        if (!relationPath.isEmpty() && !collection.isEmpty()) {
+            addResourcesForPath(jsonApiDocument, collection, relationPath, relationship.getProjection());
+        }
     }
 
     private static boolean isPresent(MultivaluedMap<String, String> queryParams, String key) {
@@ -25,6 +25,7 @@ import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.collections4.IterableUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -202,19 +203,24 @@ public class JsonApiPatch {
 
             Collection<Resource> resources = data.get();
             if (!path.contains("relationships")) { // Reserved key for relationships
-                String id = getSingleResource(resources).getId();
+                Resource resource = getSingleResource(resources);
+                String id = resource.getId();
 
                 if (StringUtils.isEmpty(id)) {
                     throw new InvalidEntityBodyException("Patch extension requires all objects to have an assigned "
                             + "ID (temporary or permanent) when assigning relationships.");
                 }
-                String fullPath = path + "/" + id;
-                // Defer relationship updating until the end
-                getSingleResource(resources).setRelationships(null);
-                // Reparse since we mangle it first
-                action.doc = requestScope.getMapper().readJsonApiPatchExtValue(patchValue);
-                action.path = fullPath;
-                action.isPostProcessing = true;
+
+                // Objects created without relationships have nothing to update at the end
+                if (MapUtils.isNotEmpty(resource.getRelationships())) {
+                    String fullPath = path + "/" + id;
+                    // Defer relationship updating until the end
+                    resource.setRelationships(null);
+                    // Reparse since we mangle it first
+                    action.doc = requestScope.getMapper().readJsonApiPatchExtValue(patchValue);
+                    action.path = fullPath;
+                    action.isPostProcessing = true;
+                }
             }
             PostVisitor visitor = new PostVisitor(new PatchRequestScope(path, value, requestScope));
             return visitor.visit(JsonApiParser.parse(path));
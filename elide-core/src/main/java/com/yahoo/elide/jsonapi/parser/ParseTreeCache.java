@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.jsonapi.parser;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * Caches the parse trees of JSON-API request paths by their normalized path.
+ * <p>
+ * Parse trees are only read by the visitors that walk them, so the requests for the same path share a tree.  The
+ * visitors read resource IDs from the tokens of the tree, so paths are cached with their IDs.
+ */
+public class ParseTreeCache {
+    private final Cache<String, ParseTree> trees;
+
+    /**
+     * Constructor.
+     * @param maximumSize The most parse trees cached.
+     */
+    public ParseTreeCache(long maximumSize) {
+        this.trees = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Compile request to AST, reusing the tree of a recent request for the same path.
+     * @param path request
+     * @return AST parse tree
+     */
+    public ParseTree parse(String path) {
+        String normalizedPath = JsonApiParser.normalizePath(path);
+
+        ParseTree tree = trees.getIfPresent(normalizedPath);
+        if (tree == null) {
+            tree = JsonApiParser.parse(normalizedPath);
+            trees.put(normalizedPath, tree);
+        }
+        return tree;
+    }
+}
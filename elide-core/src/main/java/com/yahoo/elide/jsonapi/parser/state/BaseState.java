@@ -178,6 +178,10 @@ public abstract class BaseState {
     }
 
     protected static JsonNode getResponseBody(PersistentResource resource, RequestScope requestScope) {
+        return requestScope.getMapper().toJsonObject(getResponseDocument(resource, requestScope));
+    }
+
+    protected static JsonApiDocument getResponseDocument(PersistentResource resource, RequestScope requestScope) {
         MultivaluedMap<String, String> queryParams = requestScope.getQueryParams();
         JsonApiDocument jsonApiDocument = new JsonApiDocument();
 
@@ -189,6 +193,21 @@ public abstract class BaseState {
         DocumentProcessor includedProcessor = new IncludedProcessor();
         includedProcessor.execute(jsonApiDocument, resource, queryParams);
 
+        return jsonApiDocument;
+    }
+
+    /**
+     * Converts the document returned by a read.  When streaming responses are enabled, the document is
+     * not converted to a tree and is instead serialized when the response is written.
+     *
+     * @param jsonApiDocument the document to return
+     * @param requestScope the request scope
+     * @return the response body
+     */
+    protected static JsonNode getReadResponseBody(JsonApiDocument jsonApiDocument, RequestScope requestScope) {
+        if (requestScope.getElideSettings().isStreamingResponses()) {
+            return requestScope.getMapper().toLazyJsonObject(jsonApiDocument);
+        }
         return requestScope.getMapper().toJsonObject(jsonApiDocument);
     }
 }
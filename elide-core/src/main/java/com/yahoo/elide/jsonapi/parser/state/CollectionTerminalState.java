@@ -16,6 +16,7 @@ import com.yahoo.elide.core.exceptions.InvalidEntityBodyException;
 import com.yahoo.elide.core.exceptions.InvalidObjectIdentifierException;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.exceptions.UnknownEntityException;
+import com.yahoo.elide.core.pagination.KeysetPagination;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.core.type.Type;
@@ -91,8 +92,16 @@ public class CollectionTerminalState extends BaseState {
         // Add pagination meta data
         if (!pagination.isDefaultInstance()) {
 
-            Map<String, Number> pageMetaData = new HashMap<>();
-            pageMetaData.put("number", (pagination.getOffset() / pagination.getLimit()) + 1);
+            Map<String, Object> pageMetaData = new HashMap<>();
+            if (KeysetPagination.isKeyset(pagination)) {
+                // Cursors of the first and last records let the client request the neighbouring pages
+                if (pagination.getStartCursor() != null) {
+                    pageMetaData.put("startCursor", pagination.getStartCursor());
+                    pageMetaData.put("endCursor", pagination.getEndCursor());
+                }
+            } else {
+                pageMetaData.put("number", (pagination.getOffset() / pagination.getLimit()) + 1);
+            }
             pageMetaData.put("limit", pagination.getLimit());
 
             // Get total records if it has been requested and add to the page meta data
@@ -110,7 +119,7 @@ public class CollectionTerminalState extends BaseState {
             jsonApiDocument.setMeta(meta);
         }
 
-        JsonNode responseBody = requestScope.getMapper().toJsonObject(jsonApiDocument);
+        JsonNode responseBody = getReadResponseBody(jsonApiDocument, requestScope);
 
         return () -> Pair.of(HttpStatus.SC_OK, responseBody);
     }
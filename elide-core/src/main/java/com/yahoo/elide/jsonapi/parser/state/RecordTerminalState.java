@@ -45,7 +45,9 @@ public class RecordTerminalState extends BaseState {
     @Override
     public Supplier<Pair<Integer, JsonNode>> handleGet(StateContext state) {
         ObjectMapper mapper = state.getRequestScope().getMapper().getObjectMapper();
-        return () -> Pair.of(HttpStatus.SC_OK, getResponseBody(record, state.getRequestScope()));
+        RequestScope requestScope = state.getRequestScope();
+        return () -> Pair.of(HttpStatus.SC_OK,
+                getReadResponseBody(getResponseDocument(record, requestScope), requestScope));
     }
 
     @Override
@@ -13,7 +13,6 @@ import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.exceptions.HttpStatus;
 import com.yahoo.elide.core.exceptions.InvalidEntityBodyException;
 import com.yahoo.elide.core.request.EntityProjection;
-import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.jsonapi.document.processors.DocumentProcessor;
 import com.yahoo.elide.jsonapi.document.processors.IncludedProcessor;
 import com.yahoo.elide.jsonapi.models.Data;
@@ -55,7 +54,6 @@ public class RelationshipTerminalState extends BaseState {
     public Supplier<Pair<Integer, JsonNode>> handleGet(StateContext state) {
         JsonApiDocument doc = new JsonApiDocument();
         RequestScope requestScope = state.getRequestScope();
-        JsonApiMapper mapper = requestScope.getMapper();
         MultivaluedMap<String, String> queryParams = requestScope.getQueryParams();
 
         Map<String, Relationship> relationships = record.toResource(parentProjection).getRelationships();
@@ -72,7 +70,7 @@ public class RelationshipTerminalState extends BaseState {
             DocumentProcessor includedProcessor = new IncludedProcessor();
             includedProcessor.execute(doc, record, queryParams);
 
-            return () -> Pair.of(HttpStatus.SC_OK, mapper.toJsonObject(doc));
+            return () -> Pair.of(HttpStatus.SC_OK, getReadResponseBody(doc, requestScope));
         }
 
         // Handle no data for relationship
@@ -83,7 +81,7 @@ public class RelationshipTerminalState extends BaseState {
         } else {
             throw new IllegalStateException("Failed to GET a relationship; relationship is neither toMany nor toOne");
         }
-        return () -> Pair.of(HttpStatus.SC_OK, mapper.toJsonObject(doc));
+        return () -> Pair.of(HttpStatus.SC_OK, getReadResponseBody(doc, requestScope));
     }
 
     @Override
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide;
+
+import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStore;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.dictionary.TestDictionary;
+import com.yahoo.elide.core.exceptions.HttpStatus;
+import com.yahoo.elide.core.lifecycle.FieldTestModel;
+import com.yahoo.elide.core.request.EntityProjection;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import javax.ws.rs.core.MultivaluedHashMap;
+
+/**
+ * Tests for string and streaming Elide responses.
+ */
+public class ElideResponseTest {
+    private static final String BASE_URL = "http://localhost:8080/api/v1";
+
+    @Test
+    public void testStringBody() throws Exception {
+        ElideResponse response = new ElideResponse(HttpStatus.SC_OK, "{\"data\":[]}");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.writeBody(out);
+
+        assertFalse(response.isStreaming());
+        assertEquals("{\"data\":[]}", response.getBody());
+        assertEquals("{\"data\":[]}", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testStreamingBody() throws Exception {
+        ElideResponse response = new ElideResponse(HttpStatus.SC_OK, null,
+                out -> out.write("{\"data\":[]}".getBytes(StandardCharsets.UTF_8)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.writeBody(out);
+
+        assertTrue(response.isStreaming());
+        assertEquals("{\"data\":[]}", new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        //The body can be rendered more than once.
+        assertEquals("{\"data\":[]}", response.getBody());
+        assertEquals("{\"data\":[]}", response.getBody());
+    }
+
+    @Test
+    public void testStreamingMatchesStringResponse() throws Exception {
+        EntityDictionary dictionary = TestDictionary.getTestDictionary();
+        dictionary.bindEntity(FieldTestModel.class);
+
+        FieldTestModel model = mock(FieldTestModel.class);
+
+        ElideResponse expected = getCollection(getElide(dictionary, model, false));
+        ElideResponse actual = getCollection(getElide(dictionary, model, true));
+
+        assertEquals(HttpStatus.SC_OK, actual.getResponseCode());
+        assertFalse(expected.isStreaming());
+        assertTrue(actual.isStreaming());
+        assertTrue(actual.getBody().contains("\"type\":\"testModel\""));
+        assertEquals(expected.getBody(), actual.getBody());
+    }
+
+    private static ElideResponse getCollection(Elide elide) {
+        return elide.get(BASE_URL, "/testModel", new MultivaluedHashMap<>(), null, NO_VERSION);
+    }
+
+    private static Elide getElide(EntityDictionary dictionary, FieldTestModel model, boolean streaming) {
+        DataStore store = mock(DataStore.class);
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+
+        when(store.beginReadTransaction()).thenCallRealMethod();
+        when(store.beginTransaction()).thenReturn(tx);
+        when(tx.loadObjects(isA(EntityProjection.class), isA(RequestScope.class)))
+                .thenReturn(Arrays.asList(model));
+        when(tx.getRelation(any(), any(), any(), any())).thenReturn(null);
+
+        return new Elide(new ElideSettingsBuilder(store)
+                .withEntityDictionary(dictionary)
+                .withStreamingResponses(streaming)
+                .build());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
+import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.annotation.ReadPermission;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.security.executors.ActivePermissionExecutor;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.DefaultClassScanner;
+import example.Book;
+import example.TestCheckMappings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per request permission setup of a single entity read when every model is bound with its own
+ * permission executor.  {@code lazyExecutors} creates the executor of the model read on first use.
+ * {@code eagerExecutors} also builds the executors of every other model, as each request used to.
+ * <p>
+ * To run:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -pl elide-core
+ * cd elide-core
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.yahoo.elide.core.RequestScopeBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestScopeBenchmark {
+    private static final Type<?> BOOK = ClassType.of(Book.class);
+
+    private EntityDictionary dictionary;
+    private ElideSettings elideSettings;
+
+    @Setup
+    public void setup() {
+        dictionary = EntityDictionary.builder().checks(TestCheckMappings.MAPPINGS).build();
+        DefaultClassScanner.getInstance().getAnnotatedClasses("example", Include.class).forEach(cls -> {
+            dictionary.bindEntity(cls);
+            dictionary.bindPermissionExecutor(cls, ActivePermissionExecutor::new);
+        });
+
+        elideSettings = new ElideSettingsBuilder(null)
+                .withEntityDictionary(dictionary)
+                .build();
+    }
+
+    @Benchmark
+    public Object lazyExecutors() {
+        RequestScope scope = newRequestScope();
+        return scope.getPermissionExecutor().checkUserPermissions(BOOK, ReadPermission.class, "title");
+    }
+
+    @Benchmark
+    public Object eagerExecutors() {
+        RequestScope scope = newRequestScope();
+        dictionary.buildPermissionExecutors(scope);
+        return scope.getPermissionExecutor().checkUserPermissions(BOOK, ReadPermission.class, "title");
+    }
+
+    private RequestScope newRequestScope() {
+        return new RequestScope(null, null, NO_VERSION, null, null, null, null, null, UUID.randomUUID(),
+                elideSettings);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(RequestScopeBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -6,6 +6,8 @@
 package com.yahoo.elide.core.datastore.inmemory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -48,6 +50,7 @@ import org.mockito.ArgumentCaptor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -211,6 +214,145 @@ public class InMemoryStoreTransactionTest {
         assertEquals(author1, sorted[1]);
     }
 
+    @Test
+    public void testSortedPageInMemory() {
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("title", Sorting.SortOrder.desc);
+
+        Sorting sorting = new SortingImpl(sortOrder, Book.class, dictionary);
+        PaginationImpl pagination = new PaginationImpl(ClassType.of(Book.class), 1, 1, 10, 10, true, false);
+
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(pagination)
+                .build();
+
+        when(wrappedTransaction.supportsSorting(eq(scope), any(), eq(projection))).thenReturn(false);
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(Arrays.asList(book1, book3, book2));
+
+        List<Object> loaded = ImmutableList.copyOf(inMemoryStoreTransaction.loadObjects(projection, scope));
+
+        assertEquals(Arrays.asList(book2), loaded);
+        assertEquals(3L, pagination.getPageTotals());
+    }
+
+    @Test
+    public void testUnsortedPageInMemory() {
+        PaginationImpl pagination = new PaginationImpl(ClassType.of(Book.class), 1, 1, 10, 10, true, false);
+
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .pagination(pagination)
+                .build();
+
+        when(wrappedTransaction.supportsFiltering(eq(scope), any(), eq(projection))).thenReturn(DataStoreTransaction.FeatureSupport.FULL);
+        when(wrappedTransaction.supportsPagination(eq(scope), any(), eq(projection))).thenReturn(false);
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(Arrays.asList(book1, book3, book2));
+
+        List<Object> loaded = ImmutableList.copyOf(inMemoryStoreTransaction.loadObjects(projection, scope));
+
+        assertEquals(Arrays.asList(book3), loaded);
+        assertEquals(3L, pagination.getPageTotals());
+    }
+
+    @Test
+    public void testKeysetPaginationInMemory() {
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("genre", Sorting.SortOrder.asc);
+
+        Sorting sorting = new SortingImpl(sortOrder, Book.class, dictionary);
+
+        when(wrappedTransaction.supportsFiltering(eq(scope), any(), any())).thenReturn(DataStoreTransaction.FeatureSupport.NONE);
+        when(wrappedTransaction.supportsSorting(eq(scope), any(), any())).thenReturn(false);
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(books);
+        when(wrappedTransaction.getIdentifyingPaths(eq(scope), any()))
+                .thenReturn(Collections.singletonList(new Path(Book.class, dictionary, "id")));
+
+        PaginationImpl firstPage = new PaginationImpl(ClassType.of(Book.class), null, 2, 10, 10, null, false, "", null);
+        List<Object> loaded = ImmutableList.copyOf(inMemoryStoreTransaction.loadObjects(EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(firstPage)
+                .build(), scope));
+
+        assertEquals(Arrays.asList(book1, book3), loaded);
+        assertNotNull(firstPage.getStartCursor());
+        assertNotNull(firstPage.getEndCursor());
+        assertTrue(firstPage.hasMore());
+
+        PaginationImpl nextPage = new PaginationImpl(ClassType.of(Book.class), null, 2, 10, 10, null, false,
+                firstPage.getEndCursor(), null);
+        loaded = ImmutableList.copyOf(inMemoryStoreTransaction.loadObjects(EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(nextPage)
+                .build(), scope));
+
+        assertEquals(Arrays.asList(book2), loaded);
+        assertFalse(nextPage.hasMore());
+
+        PaginationImpl previousPage = new PaginationImpl(ClassType.of(Book.class), null, 2, 10, 10, null, false,
+                null, nextPage.getStartCursor());
+        loaded = ImmutableList.copyOf(inMemoryStoreTransaction.loadObjects(EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(previousPage)
+                .build(), scope));
+
+        assertEquals(Arrays.asList(book1, book3), loaded);
+        assertEquals(firstPage.getStartCursor(), previousPage.getStartCursor());
+    }
+
+    @Test
+    public void testKeysetPaginationOverNullSortValues() {
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("genre", Sorting.SortOrder.asc);
+
+        Sorting sorting = new SortingImpl(sortOrder, Book.class, dictionary);
+
+        Book book4 = new Book(4, "Book 4", null, "English", System.currentTimeMillis(),
+                Sets.newHashSet(), null, Arrays.asList());
+
+        when(wrappedTransaction.supportsFiltering(eq(scope), any(), any())).thenReturn(DataStoreTransaction.FeatureSupport.NONE);
+        when(wrappedTransaction.supportsSorting(eq(scope), any(), any())).thenReturn(false);
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(Arrays.asList(book1, book2, book3, book4));
+        when(wrappedTransaction.getIdentifyingPaths(eq(scope), any()))
+                .thenReturn(Collections.singletonList(new Path(Book.class, dictionary, "id")));
+
+        //Null sort values sort first.
+        PaginationImpl firstPage = new PaginationImpl(ClassType.of(Book.class), null, 1, 10, 10, null, false, "", null);
+        List<Object> loaded = ImmutableList.copyOf(inMemoryStoreTransaction.loadObjects(EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(firstPage)
+                .build(), scope));
+
+        assertEquals(Arrays.asList(book4), loaded);
+        assertTrue(firstPage.hasMore());
+
+        PaginationImpl nextPage = new PaginationImpl(ClassType.of(Book.class), null, 3, 10, 10, null, false,
+                firstPage.getEndCursor(), null);
+        loaded = ImmutableList.copyOf(inMemoryStoreTransaction.loadObjects(EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(nextPage)
+                .build(), scope));
+
+        assertEquals(Arrays.asList(book1, book3, book2), loaded);
+        assertFalse(nextPage.hasMore());
+
+        PaginationImpl previousPage = new PaginationImpl(ClassType.of(Book.class), null, 3, 10, 10, null, false,
+                null, nextPage.getStartCursor());
+        loaded = ImmutableList.copyOf(inMemoryStoreTransaction.loadObjects(EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(previousPage)
+                .build(), scope));
+
+        assertEquals(Arrays.asList(book4), loaded);
+    }
+
     @Test
     public void testTransactionRequiresInMemoryFilterDuringGetRelation() {
         FilterExpression expression =
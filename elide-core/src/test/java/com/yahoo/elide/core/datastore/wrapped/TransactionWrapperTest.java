@@ -18,6 +18,8 @@ import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.request.Attribute;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 public class TransactionWrapperTest {
@@ -203,6 +205,20 @@ public class TransactionWrapperTest {
         assertEquals(1L, actual);
     }
 
+    @Test
+    public void testGetRelations() {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        DataStoreTransaction wrapper = new TestTransactionWrapper(wrapped);
+
+        Map<Object, Object> expected = Collections.singletonMap(1L, 2L);
+        when(wrapped.getRelations(any(), any(), any(), any())).thenReturn(expected);
+
+        Map<Object, Object> actual = wrapper.getRelations(null, null, null, null);
+
+        verify(wrapped, times(1)).getRelations(any(), any(), any(), any());
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void testLoadObject() {
         DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.dictionary;
+
+import com.yahoo.elide.core.type.AccessibleObject;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.core.type.Method;
+import com.yahoo.elide.core.type.Type;
+import example.Book;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading and writing model fields through the bound accessors of {@link EntityDictionary} with the
+ * reflective lookup and invocation it used to perform on every call.
+ * <p>
+ * To run:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -pl elide-core
+ * cd elide-core
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.yahoo.elide.core.dictionary.EntityDictionaryBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityDictionaryBenchmark {
+    private EntityDictionary dictionary;
+    private Book book;
+
+    @Setup
+    public void setup() {
+        dictionary = EntityDictionary.builder().build();
+        dictionary.bindEntity(Book.class);
+
+        book = new Book();
+        book.setTitle("Foundation");
+        book.setPublishDate(1L);
+    }
+
+    @Benchmark
+    public Object getValue() {
+        return dictionary.getValue(book, "title", null);
+    }
+
+    @Benchmark
+    public Object getPrimitiveValue() {
+        return dictionary.getValue(book, "publishDate", null);
+    }
+
+    @Benchmark
+    public void setValue() {
+        dictionary.setValue(book, "title", "Foundation");
+    }
+
+    @Benchmark
+    public Object reflectiveGetValue() throws Exception {
+        AccessibleObject accessor = dictionary.getAccessibleObject(book, "title");
+        if (dictionary.isMethodRequestScopeable(book, (Method) accessor)) {
+            return ((Method) accessor).invoke(book, (Object) null);
+        }
+        return ((Method) accessor).invoke(book);
+    }
+
+    @Benchmark
+    public void reflectiveSetValue() throws Exception {
+        Type<?> targetClass = ClassType.of(Book.class);
+        Type<?> fieldClass = dictionary.getType(targetClass, "title");
+        String realName = dictionary.getNameFromAlias(book, "title");
+        String setMethod = "set" + StringUtils.capitalize(realName != null ? realName : "title");
+        Method method = EntityDictionary.findMethod(targetClass, setMethod, fieldClass);
+        method.invoke(book, dictionary.coerce(book, "Foundation", "title", fieldClass));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(EntityDictionaryBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -22,6 +22,8 @@ import com.yahoo.elide.annotation.LifeCycleHookBinding;
 import com.yahoo.elide.annotation.ReadPermission;
 import com.yahoo.elide.annotation.SecurityCheck;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
+import com.yahoo.elide.core.exceptions.InternalServerErrorException;
 import com.yahoo.elide.core.exceptions.InvalidAttributeException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.lifecycle.LifeCycleHook;
@@ -43,6 +45,7 @@ import example.Author;
 import example.Book;
 import example.Child;
 import example.CoerceBean;
+import example.ComputedBean;
 import example.Editor;
 import example.FieldAnnotations;
 import example.FunWithPermissions;
@@ -329,6 +332,36 @@ public class EntityDictionaryTest extends EntityDictionary {
         assertEquals(1, getAllFields(ClassType.of(Foo4.class)).size());
     }
 
+    @Test
+    public void testHasTriggers() {
+        @Entity
+        @Include(rootLevel = false)
+        class Foo5 {
+            @Id
+            private long id;
+
+            private int bar;
+
+            private int baz;
+        }
+
+        LifeCycleHook<Foo5> trigger = mock(LifeCycleHook.class);
+        Type<?> type = ClassType.of(Foo5.class);
+
+        bindTrigger(Foo5.class, "bar", UPDATE, LifeCycleHookBinding.TransactionPhase.PRECOMMIT, trigger);
+        bindTrigger(Foo5.class, UPDATE, LifeCycleHookBinding.TransactionPhase.POSTCOMMIT, trigger, true);
+
+        assertTrue(hasTriggers(type, UPDATE));
+        assertFalse(hasTriggers(type, LifeCycleHookBinding.Operation.READ));
+
+        assertTrue(hasTriggers(type, UPDATE, LifeCycleHookBinding.TransactionPhase.PRECOMMIT, "bar"));
+        assertFalse(hasTriggers(type, UPDATE, LifeCycleHookBinding.TransactionPhase.PRECOMMIT, "baz"));
+        assertFalse(hasTriggers(type, UPDATE, LifeCycleHookBinding.TransactionPhase.PRESECURITY, "bar"));
+
+        assertTrue(hasTriggers(type, UPDATE, LifeCycleHookBinding.TransactionPhase.POSTCOMMIT, "baz"));
+        assertFalse(hasTriggers(type, UPDATE, LifeCycleHookBinding.TransactionPhase.POSTCOMMIT, ""));
+    }
+
     @Test
     public void testJPAFieldLevelAccess() {
         @Entity
@@ -1010,6 +1043,54 @@ public class EntityDictionaryTest extends EntityDictionary {
         assertFalse(hasBinding(ClassType.of(String.class)));
     }
 
+    @Test
+    public void testFieldAccessors() throws Exception {
+        @Include(rootLevel = false)
+        class FieldAccessBean {
+            @Id
+            private long id;
+
+            private int count;
+
+            @ComputedAttribute
+            public String getFailure() {
+                throw new IllegalStateException("failure");
+            }
+
+            @ComputedAttribute
+            public String getForbidden() {
+                throw new ForbiddenAccessException(ReadPermission.class);
+            }
+        }
+
+        bindEntity(FieldAccessBean.class);
+        bindEntity(ComputedBean.class);
+
+        FieldAccessBean bean = new FieldAccessBean();
+        setValue(bean, "id", "5");
+        setValue(bean, "count", 3L);
+
+        assertEquals(5L, bean.id);
+        assertEquals(3, bean.count);
+        assertEquals(5L, getValue(bean, "id", null));
+        assertEquals(3, getValue(bean, "count", null));
+
+        assertThrows(InternalServerErrorException.class, () -> getValue(bean, "failure", null));
+        assertThrows(ForbiddenAccessException.class, () -> getValue(bean, "forbidden", null));
+        assertThrows(InvalidAttributeException.class, () -> setValue(bean, "failure", "value"));
+
+        Book book = new Book();
+        setValue(book, "publishDate", 10);
+        assertEquals(10L, book.getPublishDate());
+        assertEquals(10L, getValue(book, "publishDate", null));
+
+        ComputedBean computed = new ComputedBean();
+        RequestScope scope = mock(RequestScope.class);
+        assertEquals("test1", getValue(computed, "test", scope));
+        assertEquals("test2", getValue(computed, "testWithScope", scope));
+        assertEquals("test3", getValue(computed, "testWithSecurityScope", scope));
+    }
+
     @Test
     public void testCoerce() throws Exception {
         bindEntity(CoerceBean.class);
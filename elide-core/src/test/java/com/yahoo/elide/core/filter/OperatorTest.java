@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.core.filter;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -129,6 +130,35 @@ public class OperatorTest {
         assertTrue(fn.test(author));
     }
 
+    @Test
+    public void predicateReusedAcrossEntitiesTest() throws Exception {
+        List<Object> ids = new ArrayList<>();
+        for (int id = 0; id < 1000; id += 2) {
+            ids.add(String.valueOf(id));
+        }
+
+        Predicate in = Operator.IN.contextualize(constructPath(Author.class, "id"), ids, requestScope);
+        Predicate notIn = Operator.NOT.contextualize(constructPath(Author.class, "id"), ids, requestScope);
+        Predicate inInsensitive = Operator.IN_INSENSITIVE.contextualize(constructPath(Author.class, "name"),
+                Arrays.asList("AUTHOR0", "author2"), requestScope);
+        Predicate prefix = Operator.PREFIX_CASE_INSENSITIVE.contextualize(constructPath(Author.class, "name"),
+                Collections.singletonList("AUTH"), requestScope);
+        Predicate lt = Operator.LT.contextualize(constructPath(Author.class, "id"),
+                Collections.singletonList("3"), requestScope);
+
+        for (long id = 0; id < 4; id++) {
+            author = new Author();
+            author.setId(id);
+            author.setName("Author" + id);
+
+            assertEquals(id % 2 == 0, in.test(author));
+            assertEquals(id % 2 != 0, notIn.test(author));
+            assertEquals(id == 0 || id == 2, inInsensitive.test(author));
+            assertTrue(prefix.test(author));
+            assertEquals(id < 3, lt.test(author));
+        }
+    }
+
     @Test
     public void isnullAndNotnullTest() throws Exception {
         author = new Author();
@@ -75,6 +75,19 @@ public class RSQLFilterDialectTest {
         );
     }
 
+    @Test
+    public void testCachedExpressionBoundPerType() throws Exception {
+        FilterExpression bookExpression = dialect.parseFilterExpression("title==foo,title=in=(bar,baz)",
+                ClassType.of(Book.class), true);
+        FilterExpression jobExpression = dialect.parseFilterExpression("title==foo,title=in=(bar,baz)",
+                ClassType.of(Job.class), true);
+
+        assertEquals("(book.title IN [foo] OR book.title IN [bar, baz])", bookExpression.toString());
+        assertEquals("(job.title IN [foo] OR job.title IN [bar, baz])", jobExpression.toString());
+        assertEquals(bookExpression, dialect.parseFilterExpression("title==foo,title=in=(bar,baz)",
+                ClassType.of(Book.class), true));
+    }
+
     @Test
     public void testTypedExpressionParsing() throws Exception {
         MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
@@ -7,6 +7,7 @@ package com.yahoo.elide.core.pagination;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.yahoo.elide.ElideSettings;
@@ -76,6 +77,55 @@ public class PaginationImplTest {
         assertEquals(10, pageData.getLimit());
     }
 
+    @Test
+    public void shouldParseQueryParamsForCursor() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[size]", "10");
+        queryParams.add("page[after]", "abc");
+
+        PaginationImpl pageData = PaginationImpl.parseQueryParams(ClassType.of(PaginationImplTest.class),
+                queryParams, elideSettings);
+        assertEquals("abc", pageData.getAfter());
+        assertNull(pageData.getBefore());
+        assertEquals(10, pageData.getLimit());
+        assertFalse(pageData.isDefaultInstance());
+    }
+
+    @Test
+    public void shouldParseEmptyCursorAsFirstPage() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[before]", "");
+
+        PaginationImpl pageData = PaginationImpl.parseQueryParams(ClassType.of(PaginationImplTest.class),
+                queryParams, elideSettings);
+        assertEquals("", pageData.getBefore());
+        assertNull(pageData.getAfter());
+    }
+
+    @Test
+    public void shouldThrowExceptionForInvalidCursorCombinations() {
+        MultivaluedMap<String, String> afterAndBefore = new MultivaluedStringMap();
+        afterAndBefore.add("page[after]", "abc");
+        afterAndBefore.add("page[before]", "def");
+
+        assertThrows(InvalidValueException.class, () -> PaginationImpl.parseQueryParams(
+                ClassType.of(PaginationImplTest.class), afterAndBefore, elideSettings));
+
+        MultivaluedMap<String, String> cursorAndNumber = new MultivaluedStringMap();
+        cursorAndNumber.add("page[after]", "abc");
+        cursorAndNumber.add("page[number]", "2");
+
+        assertThrows(InvalidValueException.class, () -> PaginationImpl.parseQueryParams(
+                ClassType.of(PaginationImplTest.class), cursorAndNumber, elideSettings));
+
+        MultivaluedMap<String, String> cursorAndTotals = new MultivaluedStringMap();
+        cursorAndTotals.add("page[after]", "abc");
+        cursorAndTotals.add("page[totals]", null);
+
+        assertThrows(InvalidValueException.class, () -> PaginationImpl.parseQueryParams(
+                ClassType.of(PaginationImplTest.class), cursorAndTotals, elideSettings));
+    }
+
     @Test
     public void shouldUseDefaultsWhenMissingCurrentPageAndPageSize() {
         MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
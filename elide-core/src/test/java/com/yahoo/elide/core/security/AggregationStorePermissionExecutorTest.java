@@ -7,17 +7,20 @@
 package com.yahoo.elide.core.security;
 
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
+import static org.mockito.Mockito.mock;
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.annotation.Include;
 import com.yahoo.elide.annotation.ReadPermission;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.dictionary.TestDictionary;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.predicates.NotNullPredicate;
+import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.security.checks.Check;
 import com.yahoo.elide.core.security.checks.FilterExpressionCheck;
 import com.yahoo.elide.core.security.checks.prefab.Role;
@@ -25,18 +28,23 @@ import com.yahoo.elide.core.security.executors.AggregationStorePermissionExecuto
 import com.yahoo.elide.core.security.permissions.ExpressionResult;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.jsonapi.models.Resource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.mockito.Answers;
 import lombok.Value;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import javax.persistence.Entity;
+import javax.persistence.Id;
 
 /**
  * test Aggregation Store Permission Executor
@@ -135,6 +143,43 @@ public class AggregationStorePermissionExecutorTest {
 
     }
 
+    @Test
+    public void testReadableAttributesResolvedOncePerType() {
+        @Entity
+        @Include
+        @Value
+        class Model4 {
+            @Id
+            String id;
+
+            @ReadPermission(expression = "user all")
+            String filterDim;
+
+            @ReadPermission(expression = "user none")
+            long metric;
+
+            long metric2;
+        }
+
+        com.yahoo.elide.core.RequestScope scope = bindAndgetRequestScope(Model4.class,
+                mock(DataStoreTransaction.class, Answers.CALLS_REAL_METHODS));
+        Assertions.assertTrue(scope.getPermissionExecutor().isUserCheckOnly(ClassType.of(Model4.class)));
+
+        Resource first = new PersistentResource(new Model4("1", "dim1", 0, 1), "1", scope).toResource();
+        Assertions.assertEquals(Arrays.asList("filterDim", "metric2"), new ArrayList<>(first.getAttributes().keySet()));
+        Assertions.assertEquals("dim1", first.getAttributes().get("filterDim"));
+
+        Resource second = new PersistentResource(new Model4("2", "dim2", 0, 2), "2", scope).toResource();
+        Assertions.assertEquals("dim2", second.getAttributes().get("filterDim"));
+        Assertions.assertEquals(2L, second.getAttributes().get("metric2"));
+
+        //Resolved by the first resource and reused by every other resource of the type.
+        List<Attribute> readable = scope.getReadableAttributes(ClassType.of(Model4.class), () -> {
+            throw new IllegalStateException();
+        });
+        Assertions.assertEquals(2, readable.size());
+    }
+
     @Test
     public void filterTest() {
         @Entity
@@ -188,8 +233,12 @@ public class AggregationStorePermissionExecutorTest {
     }
 
     private com.yahoo.elide.core.RequestScope bindAndgetRequestScope(Class clz) {
+        return bindAndgetRequestScope(clz, null);
+    }
+
+    private com.yahoo.elide.core.RequestScope bindAndgetRequestScope(Class clz, DataStoreTransaction transaction) {
         dictionary.bindEntity(clz);
         dictionary.bindPermissionExecutor(clz, AggregationStorePermissionExecutor::new);
-        return new com.yahoo.elide.core.RequestScope(null, null, NO_VERSION, null, null, null, null, null, UUID.randomUUID(), elideSettings);
+        return new com.yahoo.elide.core.RequestScope(null, null, NO_VERSION, null, transaction, null, null, null, UUID.randomUUID(), elideSettings);
     }
 }
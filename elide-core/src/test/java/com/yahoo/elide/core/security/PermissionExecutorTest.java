@@ -21,6 +21,7 @@ import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.security.checks.OperationCheck;
 import com.yahoo.elide.core.security.checks.UserCheck;
+import com.yahoo.elide.core.security.executors.ActivePermissionExecutor;
 import com.yahoo.elide.core.security.permissions.ExpressionResult;
 import com.yahoo.elide.core.type.ClassType;
 import example.TestCheckMappings;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 
@@ -508,6 +510,40 @@ public class PermissionExecutorTest {
         assertEquals(ExpressionResult.DEFERRED, result);
     }
 
+    @Test
+    public void testPermissionExecutorsCreatedOnFirstUse() {
+        @Entity
+        @Include(rootLevel = false)
+        @ReadPermission(expression = "Prefab.Role.All")
+        class Model { }
+
+        @Entity
+        @Include(rootLevel = false)
+        @ReadPermission(expression = "Prefab.Role.All")
+        class CustomModel { }
+
+        AtomicInteger created = new AtomicInteger();
+        EntityDictionary dictionary = EntityDictionary.builder().checks(TestCheckMappings.MAPPINGS).build();
+        dictionary.bindEntity(Model.class);
+        dictionary.bindEntity(CustomModel.class);
+        dictionary.bindPermissionExecutor(CustomModel.class, scope -> {
+            created.incrementAndGet();
+            return new ActivePermissionExecutor(scope);
+        });
+
+        RequestScope requestScope = new RequestScope(null, null, NO_VERSION, null, null, null, null, null,
+                UUID.randomUUID(), getElideSettings(dictionary));
+        PermissionExecutor executor = requestScope.getPermissionExecutor();
+        assertEquals(0, created.get());
+
+        executor.checkUserPermissions(ClassType.of(Model.class), ReadPermission.class, ALL_FIELDS);
+        assertEquals(0, created.get());
+
+        executor.checkUserPermissions(ClassType.of(CustomModel.class), ReadPermission.class, ALL_FIELDS);
+        executor.checkUserPermissions(ClassType.of(CustomModel.class), ReadPermission.class, ALL_FIELDS);
+        assertEquals(1, created.get());
+    }
+
     public <T> PersistentResource<T> newResource(T obj, Class<T> cls, boolean markNew) {
         EntityDictionary dictionary = EntityDictionary.builder().checks(TestCheckMappings.MAPPINGS).build();
         dictionary.bindEntity(cls);
@@ -7,6 +7,7 @@ package com.yahoo.elide.core.security.permissions;
 
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.annotation.Include;
@@ -20,6 +21,8 @@ import com.yahoo.elide.core.security.ChangeSpec;
 import com.yahoo.elide.core.security.checks.Check;
 import com.yahoo.elide.core.security.checks.prefab.Role;
 import com.yahoo.elide.core.security.permissions.expressions.Expression;
+import com.yahoo.elide.core.type.ClassType;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -124,6 +127,37 @@ public class PermissionExpressionBuilderTest {
 
      }
 
+    @Test
+    public void testExpressionTemplatesSharedAcrossRequests() {
+        @Entity
+        @Include(rootLevel = false)
+        @ReadPermission(expression = "NOT (user has all access AND user has no access)")
+        class Model { }
+        dictionary.bindEntity(Model.class);
+
+        ParseTree permissions = dictionary.getPermissionsForClass(ClassType.of(Model.class), ReadPermission.class);
+
+        Expression first = builder.buildAnyFieldExpressions(
+                newResource(new Model(), Model.class),
+                ReadPermission.class,
+                null, null);
+        first.evaluate(Expression.EvaluationMode.ALL_CHECKS);
+
+        Expression second = new PermissionExpressionBuilder(new ExpressionResultCache(), dictionary)
+                .buildAnyFieldExpressions(
+                        newResource(new Model(), Model.class),
+                        ReadPermission.class,
+                        null, null);
+
+        assertSame(dictionary.getPermissionExpressionTemplate(permissions),
+                dictionary.getPermissionExpressionTemplate(permissions));
+        assertEquals("READ PERMISSION WAS INVOKED ON PersistentResource{type=model, id=null}  "
+                        + "FOR EXPRESSION [(NOT ((user has all access \u001B[34mWAS UNEVALUATED\u001B[m))) "
+                        + "OR (NOT ((user has no access \u001B[34mWAS UNEVALUATED\u001B[m)))]",
+                second.toString());
+        assertEquals(ExpressionResult.PASS, second.evaluate(Expression.EvaluationMode.ALL_CHECKS));
+    }
+
     public <T> PersistentResource newResource(T obj, Class<T> cls) {
         RequestScope requestScope = new RequestScope(null, null, NO_VERSION, null, null, null, null, null, UUID.randomUUID(), elideSettings);
         return new PersistentResource<>(obj, requestScope.getUUIDFor(obj), requestScope);
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security.permissions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import com.yahoo.elide.core.security.TestUser;
+import com.yahoo.elide.core.security.User;
+import com.yahoo.elide.core.security.checks.UserCheck;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+public class UserCheckResultCacheTest {
+
+    private static class CountingCheck extends UserCheck {
+        private final boolean cacheable;
+        private int evaluations;
+
+        CountingCheck(boolean cacheable) {
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public boolean ok(User user) {
+            evaluations++;
+            return true;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return cacheable;
+        }
+    }
+
+    @Test
+    public void testResultsSharedPerPrincipal() {
+        UserCheckResultCache cache = new UserCheckResultCache(Duration.ofMinutes(1));
+        CountingCheck check = new CountingCheck(true);
+
+        assertTrue(cache.ok(check, new TestUser("alice")));
+        assertTrue(cache.ok(check, new TestUser("alice")));
+        assertEquals(1, check.evaluations);
+
+        assertTrue(cache.ok(check, new TestUser("bob")));
+        assertEquals(2, check.evaluations);
+    }
+
+    @Test
+    public void testUncacheableChecksAndAnonymousUsersAlwaysEvaluated() {
+        UserCheckResultCache cache = new UserCheckResultCache(Duration.ofMinutes(1));
+        CountingCheck uncacheable = new CountingCheck(false);
+        CountingCheck cacheable = new CountingCheck(true);
+
+        cache.ok(uncacheable, new TestUser("alice"));
+        cache.ok(uncacheable, new TestUser("alice"));
+        assertEquals(2, uncacheable.evaluations);
+
+        cache.ok(cacheable, new User(null));
+        cache.ok(cacheable, new User(null));
+        assertEquals(2, cacheable.evaluations);
+    }
+
+    @Test
+    public void testResultsExpire() {
+        UserCheckResultCache cache = new UserCheckResultCache(Duration.ZERO);
+        CountingCheck check = new CountingCheck(true);
+
+        cache.ok(check, new TestUser("alice"));
+        cache.ok(check, new TestUser("alice"));
+        assertEquals(2, check.evaluations);
+    }
+}
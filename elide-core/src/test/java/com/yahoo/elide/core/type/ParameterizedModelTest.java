@@ -14,6 +14,8 @@ import com.yahoo.elide.core.exceptions.InvalidParameterizedAttributeException;
 import com.yahoo.elide.core.request.Attribute;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 public class ParameterizedModelTest {
 
     @Test
@@ -50,6 +52,31 @@ public class ParameterizedModelTest {
         assertEquals(testValue, testModel.fetch(testAttribute.getAlias(), "blah"));
     }
 
+    @Test
+    public void testLayoutValues() {
+        Attribute foo = Attribute.builder().type(STRING_TYPE).name("foo").build();
+        Attribute bar = Attribute.builder().type(STRING_TYPE).name("bar").alias("baz").build();
+        Attribute other = Attribute.builder().type(STRING_TYPE).name("other").build();
+        AttributeLayout layout = new AttributeLayout(Arrays.asList(foo, bar));
+
+        ParameterizedModel testModel = spy(ParameterizedModel.class);
+        testModel.addAttributeValues(layout, new Object[] { "fooValue", "bazValue" });
+        testModel.addAttributeValue(other, "otherValue");
+
+        assertEquals("fooValue", testModel.invoke(foo));
+        assertEquals("bazValue", testModel.fetch("baz", "blah"));
+        assertEquals("blah", testModel.fetch("bar", "blah"));
+        assertEquals("otherValue", testModel.invoke(other));
+
+        //Values of attributes in the layout are replaced in place.
+        testModel.addAttributeValue(foo, "newValue");
+        assertEquals("newValue", testModel.fetch("foo", "blah"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> testModel.addAttributeValues(layout, new Object[] { "fooValue" }));
+        assertThrows(IllegalArgumentException.class, () -> new AttributeLayout(Arrays.asList(foo, foo)));
+    }
+
     @Test
     public void testFetchDefault() {
         ParameterizedModel testModel = spy(ParameterizedModel.class);
@@ -6,7 +6,11 @@
 package com.yahoo.elide.parsers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import com.yahoo.elide.jsonapi.parser.JsonApiParser;
+import com.yahoo.elide.jsonapi.parser.ParseTreeCache;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.junit.jupiter.api.Test;
 
 public class JsonApiParserTest {
@@ -31,4 +35,15 @@ public class JsonApiParserTest {
         normalizedPath = JsonApiParser.normalizePath("//books//1//author//");
         assertEquals("books/1/author", normalizedPath,  "it deduplicates path separators");
     }
+
+    @Test
+    public void testParseTreesAreShared() {
+        ParseTreeCache cache = new ParseTreeCache(16);
+        ParseTree tree = cache.parse("/books/1/author");
+
+        assertSame(tree, cache.parse("books//1/author/"), "it reuses the tree of the normalized path");
+        assertNotSame(tree, cache.parse("books/2/author"));
+        assertNotSame(tree, JsonApiParser.parse("books/1/author"), "trees are only shared through a cache");
+        assertEquals("books/1/author", tree.getText());
+    }
 }
@@ -20,6 +20,7 @@ import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.datastores.aggregation.annotation.Join;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
+import com.yahoo.elide.datastores.aggregation.cache.CacheTeeIterable;
 import com.yahoo.elide.datastores.aggregation.core.QueryLogger;
 import com.yahoo.elide.datastores.aggregation.metadata.enums.ValueType;
 import com.yahoo.elide.datastores.aggregation.metadata.models.ArgumentDefinition;
@@ -54,6 +55,18 @@ public class AggregationDataStore implements DataStore {
     private final Set<Type<?>> dynamicCompiledClasses;
     private final QueryLogger queryLogger;
 
+    /**
+     * The most rows of a single query result that will be held in memory for the cache.
+     */
+    @Builder.Default
+    private final long cacheMaximumRows = CacheTeeIterable.DEFAULT_MAXIMUM_ROWS;
+
+    /**
+     * The most (estimated) bytes of a single query result that will be held in memory for the cache.
+     */
+    @Builder.Default
+    private final long cacheMaximumBytes = CacheTeeIterable.DEFAULT_MAXIMUM_BYTES;
+
     private final Function<RequestScope, PermissionExecutor> aggPermissionExecutor =
             AggregationStorePermissionExecutor::new;
 
@@ -115,7 +128,8 @@ public class AggregationDataStore implements DataStore {
 
     @Override
     public DataStoreTransaction beginTransaction() {
-        return new AggregationDataStoreTransaction(queryEngine, cache, queryLogger);
+        return new AggregationDataStoreTransaction(queryEngine, cache, queryLogger,
+                cacheMaximumRows, cacheMaximumBytes);
     }
 
     /**
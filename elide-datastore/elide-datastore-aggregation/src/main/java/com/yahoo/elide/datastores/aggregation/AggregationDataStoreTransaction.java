@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.datastores.aggregation;
 
+import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
@@ -15,8 +16,10 @@ import com.yahoo.elide.core.exceptions.InvalidOperationException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.request.Argument;
 import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.type.ParameterizedModel;
 import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
+import com.yahoo.elide.datastores.aggregation.cache.CacheTeeIterable;
 import com.yahoo.elide.datastores.aggregation.cache.QueryKeyExtractor;
 import com.yahoo.elide.datastores.aggregation.core.QueryLogger;
 import com.yahoo.elide.datastores.aggregation.core.QueryResponse;
@@ -25,10 +28,10 @@ import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Column;
 import com.yahoo.elide.datastores.aggregation.metadata.models.RequiresFilter;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
+import com.yahoo.elide.datastores.aggregation.query.ColumnProjection;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
 import com.google.common.annotations.VisibleForTesting;
-import org.apache.commons.compress.utils.Lists;
 import lombok.ToString;
 
 import java.io.IOException;
@@ -42,19 +45,33 @@ import java.util.stream.Collectors;
  */
 @ToString
 public class AggregationDataStoreTransaction implements DataStoreTransaction {
+    //Rough heap estimates used to keep cached results under the byte budget.
+    private static final long ROW_BYTES = 64;
+    private static final long VALUE_BYTES = 32;
+
     private final QueryEngine queryEngine;
     private final Cache cache;
     private final QueryEngine.Transaction queryEngineTransaction;
     private final QueryLogger queryLogger;
     private final MetaDataStore metaDataStore;
+    private final long cacheMaximumRows;
+    private final long cacheMaximumBytes;
 
     public AggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache,
                                            QueryLogger queryLogger) {
+        this(queryEngine, cache, queryLogger, CacheTeeIterable.DEFAULT_MAXIMUM_ROWS,
+                CacheTeeIterable.DEFAULT_MAXIMUM_BYTES);
+    }
+
+    public AggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache,
+                                           QueryLogger queryLogger, long cacheMaximumRows, long cacheMaximumBytes) {
         this.queryEngine = queryEngine;
         this.cache = cache;
         this.queryEngineTransaction = queryEngine.beginTransaction();
         this.queryLogger = queryLogger;
         this.metaDataStore = queryEngine.getMetaDataStore();
+        this.cacheMaximumRows = cacheMaximumRows;
+        this.cacheMaximumBytes = cacheMaximumBytes;
     }
 
     @Override
@@ -77,6 +94,24 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
         queryEngineTransaction.close();
     }
 
+    /**
+     * Aggregated rows are grouped by their projected dimensions, so the dimensions identify a row.  The ID of an
+     * aggregated row is a row number within a single query and cannot be sorted on.
+     */
+    @Override
+    public List<Path> getIdentifyingPaths(RequestScope scope, EntityProjection projection) {
+        EntityDictionary dictionary = scope.getDictionary();
+        Type<?> type = projection.getType();
+        String idFieldName = dictionary.getIdFieldName(type);
+
+        return projection.getAttributes().stream()
+                .filter(attribute -> !attribute.getName().equals(idFieldName))
+                .filter(attribute -> !MetaDataStore.isMetricField(dictionary, type, attribute.getName()))
+                .map(attribute -> new Path(type, dictionary, attribute.getName(), attribute.getAlias(),
+                        attribute.getArguments()))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public <T> void createObject(T entity, RequestScope scope) {
         throwReadOnlyException(entity);
@@ -110,21 +145,13 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
             }
 
             boolean isCached = result != null;
-            List<String> queryText = queryEngine.explain(query);
-            queryLogger.processQuery(scope.getRequestId(), query, queryText, isCached);
+            queryLogger.processQuery(scope.getRequestId(), query, () -> queryEngine.explain(query), isCached);
             if (result == null) {
                 result = queryEngine.executeQuery(query, queryEngineTransaction);
                 if (cacheKey != null) {
 
-                    //The query result needs to be streamed into an in memory list before caching.
-                    //TODO - add a cap to how many records can be streamed back.  If this is exceeded, abort caching
-                    //and return the results.
-                    QueryResult cacheableResult = QueryResult.builder()
-                            .data(Lists.newArrayList(result.getData().iterator()))
-                            .pageTotals(result.getPageTotals())
-                            .build();
-                    cache.put(cacheKey, cacheableResult);
-                    result = cacheableResult;
+                    //Rows are streamed back to the caller and only cached if the whole result fits in the budget.
+                    result = cacheWhenComplete(cacheKey, query, result);
                 }
             }
             if (entityProjection.getPagination() != null && entityProjection.getPagination().returnPageTotals()) {
@@ -143,6 +170,38 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
         }
     }
 
+    private QueryResult cacheWhenComplete(String cacheKey, Query query, QueryResult result) {
+        Long pageTotals = result.getPageTotals();
+        int columns = query.getColumnProjections().size();
+
+        Iterable<Object> data = new CacheTeeIterable(
+                result.getData(),
+                cacheMaximumRows,
+                cacheMaximumBytes,
+                (row) -> estimateRowSize(row, query, columns),
+                (rows) -> cache.put(cacheKey, QueryResult.builder().data(rows).pageTotals(pageTotals).build()));
+
+        return QueryResult.builder()
+                .data(data)
+                .pageTotals(pageTotals)
+                .build();
+    }
+
+    private static long estimateRowSize(Object row, Query query, int columns) {
+        if (! (row instanceof ParameterizedModel)) {
+            return ROW_BYTES + columns * VALUE_BYTES;
+        }
+
+        long size = ROW_BYTES;
+        for (ColumnProjection column : query.getColumnProjections()) {
+            Object value = ((ParameterizedModel) row).fetch(column.getAlias(), null);
+            size += value instanceof CharSequence
+                    ? VALUE_BYTES + 2L * ((CharSequence) value).length()
+                    : VALUE_BYTES;
+        }
+        return size;
+    }
+
     @Override
     public void close() throws IOException {
         queryEngineTransaction.close();
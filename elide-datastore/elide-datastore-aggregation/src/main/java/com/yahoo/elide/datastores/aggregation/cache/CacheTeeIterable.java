@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Streams query result rows to the caller while buffering them for the query cache.
+ * <p>
+ * Rows are buffered as they are read.  Once the source is exhausted, the buffered rows are handed to the cache.
+ * If the result grows past the row or byte budget, the buffer is discarded and the remaining rows are streamed
+ * without being held in memory or cached.  Results that are not read to the end are never cached.
+ */
+public class CacheTeeIterable implements Iterable<Object> {
+    public static final long DEFAULT_MAXIMUM_ROWS = 10_000;
+    public static final long DEFAULT_MAXIMUM_BYTES = 16 * 1024 * 1024;
+
+    private final Iterable<Object> source;
+    private final long maximumRows;
+    private final long maximumBytes;
+    private final ToLongFunction<Object> rowSize;
+    private final Consumer<List<Object>> onComplete;
+
+    private List<Object> cached = null;
+
+    /**
+     * Constructor.
+     * @param source The rows to stream.
+     * @param maximumRows The most rows that will be buffered for the cache.
+     * @param maximumBytes The most (estimated) bytes that will be buffered for the cache.
+     * @param rowSize Estimates the bytes a row holds.
+     * @param onComplete Receives the rows once the source is exhausted under budget.
+     */
+    public CacheTeeIterable(Iterable<Object> source, long maximumRows, long maximumBytes,
+                            ToLongFunction<Object> rowSize, Consumer<List<Object>> onComplete) {
+        this.source = source;
+        this.maximumRows = maximumRows;
+        this.maximumBytes = maximumBytes;
+        this.rowSize = rowSize;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        //Once a result has been cached, it can be iterated again without going back to the source.
+        if (cached != null) {
+            return cached.iterator();
+        }
+
+        Iterator<Object> iterator = source.iterator();
+        return new Iterator<Object>() {
+            private List<Object> buffer = new ArrayList<>();
+            private long bytes = 0;
+
+            @Override
+            public boolean hasNext() {
+                boolean hasNext = iterator.hasNext();
+                if (! hasNext && buffer != null) {
+                    cached = buffer;
+                    buffer = null;
+                    onComplete.accept(cached);
+                }
+                return hasNext;
+            }
+
+            @Override
+            public Object next() {
+                Object row = iterator.next();
+                if (buffer != null) {
+                    bytes += rowSize.applyAsLong(row);
+                    if (buffer.size() >= maximumRows || bytes > maximumBytes) {
+                        buffer = null;
+                    } else {
+                        buffer.add(row);
+                    }
+                }
+                return row;
+            }
+        };
+    }
+}
@@ -23,6 +23,8 @@ import com.yahoo.elide.datastores.aggregation.query.Queryable;
 
 import java.util.Comparator;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Generate a cache key for a given Query.
@@ -38,17 +40,34 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
     private static final int ESTIMATED_KEY_SIZE = 128;
 
     private final StringBuilder keyBuilder;
+    private final boolean shapeOnly;
 
-    private QueryKeyExtractor() {
+    private QueryKeyExtractor(boolean shapeOnly) {
         keyBuilder = new StringBuilder(ESTIMATED_KEY_SIZE);
+        this.shapeOnly = shapeOnly;
     }
 
     public static String extractKey(Query query) {
-        QueryKeyExtractor extractor = new QueryKeyExtractor();
+        QueryKeyExtractor extractor = new QueryKeyExtractor(false);
         extractor.visit(query);
         return extractor.keyBuilder.toString();
     }
 
+    /**
+     * Generates a key for the shape of a query.  Queries that differ only by their filter values share a shape
+     * (and translate to the same SQL with different parameter values).
+     * @param query The query.
+     * @return The key.
+     */
+    public static String extractShapeKey(Query query) {
+        QueryKeyExtractor extractor = new QueryKeyExtractor(true);
+        extractor.visit(query);
+
+        //Table arguments are substituted into the SQL.
+        extractor.visit(query.getArguments());
+        return extractor.keyBuilder.toString();
+    }
+
     private void visit(Query query) {
         visit(query.getSource());
 
@@ -122,6 +141,15 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
         visit(element.getType());
         visit(element.getFieldType());
         visit(element.getFieldName());
+
+        // the same field can be filtered or sorted through differently parameterized aliases
+        boolean aliased = element.getAlias() != null && ! element.getAlias().equals(element.getFieldName());
+        boolean parameterized = element.getArguments() != null && ! element.getArguments().isEmpty();
+        if (aliased || parameterized) {
+            visit(element.getAlias());
+            visit(element.getArguments().stream()
+                    .collect(Collectors.toMap(Argument::getName, Function.identity())));
+        }
         endGroup();
     }
 
@@ -153,8 +181,13 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
         visit("P");
         visit(filterPredicate.getPath());
         visit(filterPredicate.getOperator().toString());
-        // `values` is list - don't sort
-        filterPredicate.getValues().forEach(this::visitObject);
+        if (shapeOnly) {
+            // values are bound as parameters - only their number changes the SQL
+            visit(filterPredicate.getValues().size());
+        } else {
+            // `values` is list - don't sort
+            filterPredicate.getValues().forEach(this::visitObject);
+        }
         endGroup();
         // `field` and `fieldPath` are derived from path
         return null;
@@ -11,6 +11,7 @@ import com.yahoo.elide.datastores.aggregation.query.Query;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 import javax.ws.rs.core.MultivaluedMap;
 
 /**
@@ -39,6 +40,18 @@ public interface QueryLogger {
      */
     void processQuery(UUID queryId, Query query, List<String> apiQuery, boolean isCached);
 
+    /**
+     * Processes and logs all the queries from QueryDetail.  The query text is generated on demand so that
+     * loggers which do not record it (or results served from cache) do not pay for SQL generation.
+     * @param queryId The RequestScope requestId.
+     * @param query The underlying Query
+     * @param apiQuery Generates the output querytext
+     * @param isCached Whether the result came from a cache or not
+     */
+    default void processQuery(UUID queryId, Query query, Supplier<List<String>> apiQuery, boolean isCached) {
+        processQuery(queryId, query, apiQuery.get(), isCached);
+    }
+
     /**
      * Cancels all queries currently running for a particular requestId.
      * Implementation must be thread-safe.
@@ -16,6 +16,8 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 import javax.ws.rs.core.MultivaluedMap;
 
 /**
@@ -28,6 +30,7 @@ public class Slf4jQueryLogger implements QueryLogger {
 
     private final ObjectMapper mapper;
     private final Logger logger;
+    private final BooleanSupplier enabled;
 
     @FunctionalInterface
     public interface Logger {
@@ -37,12 +40,14 @@ public class Slf4jQueryLogger implements QueryLogger {
     public Slf4jQueryLogger() {
         mapper = new ObjectMapper();
         this.logger = this::log;
+        this.enabled = log::isDebugEnabled;
     }
 
 
     public Slf4jQueryLogger(Logger logger) {
         mapper = new ObjectMapper();
         this.logger = logger;
+        this.enabled = () -> true;
     }
 
     @Override
@@ -79,6 +84,13 @@ public class Slf4jQueryLogger implements QueryLogger {
         logger.log("QUERY RUNNING: {}", rootNode);
     }
 
+    @Override
+    public void processQuery(UUID queryId, Query query, Supplier<List<String>> apiQuery, boolean isCached) {
+        if (enabled.getAsBoolean()) {
+            processQuery(queryId, query, apiQuery.get(), isCached);
+        }
+    }
+
     @Override
     public void cancelQuery(UUID queryId) {
         ObjectNode rootNode = mapper.createObjectNode();
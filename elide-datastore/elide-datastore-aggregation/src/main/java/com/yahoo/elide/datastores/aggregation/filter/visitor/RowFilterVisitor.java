@@ -0,0 +1,124 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.filter.visitor;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpressionVisitor;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * {@link RowFilterVisitor} evaluates a {@code HAVING} expression against rows that were already read from one or
+ * more result sets.
+ * <p>
+ * Each row maps the aliases of the projected columns to their values.  A predicate reads the column whose alias
+ * matches its path, coerced to the type of the field.  Only comparison, membership and null operators are
+ * supported, which covers the constraints that apply to aggregated metrics.
+ */
+public class RowFilterVisitor implements FilterExpressionVisitor<Predicate<Map<String, Object>>> {
+
+    private final Set<String> columns;
+
+    /**
+     * Constructor.
+     * @param columns The aliases of the columns in each row.
+     */
+    public RowFilterVisitor(Set<String> columns) {
+        this.columns = columns;
+    }
+
+    @Override
+    public Predicate<Map<String, Object>> visitPredicate(FilterPredicate filterPredicate) {
+        Path.PathElement last = filterPredicate.getPath().lastElement().get();
+        String column = getColumn(filterPredicate.getPath(), columns);
+        Type<?> fieldType = last.getFieldType();
+        List<Object> values = filterPredicate.getValues();
+
+        return row -> {
+            Object value = row.get(column);
+            value = value == null ? null : CoerceUtil.coerce(value, fieldType);
+
+            switch (filterPredicate.getOperator()) {
+                case IN:
+                    return value != null && values.contains(value);
+                case NOT:
+                    return value != null && ! values.contains(value);
+                case LT:
+                    return value != null && compare(value, values.get(0)) < 0;
+                case LE:
+                    return value != null && compare(value, values.get(0)) <= 0;
+                case GT:
+                    return value != null && compare(value, values.get(0)) > 0;
+                case GE:
+                    return value != null && compare(value, values.get(0)) >= 0;
+                case BETWEEN:
+                    return value != null && compare(value, values.get(0)) >= 0
+                            && compare(value, values.get(1)) <= 0;
+                case NOTBETWEEN:
+                    return value != null && (compare(value, values.get(0)) < 0
+                            || compare(value, values.get(1)) > 0);
+                case ISNULL:
+                    return value == null;
+                case NOTNULL:
+                    return value != null;
+                case TRUE:
+                    return true;
+                case FALSE:
+                    return false;
+                default:
+                    throw new BadRequestException("Operator " + filterPredicate.getOperator()
+                            + " is not supported in the having clause of a query that is split by metric.");
+            }
+        };
+    }
+
+    @Override
+    public Predicate<Map<String, Object>> visitAndExpression(AndFilterExpression expression) {
+        return expression.getLeft().accept(this).and(expression.getRight().accept(this));
+    }
+
+    @Override
+    public Predicate<Map<String, Object>> visitOrExpression(OrFilterExpression expression) {
+        return expression.getLeft().accept(this).or(expression.getRight().accept(this));
+    }
+
+    @Override
+    public Predicate<Map<String, Object>> visitNotExpression(NotFilterExpression expression) {
+        return expression.getNegated().accept(this).negate();
+    }
+
+    /**
+     * Finds the column of a row that holds the values of a path.
+     * @param path The path of a filter predicate or sort rule.
+     * @param columns The aliases of the columns in each row.
+     * @return The alias of the column.
+     */
+    public static String getColumn(Path path, Set<String> columns) {
+        Path.PathElement last = path.lastElement().get();
+        String alias = Objects.toString(last.getAlias(), last.getFieldName());
+        if (path.getPathElements().size() > 1 || ! columns.contains(alias)) {
+            throw new BadRequestException("Queries that are split by metric can only filter and sort on "
+                    + "projected columns: " + alias);
+        }
+        return alias;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Object left, Object right) {
+        return ((Comparable<Object>) left).compareTo(right);
+    }
+}
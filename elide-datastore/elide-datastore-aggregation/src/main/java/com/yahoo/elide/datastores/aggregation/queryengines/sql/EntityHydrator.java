@@ -7,6 +7,7 @@ package com.yahoo.elide.datastores.aggregation.queryengines.sql;
 
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.request.Attribute;
+import com.yahoo.elide.core.type.AttributeLayout;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.type.ParameterizedModel;
 import com.yahoo.elide.core.type.Type;
@@ -15,7 +16,6 @@ import com.yahoo.elide.datastores.aggregation.QueryEngine;
 import com.yahoo.elide.datastores.aggregation.metadata.enums.ValueType;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
 import com.yahoo.elide.datastores.aggregation.query.ColumnProjection;
-import com.yahoo.elide.datastores.aggregation.query.MetricProjection;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.Queryable;
 import com.yahoo.elide.datastores.aggregation.query.TimeDimensionProjection;
@@ -37,57 +37,204 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.stream.Collectors;
 
 /**
  * {@link EntityHydrator} hydrates the entity loaded by
  * {@link QueryEngine#executeQuery(Query, QueryEngine.Transaction)}.
+ * <p>
+ * The projected columns of the query are laid out once per hydrator.  Each row is read into an array indexed by
+ * that layout, which parameterized models then adopt as their attribute storage.
  */
 @Slf4j
 public class EntityHydrator implements Iterable<Object> {
 
+    /**
+     * Reads the current row of a result set.
+     */
+    @FunctionalInterface
+    private interface RowReader<T> {
+        T read(ResultSet resultSet) throws SQLException;
+    }
+
     @Getter(AccessLevel.PROTECTED)
     private final EntityDictionary entityDictionary;
 
     @Getter(AccessLevel.PRIVATE)
     private final Query query;
 
-    private ResultSet resultSet;
+    private final Type<?> entityClass;
+    private final String idFieldName;
 
-    private Map<String, String> projections;
+    //The alias, column label and field type of each projected column indexed by its slot in the layout.
+    private final String[] aliases;
+    private final String[] columnLabels;
+    private final Type<?>[] fieldTypes;
+    private final AttributeLayout layout;
+
+    private Iterable<Object[]> rows;
 
     public EntityHydrator(ResultSet resultSet, Query query, EntityDictionary entityDictionary) {
+        this(query, entityDictionary);
+        this.rows = () -> readRows(resultSet, this::readSlots);
+    }
+
+    /**
+     * Hydrates rows that were already read from one or more result sets.
+     * @param rows Maps of projection alias to value.
+     * @param query The client query.
+     * @param entityDictionary The metadata dictionary.
+     */
+    public EntityHydrator(Iterable<Map<String, Object>> rows, Query query, EntityDictionary entityDictionary) {
+        this(query, entityDictionary);
+        this.rows = () -> {
+            Iterator<Map<String, Object>> source = rows.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return source.hasNext();
+                }
+
+                @Override
+                public Object[] next() {
+                    Map<String, Object> row = source.next();
+                    Object[] values = new Object[aliases.length];
+                    for (int slot = 0; slot < aliases.length; slot++) {
+                        values[slot] = row.get(aliases[slot]);
+                    }
+                    return values;
+                }
+            };
+        };
+    }
+
+    private EntityHydrator(Query query, EntityDictionary entityDictionary) {
         this.query = query;
         this.entityDictionary = entityDictionary;
-        this.resultSet = resultSet;
 
-        //Get all the projections from the client query.
-        projections = this.query.getMetricProjections().stream()
+        Table table = getBaseTable(query);
+        this.entityClass = entityDictionary.getEntityClass(table.getName(), table.getVersion());
+        this.idFieldName = entityDictionary.getIdFieldName(entityClass);
+
+        Map<String, String> projections = getProjections(query);
+        this.aliases = projections.keySet().toArray(new String[0]);
+        this.columnLabels = projections.values().toArray(new String[0]);
+        this.fieldTypes = new Type<?>[aliases.length];
+
+        List<Attribute> attributes = new ArrayList<>();
+        for (int slot = 0; slot < aliases.length; slot++) {
+            ColumnProjection column = query.getColumnProjection(aliases[slot]);
+            fieldTypes[slot] = getType(entityClass, column);
+            attributes.add(projectionToAttribute(column, fieldTypes[slot]));
+        }
+        this.layout = new AttributeLayout(attributes);
+    }
+
+    /**
+     * Returns the columns of a query that are read from its result set.
+     * @param query The client query.
+     * @return A map of projection alias to the column label it is selected as (in a stable order).
+     */
+    public static Map<String, String> getProjections(Query query) {
+        Map<String, String> projections = new LinkedHashMap<>();
+
+        query.getMetricProjections().stream()
                 .map(SQLMetricProjection.class::cast)
                 .filter(SQLColumnProjection::isProjected)
                 .filter(projection -> ! projection.getValueType().equals(ValueType.ID))
-                .collect(Collectors.toMap(MetricProjection::getAlias, MetricProjection::getSafeAlias));
+                .forEach(projection -> projections.put(projection.getAlias(), projection.getSafeAlias()));
 
-        projections.putAll(this.query.getAllDimensionProjections().stream()
+        query.getAllDimensionProjections().stream()
                 .map(SQLColumnProjection.class::cast)
                 .filter(SQLColumnProjection::isProjected)
-                .collect(Collectors.toMap(ColumnProjection::getAlias, ColumnProjection::getSafeAlias)));
+                .forEach(projection -> projections.put(projection.getAlias(), projection.getSafeAlias()));
+
+        return projections;
+    }
+
+    /**
+     * Reads the rows of a result set.
+     * @param resultSet The result set.
+     * @param projections The columns to read (see {@link #getProjections(Query)}).
+     * @return An iterator over maps of projection alias to value.
+     */
+    public static Iterator<Map<String, Object>> readRows(ResultSet resultSet, Map<String, String> projections) {
+        return readRows(resultSet, current -> {
+            Map<String, Object> row = new HashMap<>();
+
+            for (Map.Entry<String, String> entry : projections.entrySet()) {
+                Object value = current.getObject(entry.getValue());
+                row.put(entry.getKey(), value);
+            }
+
+            return row;
+        });
+    }
+
+    private static <T> Iterator<T> readRows(ResultSet resultSet, RowReader<T> reader) {
+        return new Iterator<>() {
+
+            T next = null;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        next = next();
+                    } catch (NoSuchElementException e) {
+                        return false;
+                    }
+                }
+
+                return true;
+            }
+
+            @Override
+            public T next() {
+
+                if (next != null) {
+                    T result = next;
+                    next = null;
+                    return result;
+                }
+
+                try {
+                    boolean hasNext = resultSet.next();
+                    if (! hasNext) {
+                        throw new NoSuchElementException();
+                    }
+
+                    return reader.read(resultSet);
+                } catch (SQLException e) {
+                    log.error("Error iterating over results {}", e.getMessage());
+                }
+                throw new NoSuchElementException();
+            }
+        };
+    }
+
+    private Object[] readSlots(ResultSet resultSet) throws SQLException {
+        Object[] values = new Object[columnLabels.length];
+        for (int slot = 0; slot < columnLabels.length; slot++) {
+            values[slot] = resultSet.getObject(columnLabels[slot]);
+        }
+        return values;
     }
 
     /**
      * Coerces results from a {@link Query} into an Object.
      *
-     * @param result a fieldName-value map
+     * @param values The projected column values indexed by their slot in the layout.
      * @param counter Monotonically increasing number to generate IDs.
      * @return A hydrated entity object.
      */
-    protected Object coerceObjectToEntity(Map<String, Object> result, MutableInt counter) {
-        Table table = getBaseTable(query);
-        Type<?> entityClass = entityDictionary.getEntityClass(table.getName(), table.getVersion());
+    protected Object coerceObjectToEntity(Object[] values, MutableInt counter) {
 
         //Construct the object.
         Object entityInstance;
@@ -97,24 +244,21 @@ public class EntityHydrator implements Iterable<Object> {
             throw new IllegalStateException(e);
         }
 
-        result.forEach((fieldName, value) -> {
-            ColumnProjection dim = query.getColumnProjection(fieldName);
-            Type<?> fieldType = getType(entityClass, dim);
-            Attribute attribute = projectionToAttribute(dim, fieldType);
-
-            if (entityInstance instanceof ParameterizedModel) {
-                ((ParameterizedModel) entityInstance).addAttributeValue(
-                    attribute,
-                    CoerceUtil.coerce(value, fieldType));
-            } else {
-                    getEntityDictionary().setValue(entityInstance, fieldName, value);
+        if (entityInstance instanceof ParameterizedModel) {
+            for (int slot = 0; slot < values.length; slot++) {
+                values[slot] = CoerceUtil.coerce(values[slot], fieldTypes[slot]);
             }
-        });
+            ((ParameterizedModel) entityInstance).addAttributeValues(layout, values);
+        } else {
+            for (int slot = 0; slot < values.length; slot++) {
+                getEntityDictionary().setValue(entityInstance, aliases[slot], values[slot]);
+            }
+        }
 
         //Set the ID (it must be coerced from an integer)
         getEntityDictionary().setValue(
                 entityInstance,
-                getEntityDictionary().getIdFieldName(entityClass),
+                idFieldName,
                 counter.getAndIncrement()
         );
 
@@ -170,50 +314,18 @@ public class EntityHydrator implements Iterable<Object> {
 
     @Override
     public Iterator<Object> iterator() {
-        return new Iterator<> () {
-
-            Object next = null;
-            MutableInt counter = new MutableInt(0);
+        Iterator<Object[]> source = rows.iterator();
+        MutableInt counter = new MutableInt(0);
 
+        return new Iterator<> () {
             @Override
             public boolean hasNext() {
-                if (next == null) {
-                    try {
-                        next = next();
-                    } catch (NoSuchElementException e) {
-                        return false;
-                    }
-                }
-
-                return true;
+                return source.hasNext();
             }
 
             @Override
             public Object next() {
-
-                if (next != null) {
-                    Object result = next;
-                    next = null;
-                    return result;
-                }
-
-                try {
-                    boolean hasNext = resultSet.next();
-                    if (! hasNext) {
-                        throw new NoSuchElementException();
-                    }
-                    Map<String, Object> row = new HashMap<>();
-
-                    for (Map.Entry<String, String> entry : projections.entrySet()) {
-                        Object value = resultSet.getObject(entry.getValue());
-                        row.put(entry.getKey(), value);
-                    }
-
-                    return coerceObjectToEntity(row, counter);
-                } catch (SQLException e) {
-                    log.error("Error iterating over results {}", e.getMessage());
-                }
-                throw new NoSuchElementException();
+                return coerceObjectToEntity(source.next(), counter);
             }
         };
     }
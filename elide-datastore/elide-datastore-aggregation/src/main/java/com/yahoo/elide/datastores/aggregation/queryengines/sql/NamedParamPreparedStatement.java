@@ -27,20 +27,52 @@ public class NamedParamPreparedStatement {
      * examples:
      * :overallRating_c82e10a5_0
      * :lowScore_7c4e440_0
+     * :lowScore_1_0 (named by position, see {@link com.yahoo.elide.core.filter.expression.ParameterNamingVisitor})
      */
     private static final Pattern PARAMETER_PATTERN = Pattern.compile("(?<!')(:[\\w]+_[0-9A-Fa-f]+_[\\d]+)(?!')");
 
     @Getter
     private PreparedStatement preparedStatement;
-    private List<String> fields = new ArrayList<>();
+    private List<String> fields;
 
     public NamedParamPreparedStatement(Connection conn, String namedParamQuery) throws SQLException {
+        this(conn, toPositionalQuery(namedParamQuery), getParameterNames(namedParamQuery));
+    }
+
+    /**
+     * Prepares a query whose named parameters have already been parsed.
+     * @param conn The connection.
+     * @param positionalQuery The query with each named parameter replaced by '?'.
+     * @param fields The parameter names in the order they appear in the query.
+     * @throws SQLException If the statement cannot be prepared.
+     */
+    public NamedParamPreparedStatement(Connection conn, String positionalQuery, List<String> fields)
+            throws SQLException {
+        this.fields = fields;
+        preparedStatement = conn.prepareStatement(positionalQuery);
+    }
 
+    /**
+     * Lists the named parameters of a query in the order they appear.
+     * @param namedParamQuery The query.
+     * @return The parameter names (without the leading ':').
+     */
+    public static List<String> getParameterNames(String namedParamQuery) {
+        List<String> names = new ArrayList<>();
         Matcher matcher = PARAMETER_PATTERN.matcher(namedParamQuery);
         while (matcher.find()) {
-            fields.add(matcher.group().substring(1));
+            names.add(matcher.group().substring(1));
         }
-        preparedStatement = conn.prepareStatement(namedParamQuery.replaceAll(PARAMETER_PATTERN.pattern(), "?"));
+        return names;
+    }
+
+    /**
+     * Replaces each named parameter of a query with a JDBC positional parameter.
+     * @param namedParamQuery The query.
+     * @return The query to prepare.
+     */
+    public static String toPositionalQuery(String namedParamQuery) {
+        return PARAMETER_PATTERN.matcher(namedParamQuery).replaceAll("?");
     }
 
     public ResultSet executeQuery() throws SQLException {
@@ -63,6 +95,16 @@ public class NamedParamPreparedStatement {
         preparedStatement.setObject(getIndex(paramName), paramValue);
     }
 
+    /**
+     * Sets a parameter by its position in the query.
+     * @param position The 1-based position of the parameter.
+     * @param paramValue The value.
+     * @throws SQLException If the value cannot be set.
+     */
+    public void setObject(int position, Object paramValue) throws SQLException {
+        preparedStatement.setObject(position, paramValue);
+    }
+
     private int getIndex(String paramName) {
         return fields.indexOf(paramName) + 1;
     }
@@ -6,19 +6,23 @@
 package com.yahoo.elide.datastores.aggregation.queryengines.sql;
 
 import static com.yahoo.elide.datastores.aggregation.metadata.ColumnContext.applyQuotes;
+import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
-import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.core.filter.expression.ParameterNamingVisitor;
 import com.yahoo.elide.core.filter.predicates.FilterPredicate;
 import com.yahoo.elide.core.request.Argument;
 import com.yahoo.elide.core.request.Pagination;
-import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.core.utils.TimedFunction;
 import com.yahoo.elide.core.utils.coerce.CoerceUtil;
 import com.yahoo.elide.datastores.aggregation.DefaultQueryValidator;
 import com.yahoo.elide.datastores.aggregation.QueryEngine;
 import com.yahoo.elide.datastores.aggregation.QueryValidator;
+import com.yahoo.elide.datastores.aggregation.cache.QueryKeyExtractor;
 import com.yahoo.elide.datastores.aggregation.dynamic.NamespacePackage;
+import com.yahoo.elide.datastores.aggregation.filter.visitor.RowFilterVisitor;
 import com.yahoo.elide.datastores.aggregation.metadata.FormulaValidator;
 import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Dimension;
@@ -26,6 +30,7 @@ import com.yahoo.elide.datastores.aggregation.metadata.models.Metric;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Namespace;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
 import com.yahoo.elide.datastores.aggregation.metadata.models.TimeDimension;
+import com.yahoo.elide.datastores.aggregation.query.ColumnProjection;
 import com.yahoo.elide.datastores.aggregation.query.DimensionProjection;
 import com.yahoo.elide.datastores.aggregation.query.MetricProjection;
 import com.yahoo.elide.datastores.aggregation.query.Optimizer;
@@ -44,29 +49,44 @@ import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.QueryTransl
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.SQLColumnProjection;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.SQLDimensionProjection;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.SQLTimeDimensionProjection;
-import com.yahoo.elide.datastores.aggregation.timegrains.Time;
 import com.yahoo.elide.datastores.aggregation.validator.ColumnArgumentValidator;
 import com.yahoo.elide.datastores.aggregation.validator.TableArgumentValidator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.lang3.StringUtils;
 import lombok.Getter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.annotation.Annotation;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.sql.DataSource;
 
 /**
@@ -81,6 +101,41 @@ public class SQLQueryEngine extends QueryEngine {
     private final Set<Optimizer> optimizers;
     private final QueryValidator validator;
     private final FormulaValidator formulaValidator;
+    private final LoadingCache<VersionQueryKey, String> tableVersions;
+
+    /**
+     * The most query shapes whose SQL translation is cached.
+     */
+    public static final int MAXIMUM_QUERY_TEMPLATES = 1024;
+
+    private final Cache<String, SQLQueryTemplate> queryTemplates = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_QUERY_TEMPLATES)
+            .build();
+
+    /**
+     * The most statements of split queries that run at once.  Each one holds its own connection.
+     */
+    public static final int MAXIMUM_SPLIT_QUERY_THREADS = 8;
+
+    /**
+     * The most rows a statement of a split query may return.  Split queries are joined, filtered and sorted in
+     * memory, so their statements cannot page through the rows.
+     */
+    public static final int MAXIMUM_SPLIT_QUERY_ROWS = 100_000;
+
+    //Runs the statements of queries that are split by metric.
+    private final ExecutorService splitQueryExecutor =
+            newDaemonExecutor("elide-sql-split-query-%d", MAXIMUM_SPLIT_QUERY_THREADS);
+
+    /**
+     * The most table version queries that are refreshed in the background at once.
+     */
+    public static final int MAXIMUM_TABLE_VERSION_REFRESH_THREADS = 2;
+
+    /**
+     * How long a table version is trusted before it must be queried again.
+     */
+    public static final Duration DEFAULT_TABLE_VERSION_EXPIRATION = Duration.ofMinutes(1);
 
     public SQLQueryEngine(MetaDataStore metaDataStore, ConnectionDetails defaultConnectionDetails) {
         this(metaDataStore, defaultConnectionDetails, Collections.emptyMap(), new HashSet<>(),
@@ -102,6 +157,28 @@ public class SQLQueryEngine extends QueryEngine {
             Set<Optimizer> optimizers,
             QueryValidator validator
     ) {
+        this(metaDataStore, defaultConnectionDetails, connectionDetailsMap, optimizers, validator,
+                DEFAULT_TABLE_VERSION_EXPIRATION);
+    }
+
+    /**
+     * Constructor.
+     * @param metaDataStore : MetaDataStore.
+     * @param defaultConnectionDetails : default DataSource Object and SQLDialect Object.
+     * @param connectionDetailsMap : Connection Name to DataSource Object and SQL Dialect Object mapping.
+     * @param optimizers The set of enabled optimizers.
+     * @param validator Validates each incoming client query.
+     * @param tableVersionExpiration How long a table version is cached.  Versions are refreshed in the background
+     *                               after half this time.  A zero duration runs the version query for every request.
+     */
+    public SQLQueryEngine(
+            MetaDataStore metaDataStore,
+            ConnectionDetails defaultConnectionDetails,
+            Map<String, ConnectionDetails> connectionDetailsMap,
+            Set<Optimizer> optimizers,
+            QueryValidator validator,
+            Duration tableVersionExpiration
+    ) {
 
         Preconditions.checkNotNull(defaultConnectionDetails);
         Preconditions.checkNotNull(connectionDetailsMap);
@@ -114,6 +191,22 @@ public class SQLQueryEngine extends QueryEngine {
         this.metadataDictionary = metaDataStore.getMetadataDictionary();
         populateMetaData(metaDataStore);
         this.optimizers = optimizers;
+        //Version queries block on JDBC, so they are refreshed on their own threads rather than the common pool.
+        //Refreshes of a key are not repeated while one is pending, so the queue is bounded by the number of keys.
+        this.tableVersions = tableVersionExpiration.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(tableVersionExpiration)
+                .refreshAfterWrite(tableVersionExpiration.dividedBy(2))
+                .executor(newDaemonExecutor("elide-sql-table-version-%d", MAXIMUM_TABLE_VERSION_REFRESH_THREADS))
+                .build(key -> fetchTableVersion(key.getDataSource(), key.getSql()));
+    }
+
+    /**
+     * Identifies a version query run against a particular connection.
+     */
+    @Value
+    private static class VersionQueryKey {
+        private DataSource dataSource;
+        private String sql;
     }
 
     private static final Function<ResultSet, Object> SINGLE_RESULT_MAPPER = rs -> {
@@ -207,7 +300,8 @@ public class SQLQueryEngine extends QueryEngine {
     static class SqlTransaction implements QueryEngine.Transaction {
 
         private Connection conn;
-        private final List<NamedParamPreparedStatement> stmts = new ArrayList<>();
+        private final List<NamedParamPreparedStatement> stmts = new CopyOnWriteArrayList<>();
+        private final List<SqlTransaction> forks = new CopyOnWriteArrayList<>();
 
         private void initializeConnection(DataSource dataSource) {
             try {
@@ -218,12 +312,23 @@ public class SQLQueryEngine extends QueryEngine {
         }
 
         public NamedParamPreparedStatement initializeStatement(String namedParamQuery, DataSource dataSource) {
+            return initializeStatement(NamedParamPreparedStatement.toPositionalQuery(namedParamQuery),
+                    NamedParamPreparedStatement.getParameterNames(namedParamQuery), dataSource);
+        }
+
+        public NamedParamPreparedStatement initializeStatement(SQLQueryTemplate.Statement statement,
+                                                               DataSource dataSource) {
+            return initializeStatement(statement.getPositionalSql(), statement.getParameterNames(), dataSource);
+        }
+
+        private NamedParamPreparedStatement initializeStatement(String positionalQuery, List<String> fields,
+                                                                DataSource dataSource) {
             NamedParamPreparedStatement stmt;
             try {
                 if (conn == null || !conn.isValid(10)) {
                     initializeConnection(dataSource);
                 }
-                stmt = new NamedParamPreparedStatement(conn, namedParamQuery);
+                stmt = new NamedParamPreparedStatement(conn, positionalQuery, fields);
                 stmts.add(stmt);
             } catch (SQLException e) {
                 throw new IllegalStateException(e);
@@ -231,14 +336,27 @@ public class SQLQueryEngine extends QueryEngine {
             return stmt;
         }
 
+        /**
+         * Creates a transaction with its own connection that is closed and cancelled along with this one.
+         * Forks are used to run statements concurrently.
+         * @return A new transaction.
+         */
+        public SqlTransaction fork() {
+            SqlTransaction fork = new SqlTransaction();
+            forks.add(fork);
+            return fork;
+        }
+
         @Override
         public void close() {
+            forks.forEach(SqlTransaction::close);
             stmts.forEach(SQLQueryEngine::cancelAndCloseSoftly);
             closeSoftly(conn);
         }
 
         @Override
         public void cancel() {
+            forks.forEach(SqlTransaction::cancel);
             stmts.forEach(SQLQueryEngine::cancelSoftly);
         }
     }
@@ -255,25 +373,28 @@ public class SQLQueryEngine extends QueryEngine {
         DataSource dataSource = details.getDataSource();
         SQLDialect dialect = details.getDialect();
 
-        Query expandedQuery = expandMetricQueryPlans(query);
+        // Translate the query into SQL (or reuse the translation of a query with the same shape).
+        SQLQueryTemplate template = getQueryTemplate(query, dialect);
+        if (template.isSplit()) {
+            return executeSplitQuery(query, template, sqlTransaction);
+        }
 
-        // Translate the query into SQL.
-        NativeQuery sql = toSQL(expandedQuery, dialect);
-        String queryString = sql.toString();
+        List<FilterPredicate> predicates = SQLQueryTemplate.getFilterPredicates(query);
+        String queryString = template.getQuery().getSql();
 
         QueryResult.QueryResultBuilder resultBuilder = QueryResult.builder();
         NamedParamPreparedStatement stmt;
 
         Pagination pagination = query.getPagination();
         if (returnPageTotals(pagination)) {
-            resultBuilder.pageTotals(getPageTotal(expandedQuery, sql, sqlTransaction));
+            resultBuilder.pageTotals(getPageTotal(template, predicates, dataSource, dialect, sqlTransaction));
         }
 
         log.debug("SQL Query: " + queryString);
-        stmt = sqlTransaction.initializeStatement(queryString, dataSource);
+        stmt = sqlTransaction.initializeStatement(template.getQuery(), dataSource);
 
         // Supply the query parameters to the query
-        supplyFilterQueryParameters(query, stmt, dialect);
+        template.getQuery().bind(stmt, predicates, dialect);
 
         // Run the primary query and log the time spent.
         ResultSet resultSet = runQuery(stmt, queryString, Function.identity());
@@ -282,11 +403,160 @@ public class SQLQueryEngine extends QueryEngine {
         return resultBuilder.build();
     }
 
-    private long getPageTotal(Query query, NativeQuery sql, SqlTransaction sqlTransaction) {
+    /**
+     * Creates a bounded pool of daemon threads.  Idle threads exit, so the pool needs no shutdown.
+     */
+    private static ExecutorService newDaemonExecutor(String nameFormat, int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder()
+                        .setNameFormat(nameFormat)
+                        .setDaemon(true)
+                        .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Runs a query whose metrics cannot be merged into a single statement.  The statement of each metric group
+     * runs concurrently on its own connection.  The rows are then joined on the projected dimensions, and the
+     * having filter, sorting and pagination of the query are applied to the joined rows.
+     */
+    private QueryResult executeSplitQuery(Query query, SQLQueryTemplate template, SqlTransaction sqlTransaction) {
+        List<String> dimensionAliases = query.getAllDimensionProjections().stream()
+                .map(SQLColumnProjection.class::cast)
+                .filter(SQLColumnProjection::isProjected)
+                .map(ColumnProjection::getAlias)
+                .collect(Collectors.toList());
+
+        List<CompletableFuture<List<Map<String, Object>>>> futures = getSplitQueries(query, template).stream()
+                .map(splitQuery -> {
+                    SqlTransaction fork = sqlTransaction.fork();
+                    return CompletableFuture.supplyAsync(() -> fetchRows(splitQuery, fork), splitQueryExecutor);
+                })
+                .collect(Collectors.toList());
+
+        //Full outer join of the rows of each statement on the dimension values.
+        Map<List<Object>, Map<String, Object>> joined = new LinkedHashMap<>();
+        for (CompletableFuture<List<Map<String, Object>>> future : futures) {
+            List<Map<String, Object>> rows;
+            try {
+                rows = future.join();
+            } catch (CompletionException e) {
+                futures.forEach(pending -> pending.cancel(true));
+                sqlTransaction.cancel();
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+
+            for (Map<String, Object> row : rows) {
+                List<Object> key = dimensionAliases.stream().map(row::get).collect(Collectors.toList());
+                joined.merge(key, row, (existing, next) -> {
+                    existing.putAll(next);
+                    return existing;
+                });
+            }
+        }
+
+        Set<String> columns = EntityHydrator.getProjections(query).keySet();
+        Stream<Map<String, Object>> joinedRows = joined.values().stream();
+        if (query.getHavingFilter() != null) {
+            joinedRows = joinedRows.filter(query.getHavingFilter().accept(new RowFilterVisitor(columns)));
+        }
+        if (query.getSorting() != null) {
+            joinedRows = joinedRows.sorted(getRowComparator(query.getSorting(), columns));
+        }
+        List<Map<String, Object>> rows = joinedRows.collect(Collectors.toList());
+
+        QueryResult.QueryResultBuilder resultBuilder = QueryResult.builder();
+        Pagination pagination = query.getPagination();
+        if (pagination != null) {
+            if (returnPageTotals(pagination)) {
+                resultBuilder.pageTotals((long) rows.size());
+            }
+            int offset = Math.min(pagination.getOffset(), rows.size());
+            rows = rows.subList(offset, Math.min(offset + pagination.getLimit(), rows.size()));
+        }
+
+        resultBuilder.data(new EntityHydrator(rows, query, metadataDictionary));
+        return resultBuilder.build();
+    }
+
+    /**
+     * Orders joined rows by the sort rules of a query.  Nulls sort before all other values.
+     */
+    private static Comparator<Map<String, Object>> getRowComparator(Sorting sorting, Set<String> columns) {
+        Comparator<Map<String, Object>> comparator = (left, right) -> 0;
+        for (Map.Entry<Path, Sorting.SortOrder> entry : sorting.getSortingPaths().entrySet()) {
+            String column = RowFilterVisitor.getColumn(entry.getKey(), columns);
+
+            @SuppressWarnings("unchecked")
+            Comparator<Map<String, Object>> byColumn = Comparator.comparing(
+                    row -> (Comparable<Object>) row.get(column), Comparator.nullsFirst(Comparator.naturalOrder()));
+
+            comparator = comparator.thenComparing(entry.getValue() == Sorting.SortOrder.desc
+                    ? byColumn.reversed()
+                    : byColumn);
+        }
+        return comparator;
+    }
+
+    /**
+     * Runs a query on a forked transaction and reads all of its rows.
+     */
+    private List<Map<String, Object>> fetchRows(Query query, SqlTransaction sqlTransaction) {
         ConnectionDetails details = query.getConnectionDetails();
-        DataSource dataSource = details.getDataSource();
         SQLDialect dialect = details.getDialect();
-        NativeQuery paginationSQL = toPageTotalSQL(query, sql, dialect);
+
+        SQLQueryTemplate template = getQueryTemplate(query, dialect);
+        String queryString = template.getQuery().getSql();
+
+        log.debug("SQL Query: " + queryString);
+        NamedParamPreparedStatement stmt = sqlTransaction.initializeStatement(template.getQuery(),
+                details.getDataSource());
+        template.getQuery().bind(stmt, SQLQueryTemplate.getFilterPredicates(query), dialect);
+
+        Map<String, String> projections = EntityHydrator.getProjections(query);
+        return runQuery(stmt, queryString, resultSet -> {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            Iterator<Map<String, Object>> iterator = EntityHydrator.readRows(resultSet, projections);
+            while (iterator.hasNext()) {
+                if (rows.size() == MAXIMUM_SPLIT_QUERY_ROWS) {
+                    throw new BadRequestException("The query returns more than " + MAXIMUM_SPLIT_QUERY_ROWS
+                            + " rows for a metric that cannot be merged with the others.  Narrow its filters.");
+                }
+                rows.add(iterator.next());
+            }
+            return rows;
+        });
+    }
+
+    /**
+     * Builds the query run for each metric group of a split query.  Split queries are filtered by their having
+     * clause, sorted and paginated after their rows are joined.
+     */
+    private static List<Query> getSplitQueries(Query query, SQLQueryTemplate template) {
+        return template.getMetricGroups().stream()
+                .map(group -> Query.builder()
+                        .query(query)
+                        .clearMetricProjections()
+                        .metricProjections(group.stream()
+                                .map(query.getMetricProjections()::get)
+                                .collect(Collectors.toList()))
+                        .havingFilter(null)
+                        .sorting(null)
+                        .pagination(null)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private long getPageTotal(SQLQueryTemplate template, List<FilterPredicate> predicates, DataSource dataSource,
+                              SQLDialect dialect, SqlTransaction sqlTransaction) {
+        SQLQueryTemplate.Statement paginationSQL = template.getPageTotalQuery();
 
         if (paginationSQL == null) {
             // The query returns the aggregated metric without any dimension.
@@ -294,17 +564,64 @@ public class SQLQueryEngine extends QueryEngine {
             return 1;
         }
 
-        NamedParamPreparedStatement stmt = sqlTransaction.initializeStatement(paginationSQL.toString(), dataSource);
+        NamedParamPreparedStatement stmt = sqlTransaction.initializeStatement(paginationSQL, dataSource);
 
         // Supply the query parameters to the query
-        supplyFilterQueryParameters(query, stmt, dialect);
+        paginationSQL.bind(stmt, predicates, dialect);
 
         // Run the Pagination query and log the time spent.
-        Long result = CoerceUtil.coerce(runQuery(stmt, paginationSQL.toString(), SINGLE_RESULT_MAPPER), Long.class);
+        Long result = CoerceUtil.coerce(runQuery(stmt, paginationSQL.getSql(), SINGLE_RESULT_MAPPER), Long.class);
 
         return (result != null) ? result : 0;
     }
 
+    /**
+     * Returns the SQL for a client query.  Translations are cached by query shape so that queries which only
+     * differ by their filter values are planned and translated once.
+     */
+    private SQLQueryTemplate getQueryTemplate(Query query, SQLDialect dialect) {
+        String shapeKey = QueryKeyExtractor.extractShapeKey(query);
+        SQLQueryTemplate template = queryTemplates.getIfPresent(shapeKey);
+        if (template != null) {
+            return template;
+        }
+
+        List<List<Integer>> metricGroups = groupMetricQueryPlans(query);
+        if (metricGroups.size() > 1) {
+            template = new SQLQueryTemplate(metricGroups);
+            queryTemplates.put(shapeKey, template);
+            return template;
+        }
+
+        Query namedQuery = nameParameters(query);
+        Query expandedQuery = expandMetricQueryPlans(namedQuery);
+        NativeQuery sql = toSQL(expandedQuery, dialect);
+        NativeQuery paginationSQL = returnPageTotals(query.getPagination())
+                ? toPageTotalSQL(expandedQuery, sql, dialect)
+                : null;
+
+        template = new SQLQueryTemplate(namedQuery, sql.toString(),
+                paginationSQL == null ? null : paginationSQL.toString());
+        if (template.isBindable()) {
+            queryTemplates.put(shapeKey, template);
+        }
+        return template;
+    }
+
+    /**
+     * Copies a query with its filter parameters named by their position rather than their values.  Queries with the
+     * same shape then translate to identical SQL.
+     */
+    private static Query nameParameters(Query query) {
+        //The where filter is named first to match the order in which a template locates filter values.
+        ParameterNamingVisitor visitor = new ParameterNamingVisitor();
+        return Query.builder()
+                .query(query)
+                .whereFilter(query.getWhereFilter() == null ? null : query.getWhereFilter().accept(visitor))
+                .havingFilter(query.getHavingFilter() == null ? null : query.getHavingFilter().accept(visitor))
+                .build();
+    }
+
     @Override
     public String getTableVersion(Table table, Transaction transaction) {
 
@@ -314,15 +631,38 @@ public class SQLQueryEngine extends QueryEngine {
         VersionQuery versionAnnotation = tableClass.getAnnotation(VersionQuery.class);
         if (versionAnnotation != null) {
             String versionQueryString = versionAnnotation.sql();
-            SqlTransaction sqlTransaction = (SqlTransaction) transaction;
             ConnectionDetails details = sqlTable.getConnectionDetails();
             DataSource dataSource = details.getDataSource();
+
+            //Versions are cached per connection so that cache hits do not need to touch the database.
+            if (tableVersions != null) {
+                return tableVersions.get(new VersionQueryKey(dataSource, versionQueryString));
+            }
+
+            SqlTransaction sqlTransaction = (SqlTransaction) transaction;
             NamedParamPreparedStatement stmt = sqlTransaction.initializeStatement(versionQueryString, dataSource);
             tableVersion = CoerceUtil.coerce(runQuery(stmt, versionQueryString, SINGLE_RESULT_MAPPER), String.class);
         }
         return tableVersion;
     }
 
+    /**
+     * Runs a version query on its own connection.  This is invoked outside of any request when versions are
+     * refreshed in the background.
+     */
+    private String fetchTableVersion(DataSource dataSource, String versionQueryString) {
+        try (Connection conn = dataSource.getConnection()) {
+            NamedParamPreparedStatement stmt = new NamedParamPreparedStatement(conn, versionQueryString);
+            try {
+                return CoerceUtil.coerce(runQuery(stmt, versionQueryString, SINGLE_RESULT_MAPPER), String.class);
+            } finally {
+                stmt.close();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private <R> R runQuery(NamedParamPreparedStatement stmt, String queryString, Function<ResultSet, R> resultMapper) {
 
         // Run the query and log the time spent.
@@ -346,7 +686,15 @@ public class SQLQueryEngine extends QueryEngine {
      */
     public List<String> explain(Query query, SQLDialect dialect) {
         List<String> queries = new ArrayList<>();
-        Query expandedQuery = expandMetricQueryPlans(query);
+
+        List<List<Integer>> metricGroups = groupMetricQueryPlans(query);
+        if (metricGroups.size() > 1) {
+            getSplitQueries(query, new SQLQueryTemplate(metricGroups))
+                    .forEach(splitQuery -> queries.addAll(explain(splitQuery, dialect)));
+            return queries;
+        }
+
+        Query expandedQuery = expandMetricQueryPlans(nameParameters(query));
         NativeQuery sql = toSQL(expandedQuery, dialect);
 
         Pagination pagination = query.getPagination();
@@ -383,6 +731,55 @@ public class SQLQueryEngine extends QueryEngine {
         return query.accept(translator).build();
     }
 
+    /**
+     * Groups the metrics of a client query so that the query plans within each group can be merged into a single
+     * statement.  Queries with more than one group are split into one statement per group.
+     * @param query The client query.
+     * @return The indices of the query metrics in each group.
+     */
+    private List<List<Integer>> groupMetricQueryPlans(Query query) {
+        List<List<Integer>> groups = new ArrayList<>();
+        List<QueryPlan> mergedPlans = new ArrayList<>();
+
+        List<MetricProjection> metricProjections = query.getMetricProjections();
+        for (int idx = 0; idx < metricProjections.size(); idx++) {
+            QueryPlan queryPlan = metricProjections.get(idx).resolve(query);
+
+            int group = 0;
+            while (group < groups.size() && ! canMerge(mergedPlans.get(group), queryPlan)) {
+                group++;
+            }
+
+            if (group == groups.size()) {
+                groups.add(new ArrayList<>());
+                mergedPlans.add(null);
+            }
+
+            groups.get(group).add(idx);
+            if (queryPlan != null) {
+                mergedPlans.set(group, queryPlan.merge(mergedPlans.get(group), metaDataStore));
+            }
+        }
+
+        return groups;
+    }
+
+    /**
+     * Whether two query plans can be merged.  The shallower plan must be nested to the depth of the other.
+     */
+    private boolean canMerge(QueryPlan mergedPlan, QueryPlan queryPlan) {
+        if (mergedPlan == null || queryPlan == null) {
+            return true;
+        }
+        if (mergedPlan.nestDepth() > queryPlan.nestDepth()) {
+            return queryPlan.canNest(metaDataStore);
+        }
+        if (queryPlan.nestDepth() > mergedPlan.nestDepth()) {
+            return mergedPlan.canNest(metaDataStore);
+        }
+        return true;
+    }
+
     /**
      * Transforms a client query into a potentially nested/complex query by expanding each metric into
      * its respective query plan - and then merging the plans together into a consolidated query.
@@ -397,7 +794,7 @@ public class SQLQueryEngine extends QueryEngine {
             QueryPlan queryPlan = metricProjection.resolve(query);
             if (queryPlan != null) {
                 if (mergedPlan != null && mergedPlan.isNested() && !queryPlan.canNest(metaDataStore)) {
-                    //TODO - Run multiple queries.
+                    //Queries with metrics that cannot be merged are split (see groupMetricQueryPlans).
                     throw new UnsupportedOperationException("Cannot merge a nested query with a metric that "
                             + "doesn't support nesting");
                 }
@@ -432,43 +829,6 @@ public class SQLQueryEngine extends QueryEngine {
         return merged;
     }
 
-    /**
-     * Given a Prepared Statement, replaces any parameters with their values from client query.
-     *
-     * @param query The client query
-     * @param stmt Customized Prepared Statement
-     * @param dialect the SQL dialect
-     */
-    private void supplyFilterQueryParameters(Query query, NamedParamPreparedStatement stmt, SQLDialect dialect) {
-
-        Collection<FilterPredicate> predicates = new ArrayList<>();
-        if (query.getWhereFilter() != null) {
-            predicates.addAll(query.getWhereFilter().accept(new PredicateExtractionVisitor()));
-        }
-
-        if (query.getHavingFilter() != null) {
-            predicates.addAll(query.getHavingFilter().accept(new PredicateExtractionVisitor()));
-        }
-
-        for (FilterPredicate filterPredicate : predicates) {
-            boolean isTimeFilter = ClassType.of(Time.class).isAssignableFrom(filterPredicate.getFieldType());
-            if (filterPredicate.getOperator().isParameterized()) {
-                boolean shouldEscape = filterPredicate.isMatchingOperator();
-                filterPredicate.getParameters().forEach(param -> {
-                    try {
-                        Object value = param.getValue();
-                        if (isTimeFilter) {
-                            value = dialect.translateTimeToJDBC((Time) value);
-                        }
-                        stmt.setObject(param.getName(), shouldEscape ? param.escapeMatching() : value);
-                    } catch (SQLException e) {
-                        throw new IllegalStateException(e);
-                    }
-                });
-            }
-        }
-    }
-
     /**
      * Takes a SQLQuery and creates a new clone that instead returns the total number of records of the original
      * query.
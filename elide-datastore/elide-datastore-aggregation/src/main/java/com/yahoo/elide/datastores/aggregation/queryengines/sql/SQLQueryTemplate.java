@@ -0,0 +1,200 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.queryengines.sql;
+
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.datastores.aggregation.query.Query;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialect;
+import com.yahoo.elide.datastores.aggregation.timegrains.Time;
+import lombok.Getter;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The SQL translated for a client query, along with where each filter value of the query is bound.
+ * <p>
+ * Queries that differ only by their filter values translate to the same SQL.  A template compiled for one of them
+ * can be bound to the filter values of any of the others without planning or translating the query again.
+ * Filter values are located by the position of their predicate in the query's where and having filters.
+ * <p>
+ * Queries whose metrics cannot be merged into a single SQL statement are split by metric.  Their template only
+ * records which metrics are fetched together - each group is translated (and cached) as a query of its own.
+ */
+public class SQLQueryTemplate {
+
+    /**
+     * A single SQL statement of the template.
+     */
+    public static class Statement {
+
+        /**
+         * The SQL with named parameters.
+         */
+        @Getter
+        private final String sql;
+
+        /**
+         * The SQL with positional parameters.
+         */
+        @Getter
+        private final String positionalSql;
+
+        /**
+         * The parameter names in the order they appear in the SQL.
+         */
+        @Getter
+        private final List<String> parameterNames;
+
+        //For each parameter position, the index of its predicate and the index of its value in that predicate.
+        private final int[][] bindings;
+
+        private Statement(String sql, Map<String, int[]> parameterLocations) {
+            this.sql = sql;
+            this.positionalSql = NamedParamPreparedStatement.toPositionalQuery(sql);
+            this.parameterNames = NamedParamPreparedStatement.getParameterNames(sql);
+
+            bindings = new int[parameterNames.size()][];
+            for (int position = 0; position < bindings.length; position++) {
+                bindings[position] = parameterLocations.get(parameterNames.get(position));
+            }
+        }
+
+        private boolean isBindable() {
+            for (int[] binding : bindings) {
+                if (binding == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Binds the filter values of a query to a prepared statement.
+         * @param stmt The statement prepared from this template.
+         * @param predicates The filter predicates of the query (see {@link #getFilterPredicates(Query)}).
+         * @param dialect The SQL dialect.
+         */
+        public void bind(NamedParamPreparedStatement stmt, List<FilterPredicate> predicates, SQLDialect dialect) {
+            for (int position = 0; position < bindings.length; position++) {
+                FilterPredicate predicate = predicates.get(bindings[position][0]);
+                Object value = predicate.getValues().get(bindings[position][1]);
+
+                if (ClassType.of(Time.class).isAssignableFrom(predicate.getFieldType())) {
+                    value = dialect.translateTimeToJDBC((Time) value);
+                }
+                if (predicate.isMatchingOperator()) {
+                    value = new FilterPredicate.FilterParameter(null, value).escapeMatching();
+                }
+
+                try {
+                    stmt.setObject(position + 1, value);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    @Getter
+    private final Statement query;
+
+    /**
+     * The statement that counts the records of the query or null if the query returns a single record.
+     */
+    @Getter
+    private final Statement pageTotalQuery;
+
+    /**
+     * Whether every parameter of the SQL could be traced back to a single filter value.  Templates which are not
+     * bindable can only be used for the query they were compiled from.
+     */
+    @Getter
+    private final boolean bindable;
+
+    /**
+     * The indices of the client query metrics fetched by each statement of a split query or null if the query
+     * translates to a single statement.
+     */
+    @Getter
+    private final List<List<Integer>> metricGroups;
+
+    /**
+     * Constructor.
+     * @param query The client query the SQL was translated from.
+     * @param sql The translated SQL.
+     * @param pageTotalSql The translated page totals SQL or null.
+     */
+    public SQLQueryTemplate(Query query, String sql, String pageTotalSql) {
+        Map<String, int[]> parameterLocations = new HashMap<>();
+        boolean unambiguous = true;
+
+        List<FilterPredicate> predicates = getFilterPredicates(query);
+        for (int idx = 0; idx < predicates.size(); idx++) {
+            FilterPredicate predicate = predicates.get(idx);
+            if (! predicate.getOperator().isParameterized()) {
+                continue;
+            }
+
+            List<FilterPredicate.FilterParameter> parameters = predicate.getParameters();
+            for (int valueIdx = 0; valueIdx < parameters.size(); valueIdx++) {
+                int[] location = new int[] { idx, valueIdx };
+                int[] existing = parameterLocations.putIfAbsent(parameters.get(valueIdx).getName(), location);
+
+                //Two predicates share a parameter name.  Other queries may give them different values.
+                if (existing != null && existing[0] != idx) {
+                    unambiguous = false;
+                }
+            }
+        }
+
+        this.query = new Statement(sql, parameterLocations);
+        this.pageTotalQuery = pageTotalSql == null ? null : new Statement(pageTotalSql, parameterLocations);
+        this.bindable = unambiguous && this.query.isBindable()
+                && (pageTotalQuery == null || pageTotalQuery.isBindable());
+        this.metricGroups = null;
+    }
+
+    /**
+     * Constructor for queries that are split by metric.
+     * @param metricGroups The indices of the client query metrics fetched by each statement.
+     */
+    public SQLQueryTemplate(List<List<Integer>> metricGroups) {
+        this.query = null;
+        this.pageTotalQuery = null;
+        this.bindable = true;
+        this.metricGroups = metricGroups;
+    }
+
+    /**
+     * Whether the query is split into one statement per metric group.
+     * @return true if the query is split.
+     */
+    public boolean isSplit() {
+        return metricGroups != null;
+    }
+
+    /**
+     * Lists the where and having filter predicates of a query in the order their values are located by a template.
+     * @param query The client query.
+     * @return The predicates (in traversal order, including duplicates).
+     */
+    public static List<FilterPredicate> getFilterPredicates(Query query) {
+        List<FilterPredicate> predicates = new ArrayList<>();
+        if (query.getWhereFilter() != null) {
+            query.getWhereFilter().accept(new PredicateExtractionVisitor(predicates));
+        }
+        if (query.getHavingFilter() != null) {
+            query.getHavingFilter().accept(new PredicateExtractionVisitor(predicates));
+        }
+        return predicates;
+    }
+}
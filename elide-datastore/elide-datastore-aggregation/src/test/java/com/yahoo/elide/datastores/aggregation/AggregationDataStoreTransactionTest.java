@@ -46,8 +46,8 @@ import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngine;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.metadata.SQLTable;
-import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.NativeQuery;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.SQLMetricProjection;
+import com.google.common.collect.ImmutableList;
 import example.PlayerStats;
 import example.PlayerStatsWithRequiredFilter;
 import org.junit.jupiter.api.BeforeAll;
@@ -58,11 +58,11 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @ExtendWith(MockitoExtension.class)
 class AggregationDataStoreTransactionTest extends SQLUnitTest {
@@ -197,19 +197,18 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         Mockito.reset(queryLogger);
 
         QueryResult queryResult = QueryResult.builder().data(DATA).build();
-        NativeQuery myQuery = NativeQuery.builder()
-                .fromClause(playerStatsTable.getName())
-                .projectionClause(" ").build();
         when(queryEngine.getTableVersion(playerStatsTable, qeTransaction)).thenReturn("foo");
         when(queryEngine.executeQuery(query, qeTransaction)).thenReturn(queryResult);
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
 
-        assertEquals(DATA, transaction.loadObjects(entityProjection, scope));
-
+        //Results are cached once they have been read to the end.
+        Iterable<Object> results = transaction.loadObjects(entityProjection, scope);
         String cacheKey = "foo;" + queryKey;
+        Mockito.verify(cache, never()).put(any(), any());
+
+        assertEquals(DATA, ImmutableList.copyOf(results));
         Mockito.verify(cache).get(cacheKey);
         Mockito.verify(cache).put(cacheKey, queryResult);
         Mockito.verifyNoMoreInteractions(cache);
@@ -217,7 +216,7 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
                 Mockito.eq(scope.getRequestId()),
                 any(), any(), any(), any(), any());
         Mockito.verify(queryLogger, times(1)).processQuery(
-                Mockito.eq(scope.getRequestId()), any(), any(), Mockito.eq(false));
+                Mockito.eq(scope.getRequestId()), any(), any(Supplier.class), Mockito.eq(false));
         Mockito.verify(queryLogger, times(1)).completeQuery(
                 Mockito.eq(scope.getRequestId()), any());
     }
@@ -228,12 +227,8 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
 
         String cacheKey = "foo;" + queryKey;
         QueryResult queryResult = QueryResult.builder().data(DATA).build();
-        NativeQuery myQuery = NativeQuery.builder()
-                .fromClause(playerStatsTable.getName())
-                .projectionClause(" ").build();
         when(cache.get(cacheKey)).thenReturn(queryResult);
         when(queryEngine.getTableVersion(playerStatsTable, qeTransaction)).thenReturn("foo");
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
@@ -241,13 +236,14 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         assertEquals(DATA, transaction.loadObjects(entityProjection, scope));
 
         Mockito.verify(queryEngine, never()).executeQuery(any(), any());
+        Mockito.verify(queryEngine, never()).explain(any());
         Mockito.verify(cache).get(cacheKey);
         Mockito.verifyNoMoreInteractions(cache);
         Mockito.verify(queryLogger, times(1)).acceptQuery(
                 Mockito.eq(scope.getRequestId()),
                 any(), any(), any(), any(), any());
         Mockito.verify(queryLogger, times(1)).processQuery(
-                Mockito.eq(scope.getRequestId()), any(), any(), Mockito.eq(true));
+                Mockito.eq(scope.getRequestId()), any(), any(Supplier.class), Mockito.eq(true));
         Mockito.verify(queryLogger, times(1)).completeQuery(
                 Mockito.eq(scope.getRequestId()), any());
     }
@@ -257,12 +253,8 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         Mockito.reset(queryLogger);
 
         QueryResult queryResult = QueryResult.builder().data(DATA).pageTotals(314L).build();
-        NativeQuery myQuery = NativeQuery.builder()
-                .fromClause(playerStatsTable.getName())
-                .projectionClause(" ").build();
         when(cache.get(anyString())).thenReturn(queryResult);
         when(queryEngine.getTableVersion(playerStatsTable, qeTransaction)).thenReturn("foo");
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         Pagination pagination = new PaginationImpl(
@@ -275,13 +267,14 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
 
         String cacheKey = "foo;" + queryKey;
         Mockito.verify(queryEngine, never()).executeQuery(any(), any());
+        Mockito.verify(queryEngine, never()).explain(any());
         Mockito.verify(cache).get(cacheKey);
         Mockito.verifyNoMoreInteractions(cache);
         Mockito.verify(queryLogger, times(1)).acceptQuery(
                 Mockito.eq(scope.getRequestId()),
                 any(), any(), any(), any(), any());
         Mockito.verify(queryLogger, times(1)).processQuery(
-                Mockito.eq(scope.getRequestId()), any(), any(), Mockito.eq(true));
+                Mockito.eq(scope.getRequestId()), any(), any(Supplier.class), Mockito.eq(true));
         Mockito.verify(queryLogger, times(1)).completeQuery(
                 Mockito.eq(scope.getRequestId()), any());
     }
@@ -290,20 +283,15 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
     public void loadObjectsNoTableVersion() {
         Mockito.reset(queryLogger);
 
-        NativeQuery myQuery = NativeQuery.builder()
-                .fromClause(playerStatsTable.getName())
-                .projectionClause(" ").build();
-
         QueryResult queryResult = QueryResult.builder().data(DATA).build();
 
         when(queryEngine.executeQuery(query, qeTransaction))
                 .thenReturn(queryResult);
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
 
-        transaction.loadObjects(entityProjection, scope);
+        assertEquals(DATA, ImmutableList.copyOf(transaction.loadObjects(entityProjection, scope)));
 
         String cacheKey = ";" + queryKey;
         Mockito.verify(cache).get(cacheKey);
@@ -312,7 +300,7 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
                 Mockito.eq(scope.getRequestId()),
                 any(), any(), any(), any(), any());
         Mockito.verify(queryLogger, times(1)).processQuery(
-                Mockito.eq(scope.getRequestId()), any(), any(), Mockito.eq(false));
+                Mockito.eq(scope.getRequestId()), any(), any(Supplier.class), Mockito.eq(false));
         Mockito.verify(queryLogger, times(1)).completeQuery(
                 Mockito.eq(scope.getRequestId()), any());
     }
@@ -322,13 +310,8 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         Mockito.reset(queryLogger);
 
         query = Query.builder().source(playerStatsTable).bypassingCache(true).build();
-        NativeQuery myQuery = NativeQuery.builder()
-                .fromClause(playerStatsTable.getName())
-                .projectionClause(" ").build();
-
         QueryResult queryResult = QueryResult.builder().data(DATA).build();
         when(queryEngine.executeQuery(query, qeTransaction)).thenReturn(queryResult);
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
@@ -341,7 +324,7 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
                 Mockito.eq(scope.getRequestId()),
                 any(), any(), any(), any(), any());
         Mockito.verify(queryLogger, times(1)).processQuery(
-                Mockito.eq(scope.getRequestId()), any(), any(), Mockito.eq(false));
+                Mockito.eq(scope.getRequestId()), any(), any(Supplier.class), Mockito.eq(false));
         Mockito.verify(queryLogger, times(1)).completeQuery(
                 Mockito.eq(scope.getRequestId()), any());
     }
@@ -368,7 +351,7 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
                 Mockito.eq(scope.getRequestId()),
                 any(), any(), any(), any(), any());
         Mockito.verify(queryLogger, times(1)).processQuery(
-                Mockito.eq(scope.getRequestId()), any(), any(), Mockito.eq(false));
+                Mockito.eq(scope.getRequestId()), any(), any(Supplier.class), Mockito.eq(false));
         Mockito.verify(queryLogger, times(1)).completeQuery(
                 Mockito.eq(scope.getRequestId()), any());
     }
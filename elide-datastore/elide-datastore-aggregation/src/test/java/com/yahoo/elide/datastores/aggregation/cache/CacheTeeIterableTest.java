@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CacheTeeIterableTest {
+
+    private static final List<Object> ROWS = Arrays.asList("a", "b", "c");
+
+    private List<Object> cached = null;
+
+    @Test
+    public void testResultUnderBudgetIsCached() {
+        AtomicInteger reads = new AtomicInteger();
+        Iterable<Object> source = () -> {
+            reads.incrementAndGet();
+            return ROWS.iterator();
+        };
+
+        CacheTeeIterable tee = new CacheTeeIterable(source, 3, 100, (row) -> 10, (rows) -> cached = rows);
+
+        assertEquals(ROWS, ImmutableList.copyOf(tee));
+        assertEquals(ROWS, cached);
+
+        //Later reads come from the buffered rows.
+        assertEquals(ROWS, ImmutableList.copyOf(tee));
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    public void testResultOverRowBudgetIsNotCached() {
+        CacheTeeIterable tee = new CacheTeeIterable(ROWS, 2, 100, (row) -> 10, (rows) -> cached = rows);
+
+        assertEquals(ROWS, ImmutableList.copyOf(tee));
+        assertNull(cached);
+    }
+
+    @Test
+    public void testResultOverByteBudgetIsNotCached() {
+        CacheTeeIterable tee = new CacheTeeIterable(ROWS, 3, 25, (row) -> 10, (rows) -> cached = rows);
+
+        assertEquals(ROWS, ImmutableList.copyOf(tee));
+        assertNull(cached);
+    }
+
+    @Test
+    public void testPartiallyReadResultIsNotCached() {
+        CacheTeeIterable tee = new CacheTeeIterable(ROWS, 3, 100, (row) -> 10, (rows) -> cached = rows);
+
+        Iterator<Object> iterator = tee.iterator();
+        assertEquals("a", iterator.next());
+        assertEquals("b", iterator.next());
+        assertNull(cached);
+    }
+}
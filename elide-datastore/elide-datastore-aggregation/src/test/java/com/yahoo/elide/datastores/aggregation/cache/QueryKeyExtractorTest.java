@@ -10,6 +10,7 @@ import static com.yahoo.elide.datastores.aggregation.dynamic.NamespacePackage.DE
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.dialect.ParseException;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.sort.SortingImpl;
@@ -25,6 +26,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.function.Function;
 
 public class QueryKeyExtractorTest {
 
@@ -129,4 +131,31 @@ public class QueryKeyExtractorTest {
                         .timeDimensionProjection(playerStatsTable.getTimeDimensionProjection("updatedDate"))
                         .build()));
     }
+
+    @Test
+    public void testShapeKeyIgnoresFilterValues() throws Exception {
+        RSQLFilterDialect filterParser = RSQLFilterDialect.builder().dictionary(dictionary).build();
+        Function<String, Query> query = (filter) -> {
+            try {
+                return Query.builder()
+                        .source(playerStatsTable)
+                        .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                        .whereFilter(filterParser.parseFilterExpression(filter,
+                                ClassType.of(PlayerStats.class), false))
+                        .build();
+            } catch (ParseException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        assertEquals(
+                QueryKeyExtractor.extractShapeKey(query.apply("countryNickName=='Uncle Sam'")),
+                QueryKeyExtractor.extractShapeKey(query.apply("countryNickName=='Uncle Bob'")));
+        assertNotEquals(
+                QueryKeyExtractor.extractKey(query.apply("countryNickName=='Uncle Sam'")),
+                QueryKeyExtractor.extractKey(query.apply("countryNickName=='Uncle Bob'")));
+        assertNotEquals(
+                QueryKeyExtractor.extractShapeKey(query.apply("countryNickName=in=('Uncle Sam')")),
+                QueryKeyExtractor.extractShapeKey(query.apply("countryNickName=in=('Uncle Sam','Uncle Bob')")));
+    }
 }
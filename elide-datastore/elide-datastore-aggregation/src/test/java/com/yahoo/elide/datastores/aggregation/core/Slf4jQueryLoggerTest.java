@@ -57,6 +57,22 @@ public class Slf4jQueryLoggerTest {
                 true);
     }
 
+    @Test
+    void testProcessGeneratesQueryTextOnDemand() {
+        Slf4jQueryLogger.Logger logger = (template, node) -> {
+            assertEquals("{\"id\":\"edc4a871-dff2-4054-804e-d80075cf828d\",\"queries\":[\"foo\"],\"isCached\":false}", node.toString());
+        };
+
+        Slf4jQueryLogger slf4jQueryLogger = new Slf4jQueryLogger(logger);
+        slf4jQueryLogger.processQuery(
+                UUID.fromString("edc4a871-dff2-4054-804e-d80075cf828d"),
+                Query.builder()
+                        .source(mock(Queryable.class))
+                        .build(),
+                () -> Arrays.asList("foo"),
+                false);
+    }
+
     @Test
     void testComplete() {
         Slf4jQueryLogger.Logger logger = (template, node) -> {
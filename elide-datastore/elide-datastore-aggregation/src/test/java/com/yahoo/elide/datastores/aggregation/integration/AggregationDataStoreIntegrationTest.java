@@ -15,6 +15,7 @@ import static com.yahoo.elide.test.graphql.GraphQLDSL.selections;
 import static io.restassured.RestAssured.given;
 import static io.restassured.RestAssured.when;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasItems;
@@ -1003,6 +1004,84 @@ public class AggregationDataStoreIntegrationTest extends GraphQLIntegrationTest
                 .body("data.attributes.countryIsoCode", hasItems("USA", "HKG"));
     }
 
+    @Test
+    public void jsonApiKeysetPaginationTest() {
+        //Ties on subCountryIsoCode are broken by the other projected dimension (playerName), not by the row ID.
+        String path = "/playerStats?fields[playerStats]=highScore,subCountryIsoCode,playerName"
+                + "&sort=subCountryIsoCode&page[size]=1&page[after]=";
+
+        String cursor = given()
+                .accept("application/vnd.api+json")
+                .get(path)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("data.attributes.highScore", contains(1000))
+                .body("data.attributes.playerName", contains("Han"))
+                .extract().path("meta.page.endCursor");
+
+        cursor = given()
+                .accept("application/vnd.api+json")
+                .get(path + cursor)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("data.attributes.highScore", contains(2412))
+                .body("data.attributes.playerName", contains("Jane Doe"))
+                .extract().path("meta.page.endCursor");
+
+        cursor = given()
+                .accept("application/vnd.api+json")
+                .get(path + cursor)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("data.attributes.highScore", contains(1234))
+                .body("data.attributes.playerName", contains("Jon Doe"))
+                .extract().path("meta.page.endCursor");
+
+        given()
+                .accept("application/vnd.api+json")
+                .get(path + cursor)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("data", hasSize(0));
+
+        given()
+                .accept("application/vnd.api+json")
+                .get(path.replace("page[after]", "page[before]") + cursor)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("data.attributes.playerName", contains("Jane Doe"));
+    }
+
+    @Test
+    public void jsonApiKeysetPaginationOverNullDimensionTest() {
+        //Hong Kong has no nick name, so Han's row sorts first and its cursor holds a null dimension value.
+        String path = "/playerStats?fields[playerStats]=highScore,countryNickName,playerName"
+                + "&sort=countryNickName&page[size]=1&page[after]=";
+
+        String cursor = given()
+                .accept("application/vnd.api+json")
+                .get(path)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("data.attributes.playerName", contains("Han"))
+                .extract().path("meta.page.endCursor");
+
+        cursor = given()
+                .accept("application/vnd.api+json")
+                .get(path + cursor)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("data.attributes.playerName", contains("Jane Doe"))
+                .extract().path("meta.page.endCursor");
+
+        given()
+                .accept("application/vnd.api+json")
+                .get(path.replace("page[after]", "page[before]") + cursor)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("data.attributes.playerName", contains("Han"));
+    }
+
     /**
      * Below tests demonstrate using the aggregation store from dynamic configuration.
      */
@@ -7,6 +7,7 @@ package com.yahoo.elide.datastores.aggregation.queryengines.sql;
 
 import static com.yahoo.elide.datastores.aggregation.timegrains.Time.TIME_TYPE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.exceptions.InvalidParameterizedAttributeException;
@@ -18,11 +19,14 @@ import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.sort.SortingImpl;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.datastores.aggregation.framework.SQLUnitTest;
+import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
 import com.yahoo.elide.datastores.aggregation.metadata.enums.TimeGrain;
 import com.yahoo.elide.datastores.aggregation.query.ImmutablePagination;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+import com.yahoo.elide.datastores.aggregation.query.Queryable;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.annotation.FromSubquery;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.SQLMetricProjection;
 import com.yahoo.elide.datastores.aggregation.timegrains.Day;
 import com.yahoo.elide.datastores.aggregation.timegrains.Month;
 import com.google.common.collect.ImmutableList;
@@ -815,4 +819,129 @@ public class QueryEngineTest extends SQLUnitTest {
         assertThrows(InvalidParameterizedAttributeException.class,
                 () -> playerStatsTable.getTimeDimensionProjection("recordedDate", arguments));
     }
+
+    /**
+     * Test that table versions are served from the version cache without a transaction.
+     */
+    @Test
+    public void testTableVersionIsCached() {
+        String version = engine.getTableVersion(playerStatsTable, transaction);
+
+        assertNotNull(version);
+        assertEquals(version, engine.getTableVersion(playerStatsTable, null));
+    }
+
+    /**
+     * Test that queries with the same shape and different filter values bind their own values.
+     *
+     * @throws Exception exception
+     */
+    @Test
+    public void testSameQueryShapeWithDifferentFilterValues() throws Exception {
+        for (String rating : Arrays.asList("Great", "Good", "Great")) {
+            Query query = Query.builder()
+                    .source(playerStatsTable)
+                    .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                    .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                    .whereFilter(filterParser.parseFilterExpression("overallRating==" + rating,
+                            playerStatsType, false))
+                    .pagination(new ImmutablePagination(0, 10, false, true))
+                    .build();
+
+            QueryResult result = engine.executeQuery(query, transaction);
+            List<Object> results = toList(result.getData());
+
+            assertEquals(1, results.size());
+            assertEquals(rating, ((PlayerStats) results.get(0)).getOverallRating());
+            assertEquals(1L, result.getPageTotals());
+        }
+    }
+
+    /**
+     * Test that metrics whose query plans cannot be merged are fetched by separate statements and joined on the
+     * dimension values.
+     */
+    @Test
+    public void testMetricsThatCannotBeMergedAreSplit() throws Exception {
+        Map<String, Argument> arguments = new HashMap<>();
+        arguments.put("grain", Argument.builder().name("grain").value(TimeGrain.MONTH).build());
+
+        SQLMetricProjection highScore = (SQLMetricProjection) playerStatsTable.getMetricProjection("highScore");
+        SQLMetricProjection unnestableHighScore = new SQLMetricProjection(highScore.getName(),
+                highScore.getValueType(), highScore.getColumnType(), highScore.getExpression(),
+                highScore.getAlias(), highScore.getArguments(), true) {
+            @Override
+            public boolean canNest(Queryable source, MetaDataStore store) {
+                return false;
+            }
+        };
+
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("dailyAverageScorePerPeriod"))
+                .metricProjection(unnestableHighScore)
+                .timeDimensionProjection(
+                        playerStatsTable.getTimeDimensionProjection("recordedDate", arguments))
+                .pagination(new ImmutablePagination(0, 10, false, true))
+                .build();
+
+        assertEquals(2, engine.explain(query).size());
+
+        QueryResult result = engine.executeQuery(query, transaction);
+        List<Object> results = toList(result.getData());
+
+        PlayerStats stats0 = new PlayerStats();
+        stats0.setId("0");
+        stats0.setDailyAverageScorePerPeriod(1549);
+        stats0.setHighScore(2412);
+        stats0.setRecordedDate(new Month(Date.valueOf("2019-07-01")));
+
+        assertEquals(ImmutableList.of(stats0), results);
+        assertEquals(1L, result.getPageTotals());
+    }
+
+    /**
+     * The having filter and sorting of a split query apply to its joined rows.
+     */
+    @Test
+    public void testSplitQueryWithHavingAndSorting() throws Exception {
+        Map<String, Argument> arguments = new HashMap<>();
+        arguments.put("grain", Argument.builder().name("grain").value(TimeGrain.DAY).build());
+
+        SQLMetricProjection highScore = (SQLMetricProjection) playerStatsTable.getMetricProjection("highScore");
+        SQLMetricProjection unnestableHighScore = new SQLMetricProjection(highScore.getName(),
+                highScore.getValueType(), highScore.getColumnType(), highScore.getExpression(),
+                highScore.getAlias(), highScore.getArguments(), true) {
+            @Override
+            public boolean canNest(Queryable source, MetaDataStore store) {
+                return false;
+            }
+        };
+
+        Map<String, Sorting.SortOrder> sortMap = new TreeMap<>();
+        sortMap.put("highScore", Sorting.SortOrder.desc);
+
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("dailyAverageScorePerPeriod"))
+                .metricProjection(unnestableHighScore)
+                .timeDimensionProjection(
+                        playerStatsTable.getTimeDimensionProjection("recordedDate", arguments))
+                .havingFilter(filterParser.parseFilterExpression("highScore > 1000", playerStatsType, false))
+                .sorting(new SortingImpl(sortMap, PlayerStats.class, dictionary))
+                .pagination(new ImmutablePagination(0, 10, false, true))
+                .build();
+
+        assertEquals(2, engine.explain(query).size());
+
+        QueryResult result = engine.executeQuery(query, transaction);
+        List<PlayerStats> results = toList(result.getData());
+
+        assertEquals(2, results.size());
+        assertEquals(2412, results.get(0).getHighScore());
+        assertEquals(new Day(Date.valueOf("2019-07-11")), results.get(0).getRecordedDate());
+        assertEquals(1234, results.get(1).getHighScore());
+        assertEquals(new Day(Date.valueOf("2019-07-12")), results.get(1).getRecordedDate());
+        assertEquals(2L, result.getPageTotals());
+    }
 }
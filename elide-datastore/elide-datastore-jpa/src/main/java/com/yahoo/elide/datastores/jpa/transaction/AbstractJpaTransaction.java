@@ -24,6 +24,7 @@ import java.util.function.Predicate;
 import javax.persistence.EntityManager;
 import javax.persistence.FlushModeType;
 import javax.persistence.NoResultException;
+import javax.persistence.PersistenceException;
 import javax.validation.ConstraintViolationException;
 
 /**
@@ -39,6 +40,8 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
     private static final Predicate<Collection<?>> IS_PERSISTENT_COLLECTION =
             new PersistentCollectionChecker();
 
+    private static final String HIBERNATE_SESSION = "org.hibernate.Session";
+
     protected final EntityManager em;
     private final LinkedHashSet<Runnable> deferredTasks = new LinkedHashSet<>();
     private final Consumer<EntityManager> jpaTransactionCancel;
@@ -66,6 +69,37 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
         this(em, jpaTransactionCancel, logger, delegateToInMemoryStore, true);
     }
 
+    /**
+     * Creates a new JPA transaction which groups its writes into JDBC batches.
+     *
+     * @param em The entity manager / session.
+     * @param jpaTransactionCancel A function which can cancel a session.
+     * @param logger Logs queries.
+     * @param delegateToInMemoryStore When fetching a subcollection from another multi-element collection,
+     *                                whether or not to do sorting, filtering and pagination in memory - or
+     *                                do N+1 queries.
+     * @param jdbcBatchSize The most statements sent to the database in one JDBC batch when the transaction is
+     *                      flushed.  Values less than 1 keep the batch size of the persistence unit.
+     */
+    protected AbstractJpaTransaction(EntityManager em, Consumer<EntityManager> jpaTransactionCancel, QueryLogger logger,
+            boolean delegateToInMemoryStore, int jdbcBatchSize) {
+        this(em, jpaTransactionCancel, logger, delegateToInMemoryStore, true);
+        if (jdbcBatchSize > 0) {
+            setJdbcBatchSize(jdbcBatchSize);
+        }
+    }
+
+    private void setJdbcBatchSize(int jdbcBatchSize) {
+        // The store does not depend on a JPA provider, so the Hibernate session is looked up by name.
+        try {
+            Class<?> sessionClass = Class.forName(HIBERNATE_SESSION);
+            Object session = em.unwrap(sessionClass);
+            sessionClass.getMethod("setJdbcBatchSize", Integer.class).invoke(session, jdbcBatchSize);
+        } catch (ReflectiveOperationException | PersistenceException e) {
+            log.debug("JDBC batch size is only supported for Hibernate sessions", e);
+        }
+    }
+
     @Override
     public <T> void delete(T object, RequestScope scope) {
         deferredTasks.add(() -> em.remove(object));
@@ -35,7 +35,23 @@ public class JtaTransaction extends AbstractJpaTransaction {
      */
     public JtaTransaction(EntityManager entityManager, UserTransaction transaction, Consumer<EntityManager> txCancel,
                           QueryLogger logger, boolean delegateToInMemoryStore) {
-        super(entityManager, txCancel, logger, delegateToInMemoryStore);
+        this(entityManager, transaction, txCancel, logger, delegateToInMemoryStore, 0);
+    }
+
+    /**
+     * Creates a new JPA transaction.
+     * @param entityManager The entity manager / session.
+     * @param txCancel A function which can cancel a session.
+     * @param logger Logs queries.
+     * @param delegateToInMemoryStore When fetching a subcollection from another multi-element collection,
+     *                                whether or not to do sorting, filtering and pagination in memory - or
+     *                                do N+1 queries.
+     * @param jdbcBatchSize The most statements sent in one JDBC batch.  Values less than 1 keep the batch size
+     *                      of the persistence unit.
+     */
+    public JtaTransaction(EntityManager entityManager, UserTransaction transaction, Consumer<EntityManager> txCancel,
+                          QueryLogger logger, boolean delegateToInMemoryStore, int jdbcBatchSize) {
+        super(entityManager, txCancel, logger, delegateToInMemoryStore, jdbcBatchSize);
         this.transaction = transaction;
     }
 
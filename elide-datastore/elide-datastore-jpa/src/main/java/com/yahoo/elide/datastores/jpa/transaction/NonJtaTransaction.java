@@ -43,7 +43,25 @@ public class NonJtaTransaction extends AbstractJpaTransaction {
     public NonJtaTransaction(EntityManager entityManager, Consumer<EntityManager> jpaTransactionCancel,
                              QueryLogger logger,
                              boolean delegateToInMemoryStore) {
-        super(entityManager, jpaTransactionCancel, logger, delegateToInMemoryStore);
+        this(entityManager, jpaTransactionCancel, logger, delegateToInMemoryStore, 0);
+    }
+
+    /**
+     * Creates a new Non-JTA, JPA transaction.
+     * @param entityManager The entity manager / session.
+     * @param jpaTransactionCancel A function which can cancel a session.
+     * @param logger Logs queries.
+     * @param delegateToInMemoryStore When fetching a subcollection from another multi-element collection,
+     *                                whether or not to do sorting, filtering and pagination in memory - or
+     *                                do N+1 queries.
+     * @param jdbcBatchSize The most statements sent in one JDBC batch.  Values less than 1 keep the batch size
+     *                      of the persistence unit.
+     */
+    public NonJtaTransaction(EntityManager entityManager, Consumer<EntityManager> jpaTransactionCancel,
+                             QueryLogger logger,
+                             boolean delegateToInMemoryStore,
+                             int jdbcBatchSize) {
+        super(entityManager, jpaTransactionCancel, logger, delegateToInMemoryStore, jdbcBatchSize);
         this.transaction = entityManager.getTransaction();
         entityManager.clear();
     }
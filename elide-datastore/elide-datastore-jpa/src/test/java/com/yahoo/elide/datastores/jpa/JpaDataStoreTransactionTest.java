@@ -10,6 +10,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.core.RequestScope;
@@ -20,6 +23,7 @@ import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.datastores.jpa.transaction.AbstractJpaTransaction;
 import example.Author;
 import example.Book;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -153,4 +157,27 @@ public class JpaDataStoreTransactionTest {
         assertTrue(readTx.supportsSorting(scope, Optional.of(loadedAuthor), projection));
         assertTrue(readTx.supportsPagination(scope, Optional.of(loadedAuthor), projection));
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 50})
+    public void testJdbcBatchSize(int jdbcBatchSize) {
+        EntityManager entityManager = mock(EntityManager.class);
+        Session session = mock(Session.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+
+        new AbstractJpaTransaction(entityManager, (unused) -> {
+        }, DEFAULT_LOGGER, true, jdbcBatchSize) {
+            @Override
+            public boolean isOpen() {
+                return false;
+            }
+
+            @Override
+            public void begin() {
+
+            }
+        };
+
+        verify(session, times(jdbcBatchSize > 0 ? 1 : 0)).setJdbcBatchSize(jdbcBatchSize);
+    }
 }
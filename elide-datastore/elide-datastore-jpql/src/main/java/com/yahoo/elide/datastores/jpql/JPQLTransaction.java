@@ -27,14 +27,19 @@ import com.yahoo.elide.datastores.jpql.query.AbstractHQLQueryBuilder;
 import com.yahoo.elide.datastores.jpql.query.RelationshipImpl;
 import com.yahoo.elide.datastores.jpql.query.RootCollectionFetchQueryBuilder;
 import com.yahoo.elide.datastores.jpql.query.RootCollectionPageTotalsQueryBuilder;
+import com.yahoo.elide.datastores.jpql.query.SubCollectionBatchFetchQueryBuilder;
 import com.yahoo.elide.datastores.jpql.query.SubCollectionFetchQueryBuilder;
 import com.yahoo.elide.datastores.jpql.query.SubCollectionPageTotalsQueryBuilder;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -44,6 +49,12 @@ import java.util.function.Predicate;
  */
 public abstract class JPQLTransaction implements DataStoreTransaction {
 
+    /**
+     * The default number of parents whose relationship members are fetched by a single query.  It stays below the
+     * list parameter limits of common databases (1000 for Oracle, about 2100 for SQL Server).
+     */
+    public static final int DEFAULT_RELATION_BATCH_SIZE = 500;
+
     private final Session sessionWrapper;
     private final boolean isScrollEnabled;
     private final Set<Object> singleElementLoads;
@@ -190,8 +201,91 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
         return addSingleElement((R) val);
     }
 
+    @Override
+    public <T, R> Map<T, R> getRelations(
+            DataStoreTransaction relationTx,
+            List<T> entities,
+            Relationship relation,
+            RequestScope scope) {
+
+        FilterExpression filterExpression = relation.getProjection().getFilterExpression();
+        Sorting sorting = relation.getProjection().getSorting();
+        Pagination pagination = relation.getProjection().getPagination();
+        EntityDictionary dictionary = scope.getDictionary();
+
+        /*
+         * Without filtering or sorting, the collection proxies are returned and Hibernate manages the SQL.
+         * Pagination is defined per parent and cannot be pushed into a single query for all of them.
+         * Default pagination is also applied in memory by Elide.
+         */
+        if (entities.size() < 2
+                || (filterExpression == null && (sorting == null || sorting.isDefaultInstance()))
+                || (pagination != null && (!pagination.isDefaultInstance() || pagination.returnPageTotals()))) {
+            return DataStoreTransaction.super.getRelations(relationTx, entities, relation, scope);
+        }
+
+        Type<?> parentType = dictionary.lookupEntityClass(EntityDictionary.getType(entities.get(0)));
+        if (!dictionary.getRelationshipType(parentType, relation.getName()).isToMany()) {
+            return DataStoreTransaction.super.getRelations(relationTx, entities, relation, scope);
+        }
+
+        String idField = dictionary.getIdFieldName(parentType);
+        Map<T, R> results = new IdentityHashMap<>();
+        Map<Object, List<Object>> membersByParentId = new HashMap<>();
+        List<T> parents = new ArrayList<>();
+        for (T entity : entities) {
+            Object val = com.yahoo.elide.core.PersistentResource.getValue(entity, relation.getName(), scope);
+            if (val instanceof Collection && isPersistentCollection().test((Collection<?>) val)) {
+                parents.add(entity);
+                membersByParentId.put(
+                        com.yahoo.elide.core.PersistentResource.getValue(entity, idField, scope),
+                        new ArrayList<>());
+            } else {
+                results.put(entity, addSingleElement((R) val));
+            }
+        }
+
+        if (parents.isEmpty()) {
+            return results;
+        }
+
+        // Parents are bound as a list parameter, so they are fetched in batches within the bind limits of databases.
+        int batchSize = Math.max(1, getRelationBatchSize());
+        for (int start = 0; start < parents.size(); start += batchSize) {
+            List<T> batch = parents.subList(start, Math.min(start + batchSize, parents.size()));
+            RelationshipImpl relationship = new RelationshipImpl(parentType, batch, relation);
+
+            final Query query =
+                    new SubCollectionBatchFetchQueryBuilder(relationship, batch, dictionary, sessionWrapper)
+                            .build();
+
+            Iterable<Object[]> rows = new TimedFunction<Iterable<Object[]>>(() -> query.list(),
+                    "Query Hash: " + query.hashCode()).get();
+
+            for (Object[] row : rows) {
+                membersByParentId.get(row[0]).add(row[1]);
+            }
+        }
+
+        for (T parent : parents) {
+            Object parentId = com.yahoo.elide.core.PersistentResource.getValue(parent, idField, scope);
+            results.put(parent, addSingleElement((R) membersByParentId.get(parentId)));
+        }
+        return results;
+    }
+
     protected abstract Predicate<Collection<?>> isPersistentCollection();
 
+    /**
+     * The most parents whose relationship members are fetched by a single query.  Override to fit the bind
+     * parameter limits of the database.
+     *
+     * @return The batch size.  Defaults to {@link #DEFAULT_RELATION_BATCH_SIZE}.
+     */
+    protected int getRelationBatchSize() {
+        return DEFAULT_RELATION_BATCH_SIZE;
+    }
+
     /**
      * Returns the total record count for a root entity and an optional filter expression.
      *
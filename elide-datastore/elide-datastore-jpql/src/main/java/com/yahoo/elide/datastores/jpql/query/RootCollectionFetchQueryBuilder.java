@@ -9,6 +9,7 @@ import static com.yahoo.elide.core.utils.TypeHelper.getTypeAlias;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.ParameterNamingVisitor;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.filter.predicates.FilterPredicate;
 import com.yahoo.elide.core.request.EntityProjection;
@@ -42,7 +43,8 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
         String entityAlias = getTypeAlias(entityClass);
 
         Query query;
-        FilterExpression filterExpression = entityProjection.getFilterExpression();
+        FilterExpression filterExpression =
+                ParameterNamingVisitor.nameParameters(entityProjection.getFilterExpression());
         if (filterExpression != null) {
             PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
             Collection<FilterPredicate> predicates = filterExpression.accept(extractor);
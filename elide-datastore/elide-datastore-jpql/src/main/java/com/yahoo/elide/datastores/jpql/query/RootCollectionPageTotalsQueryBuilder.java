@@ -8,6 +8,7 @@ package com.yahoo.elide.datastores.jpql.query;
 import static com.yahoo.elide.core.utils.TypeHelper.getTypeAlias;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.ParameterNamingVisitor;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.filter.predicates.FilterPredicate;
 import com.yahoo.elide.core.request.EntityProjection;
@@ -51,7 +52,8 @@ public class RootCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilde
         String filterClause;
         String joinClause;
 
-        FilterExpression filterExpression = entityProjection.getFilterExpression();
+        FilterExpression filterExpression =
+                ParameterNamingVisitor.nameParameters(entityProjection.getFilterExpression());
         if (filterExpression != null) {
             PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
             predicates = filterExpression.accept(extractor);
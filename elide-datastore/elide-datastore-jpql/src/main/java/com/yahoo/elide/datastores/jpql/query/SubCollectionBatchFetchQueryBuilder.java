@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jpql.query;
+
+import static com.yahoo.elide.core.utils.TypeHelper.getTypeAlias;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.ParameterNamingVisitor;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.datastores.jpql.filter.FilterTranslator;
+import com.yahoo.elide.datastores.jpql.porting.Query;
+import com.yahoo.elide.datastores.jpql.porting.Session;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * Constructs a HQL query to fetch the members of a relationship for several parents at once.
+ * Each row of the query is a pair of (parent ID, child).
+ */
+public class SubCollectionBatchFetchQueryBuilder extends AbstractHQLQueryBuilder {
+
+    private final Relationship relationship;
+    private final Collection<?> parents;
+
+    public SubCollectionBatchFetchQueryBuilder(Relationship relationship,
+                                               Collection<?> parents,
+                                               EntityDictionary dictionary,
+                                               Session session) {
+        super(relationship.getRelationship().getProjection(), dictionary, session);
+        this.relationship = relationship;
+        this.parents = parents;
+    }
+
+    @Override
+    protected String extractToOneMergeJoins(Type<?> entityClass, String alias) {
+        Predicate<String> shouldSkip = (relationshipName) -> {
+            String inverseRelationName = dictionary.getRelationInverse(entityClass, relationshipName);
+            if (inverseRelationName.isEmpty()) {
+                return false;
+            }
+
+            Type<?> relationshipClass = dictionary.getParameterizedType(entityClass, relationshipName);
+
+            //We don't need (or want) to fetch join the parent object.
+            return relationshipClass.equals(relationship.getParentType())
+                    && inverseRelationName.equals(relationship.getRelationshipName());
+        };
+
+        return extractToOneMergeJoins(entityClass, alias, shouldSkip);
+    }
+
+    /**
+     * Constructs a query that returns the members of a relationship along with the ID of their parent.
+     * Pagination is not applied as it is defined per parent.
+     *
+     * @return the constructed query
+     */
+    @Override
+    public Query build() {
+        String childAlias = getTypeAlias(relationship.getChildType());
+        String parentAlias = getTypeAlias(relationship.getParentType()) + "__fetch";
+        String parentName = relationship.getParentType().getCanonicalName();
+        String parentIdName = dictionary.getIdFieldName(relationship.getParentType());
+        String relationshipName = relationship.getRelationshipName();
+
+        FilterExpression filterExpression =
+                ParameterNamingVisitor.nameParameters(entityProjection.getFilterExpression());
+
+        String filterClause = "";
+        String joinClause = "";
+        Collection<FilterPredicate> predicates = null;
+        if (filterExpression != null) {
+            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
+            predicates = filterExpression.accept(extractor);
+            filterClause = new FilterTranslator(dictionary).apply(filterExpression, USE_ALIAS) + " AND ";
+            joinClause = getJoinClauseFromFilters(filterExpression);
+        }
+
+        //SELECT parent.id, parent_children from Parent parent JOIN parent.children parent_children
+        Query query = session.createQuery(SELECT
+                + parentAlias + PERIOD + parentIdName + COMMA + SPACE + childAlias
+                + FROM
+                + parentName + SPACE + parentAlias
+                + JOIN
+                + parentAlias + PERIOD + relationshipName + SPACE + childAlias
+                + joinClause
+                + getJoinClauseFromSort(entityProjection.getSorting())
+                + extractToOneMergeJoins(relationship.getChildType(), childAlias)
+                + WHERE
+                + filterClause
+                + parentAlias + " IN (:" + parentAlias + ")"
+                + getSortClause(entityProjection.getSorting())
+        );
+
+        if (predicates != null) {
+            supplyFilterQueryParameters(query, predicates);
+        }
+
+        query.setParameterList(parentAlias, parents);
+
+        return query;
+    }
+}
@@ -8,6 +8,7 @@ package com.yahoo.elide.datastores.jpql.query;
 import static com.yahoo.elide.core.utils.TypeHelper.getTypeAlias;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.ParameterNamingVisitor;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.filter.predicates.FilterPredicate;
 import com.yahoo.elide.core.type.Type;
@@ -69,7 +70,8 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
         String parentName = relationship.getParentType().getCanonicalName();
         String relationshipName = relationship.getRelationshipName();
 
-        FilterExpression filterExpression = entityProjection.getFilterExpression();
+        FilterExpression filterExpression =
+                ParameterNamingVisitor.nameParameters(entityProjection.getFilterExpression());
         Query query;
         if (filterExpression != null) {
             PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
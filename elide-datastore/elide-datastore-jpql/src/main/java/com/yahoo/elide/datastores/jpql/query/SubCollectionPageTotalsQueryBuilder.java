@@ -12,6 +12,7 @@ import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.ExpressionScopingVisitor;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.ParameterNamingVisitor;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.filter.predicates.FilterPredicate;
 import com.yahoo.elide.core.filter.predicates.InPredicate;
@@ -81,15 +82,15 @@ public class SubCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilder
 
             FilterExpression scoped = filterExpression.accept(visitor);
 
+            //Join together the provided filter expression with the expression which selects the collection owner.
+            FilterExpression joinedExpression = ParameterNamingVisitor.nameParameters(
+                    new AndFilterExpression(scoped, idExpression));
+
             //For each filter predicate, prepend the predicate with the parent:
             //books.title = 'Foobar' becomes author.books.title = 'Foobar'
             PredicateExtractionVisitor extractor = new PredicateExtractionVisitor(new ArrayList<>());
 
-            predicates = scoped.accept(extractor);
-            predicates.add(idExpression);
-
-            //Join together the provided filter expression with the expression which selects the collection owner.
-            FilterExpression joinedExpression = new AndFilterExpression(scoped, idExpression);
+            predicates = joinedExpression.accept(extractor);
 
             //Build the JOIN clause from the filter predicate
             joinClause = getJoinClauseFromFilters(joinedExpression, true);
@@ -106,8 +107,9 @@ public class SubCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilder
                     + relationshipAlias
                     + SPACE;
 
-            filterClause = new FilterTranslator(dictionary).apply(idExpression, USE_ALIAS);
-            predicates.add(idExpression);
+            FilterExpression namedIdExpression = ParameterNamingVisitor.nameParameters(idExpression);
+            filterClause = new FilterTranslator(dictionary).apply(namedIdExpression, USE_ALIAS);
+            predicates = namedIdExpression.accept(new PredicateExtractionVisitor(new ArrayList<>()));
         }
 
         Query query = session.createQuery(
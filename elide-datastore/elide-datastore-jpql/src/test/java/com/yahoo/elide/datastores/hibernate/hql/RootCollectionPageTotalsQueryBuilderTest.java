@@ -136,14 +136,11 @@ public class RootCollectionPageTotalsQueryBuilderTest {
                 + "LEFT JOIN example_Author_books.chapters example_Author_books_chapters "
                 + "LEFT JOIN example_Author_books.publisher example_Author_books_publisher "
                 + "WHERE (example_Author_books_chapters.title IN "
-                + "(:books_chapters_title_XXX, :books_chapters_title_XXX) "
-                + "OR example_Author_books_publisher.name IN (:books_publisher_name_XXX))";
+                + "(:books_chapters_title_0_0, :books_chapters_title_0_1) "
+                + "OR example_Author_books_publisher.name IN (:books_publisher_name_1_0))";
 
         String actual = query.getQueryText();
         actual = actual.trim().replaceAll(" +", " ");
-        actual = actual.replaceFirst(":books_chapters_title_\\w\\w\\w\\w+", ":books_chapters_title_XXX");
-        actual = actual.replaceFirst(":books_chapters_title_\\w\\w\\w\\w+", ":books_chapters_title_XXX");
-        actual = actual.replaceFirst(":books_publisher_name_\\w\\w\\w\\w+", ":books_publisher_name_XXX");
 
         assertEquals(expected, actual);
     }
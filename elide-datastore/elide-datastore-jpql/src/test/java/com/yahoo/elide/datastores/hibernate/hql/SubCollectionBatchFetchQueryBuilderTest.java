@@ -0,0 +1,124 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.predicates.InPredicate;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Relationship;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.sort.SortingImpl;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.datastores.jpql.query.RelationshipImpl;
+import com.yahoo.elide.datastores.jpql.query.SubCollectionBatchFetchQueryBuilder;
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Publisher;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SubCollectionBatchFetchQueryBuilderTest {
+
+    private EntityDictionary dictionary;
+
+    private static final String BOOKS = "books";
+    private static final String TITLE = "title";
+    private static final String PUBLISHER = "publisher";
+
+    @BeforeAll
+    public void initialize() {
+        dictionary = EntityDictionary.builder().build();
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+    }
+
+    @Test
+    public void testBatchFetch() {
+        List<Author> authors = getAuthors();
+
+        EntityProjection entityProjection = EntityProjection.builder().type(Book.class).build();
+        Relationship relationshipProjection = Relationship.builder().name(BOOKS).projection(entityProjection).build();
+
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(
+                new RelationshipImpl(ClassType.of(Author.class), authors, relationshipProjection),
+                authors,
+                dictionary,
+                new TestSessionWrapper()
+        );
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT example_Author__fetch.id, example_Book FROM example.Author example_Author__fetch "
+                + "JOIN example_Author__fetch.books example_Book "
+                + "WHERE example_Author__fetch IN (:example_Author__fetch)";
+        String actual = query.getQueryText();
+        actual = actual.trim().replaceAll(" +", " ");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testBatchFetchWithSortingAndFilters() {
+        List<Author> authors = getAuthors();
+
+        Map<String, Sorting.SortOrder> sorting = new HashMap<>();
+        sorting.put(TITLE, Sorting.SortOrder.asc);
+
+        Path.PathElement publisherNamePath = new Path.PathElement(Publisher.class, String.class, "name");
+        Path publisherPath = new Path(Arrays.asList(
+                new Path.PathElement(Book.class, Publisher.class, PUBLISHER),
+                publisherNamePath));
+
+        EntityProjection entityProjection = EntityProjection.builder().type(Book.class)
+                .filterExpression(new InPredicate(publisherPath, "Pub1"))
+                .sorting(new SortingImpl(sorting, Book.class, dictionary))
+                .build();
+
+        Relationship relationshipProjection = Relationship.builder().name(BOOKS).projection(entityProjection).build();
+
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(
+                new RelationshipImpl(ClassType.of(Author.class), authors, relationshipProjection),
+                authors,
+                dictionary,
+                new TestSessionWrapper()
+        );
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT example_Author__fetch.id, example_Book FROM example.Author example_Author__fetch "
+                + "JOIN example_Author__fetch.books example_Book "
+                + "LEFT JOIN example_Book.publisher example_Book_publisher "
+                + "WHERE example_Book_publisher.name IN (:publisher_name_XXX) "
+                + "AND example_Author__fetch IN (:example_Author__fetch) order by example_Book.title asc";
+        String actual = query.getQueryText();
+        actual = actual.trim().replaceAll(" +", " ");
+        actual = actual.replaceFirst(":publisher_name_\\w+", ":publisher_name_XXX");
+
+        assertEquals(expected, actual);
+    }
+
+    private List<Author> getAuthors() {
+        Author author1 = new Author();
+        author1.setId(1L);
+
+        Author author2 = new Author();
+        author2.setId(2L);
+
+        return Arrays.asList(author1, author2);
+    }
+}
@@ -9,12 +9,17 @@ import com.yahoo.elide.datastores.jpql.porting.Query;
 import lombok.Getter;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class TestQueryWrapper implements Query {
 
     @Getter
     private String queryText;
 
+    @Getter
+    private Map<String, Object> parameters = new LinkedHashMap<>();
+
     public TestQueryWrapper(String queryText) {
         this.queryText = queryText;
     }
@@ -31,7 +36,7 @@ public class TestQueryWrapper implements Query {
 
     @Override
     public Query setParameter(String name, Object value) {
-
+        parameters.put(name, value);
         return this;
     }
 
@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.datastores.multiplex;
 
+import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStore;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
@@ -24,7 +25,10 @@ import com.yahoo.elide.core.type.Type;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -183,6 +187,27 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         return entityTransaction.getRelation(relationTx, entity, relation, scope);
     }
 
+    @Override
+    public <T, R> Map<T, R> getRelations(DataStoreTransaction tx,
+                                         List<T> entities,
+                                         Relationship relation,
+                                         RequestScope scope) {
+        if (entities.isEmpty()) {
+            return new IdentityHashMap<>();
+        }
+
+        T first = entities.get(0);
+        DataStoreTransaction relationTx = getRelationTransaction(first, relation.getName());
+        DataStoreTransaction entityTransaction = getTransaction(EntityDictionary.getType(first));
+
+        // Bridged relationships are loaded one parent at a time.
+        if (entityTransaction != relationTx && relationTx instanceof BridgeableTransaction) {
+            return DataStoreTransaction.super.getRelations(tx, entities, relation, scope);
+        }
+
+        return entityTransaction.getRelations(relationTx, entities, relation, scope);
+    }
+
     @Override
     public <T, R> void updateToManyRelation(DataStoreTransaction tx,
                                      T entity, String relationName,
@@ -233,6 +258,12 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         return getTransaction(entityClass).supportsPagination(scope, parent, projection);
     }
 
+    @Override
+    public List<Path> getIdentifyingPaths(RequestScope scope, EntityProjection projection) {
+        Type<?> entityClass = projection.getType();
+        return getTransaction(entityClass).getIdentifyingPaths(scope, projection);
+    }
+
     private Serializable extractId(FilterExpression filterExpression,
                                    String idFieldName,
                                    Type<?> relationClass) {
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.language.Document;
+
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Caches the parsed and validated GraphQL documents of an API version by query text.
+ * <p>
+ * Clients typically send a small set of fixed queries and pass their arguments as variables.  The document of such
+ * a query is parsed and validated once.  Later requests only bind their variables.
+ */
+public class GraphQLDocumentCache implements PreparsedDocumentProvider {
+    private final Cache<String, PreparsedDocumentEntry> documents;
+
+    /**
+     * Constructor.
+     * @param maximumSize The most documents cached.
+     */
+    public GraphQLDocumentCache(long maximumSize) {
+        this.documents = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public PreparsedDocumentEntry getDocument(ExecutionInput executionInput,
+                                              Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+        try {
+            return documents.get(executionInput.getQuery(), () -> parseAndValidate.apply(executionInput));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the cached document of a query without counting the lookup as a hit or miss.
+     * @param query The query text.
+     * @return The parsed document or null if the query is not cached or is not valid.
+     */
+    public Document getDocument(String query) {
+        PreparsedDocumentEntry entry = documents.asMap().get(query);
+        return entry == null || entry.hasErrors() ? null : entry.getDocument();
+    }
+
+    /**
+     * Returns the hit, miss, and eviction counts of the cache.
+     * @return The cache statistics.
+     */
+    public CacheStats getStats() {
+        return documents.stats();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.graphql.parser.GraphQLQuery;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps the SHA-256 hashes of persisted GraphQL queries to their documents.
+ * <p>
+ * Clients send the hash of a query in the {@code extensions.persistedQuery.sha256Hash} field of the request in
+ * place of the document.  A hash the server does not know is rejected with {@code PersistedQueryNotFound}.  The
+ * client then sends the document along with its hash and the query is registered for later requests.  The most
+ * recently used of these queries are kept.
+ * <p>
+ * In allow list mode, only the queries registered when the registry is built can run.  Other documents are
+ * rejected before they are parsed.
+ */
+public class PersistedQueryRegistry {
+    public static final String NOT_FOUND = "PersistedQueryNotFound";
+    public static final String NOT_ALLOWED = "PersistedQueryNotAllowed";
+    public static final String HASH_MISMATCH = "provided sha does not match query";
+
+    public static final long MAXIMUM_AUTO_REGISTERED = 10_000;
+
+    private final Map<String, String> preregistered = new HashMap<>();
+    private final Cache<String, String> autoRegistered = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_AUTO_REGISTERED)
+            .build();
+    private final boolean allowListOnly;
+
+    /**
+     * Constructor.
+     * @param registered The query documents registered up front.
+     * @param allowListOnly Whether only the queries registered up front can run.
+     */
+    public PersistedQueryRegistry(Collection<String> registered, boolean allowListOnly) {
+        this.allowListOnly = allowListOnly;
+        registered.forEach(this::register);
+    }
+
+    /**
+     * Computes the hash a client sends for a query document.
+     * @param query The query document.
+     * @return The lower case hex encoded SHA-256 hash of the document.
+     */
+    public static String hash(String query) {
+        return Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * Resolves the document a client query runs.
+     * @param query The client query.
+     * @return The client query with its document.
+     * @throws BadRequestException If the hash is unknown, does not match the document, or the query is not allowed.
+     */
+    public GraphQLQuery resolve(GraphQLQuery query) {
+        String hash = query.getPersistedQueryHash();
+        String document = query.getQuery();
+
+        if (hash == null) {
+            if (allowListOnly && (document == null || !preregistered.containsKey(hash(document)))) {
+                throw new BadRequestException(NOT_ALLOWED);
+            }
+            return query;
+        }
+
+        String registered = preregistered.get(hash);
+        if (registered == null) {
+            registered = autoRegistered.getIfPresent(hash);
+        }
+        if (registered == null) {
+            if (document == null || document.isEmpty()) {
+                throw new BadRequestException(NOT_FOUND);
+            }
+            if (allowListOnly) {
+                throw new BadRequestException(NOT_ALLOWED);
+            }
+            if (!hash.equals(hash(document))) {
+                throw new BadRequestException(HASH_MISMATCH);
+            }
+            autoRegistered.put(hash, document);
+            registered = document;
+        }
+
+        return GraphQLQuery.builder()
+                .query(registered)
+                .operationName(query.getOperationName())
+                .variables(query.getVariables())
+                .persistedQueryHash(hash)
+                .build();
+    }
+
+    private void register(String query) {
+        preregistered.put(hash(query), query);
+    }
+}
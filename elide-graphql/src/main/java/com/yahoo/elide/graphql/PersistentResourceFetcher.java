@@ -173,6 +173,25 @@ public class PersistentResourceFetcher implements DataFetcher<Object>, QueryLogg
             PersistentResource<?> parentResource,
             @NotNull Relationship relationship,
             Optional<List<String>> ids
+    ) {
+        return fetchRelationship(parentResource, relationship, ids, Optional.empty());
+    }
+
+    /**
+     * Fetches a relationship for a top-level entity.  If the entity was reached through a connection,
+     * the relationship is loaded for all of the entities in that connection together.
+     *
+     * @param parentResource Parent object
+     * @param relationship constructed relationship object with entityProjection
+     * @param ids List of ids
+     * @param connection The connection the parent was fetched from (if any)
+     * @return PersistentResource object(s)
+     */
+    public static ConnectionContainer fetchRelationship(
+            PersistentResource<?> parentResource,
+            @NotNull Relationship relationship,
+            Optional<List<String>> ids,
+            Optional<ConnectionContainer> connection
     ) {
         EntityDictionary dictionary = parentResource.getRequestScope().getDictionary();
         Type relationshipClass = dictionary.getParameterizedType(parentResource.getObject(), relationship.getName());
@@ -182,6 +201,8 @@ public class PersistentResourceFetcher implements DataFetcher<Object>, QueryLogg
         if (ids.isPresent()) {
             relationResources =
                     parentResource.getRelation(ids.get(), relationship).toList(LinkedHashSet::new).blockingGet();
+        } else if (connection.isPresent()) {
+            relationResources = connection.get().fetchRelationship(parentResource, relationship);
         } else {
             relationResources =
                     parentResource.getRelationCheckedFiltered(relationship).toList(LinkedHashSet::new).blockingGet();
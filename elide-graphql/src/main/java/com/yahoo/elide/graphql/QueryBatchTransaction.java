@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.request.EntityProjection;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The transactions of a batch of GraphQL queries that run in parallel, as registered for cancellation.
+ * <p>
+ * Each query of the batch runs in a transaction of its own.  Those transactions are tracked while their queries
+ * run, and cancelling the batch cancels them all.  The batch itself reads and writes nothing.
+ */
+class QueryBatchTransaction implements DataStoreTransaction {
+    private final Map<DataStoreTransaction, RequestScope> queries = new ConcurrentHashMap<>();
+    private volatile boolean cancelled;
+
+    /**
+     * Tracks the transaction of a query.  It is cancelled at once if the batch already was.
+     * @param tx The transaction.
+     * @param scope The request scope of the query.
+     */
+    void add(DataStoreTransaction tx, RequestScope scope) {
+        queries.put(tx, scope);
+        if (cancelled) {
+            tx.cancel(scope);
+        }
+    }
+
+    /**
+     * Stops tracking the transaction of a query.
+     * @param tx The transaction.
+     */
+    void remove(DataStoreTransaction tx) {
+        queries.remove(tx);
+    }
+
+    /**
+     * Cancels the transaction of every query in the batch, each with the scope of its own query.
+     * @param scope Unused.
+     */
+    @Override
+    public void cancel(RequestScope scope) {
+        cancelled = true;
+        queries.forEach(DataStoreTransaction::cancel);
+    }
+
+    @Override
+    public <T> void save(T entity, RequestScope scope) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> void delete(T entity, RequestScope scope) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void flush(RequestScope scope) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void commit(RequestScope scope) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> void createObject(T entity, RequestScope scope) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> Iterable<T> loadObjects(EntityProjection entityProjection, RequestScope scope) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+        //The transaction of each query is closed by its query.
+    }
+}
@@ -9,6 +9,7 @@ import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.CustomErrorException;
 import com.yahoo.elide.core.exceptions.ErrorObjects;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
@@ -28,6 +29,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.google.common.cache.CacheStats;
 import org.apache.commons.lang3.tuple.Pair;
 import org.owasp.encoder.Encode;
 import graphql.ExecutionInput;
@@ -35,6 +37,7 @@ import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
 import graphql.execution.AsyncSerialExecutionStrategy;
+import graphql.language.Document;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
@@ -43,6 +46,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.ws.rs.WebApplicationException;
@@ -56,6 +63,8 @@ public class QueryRunner {
     private final Elide elide;
     private GraphQL api;
     private String apiVersion;
+    private GraphQLDocumentCache documentCache;
+    private PersistedQueryRegistry persistedQueries;
 
     private static final String QUERY = "query";
     private static final String OPERATION_NAME = "operationName";
@@ -80,9 +89,21 @@ public class QueryRunner {
         ModelBuilder builder = new ModelBuilder(elide.getElideSettings().getDictionary(),
                 nonEntityDictionary, fetcher, apiVersion);
 
-        api = GraphQL.newGraphQL(builder.build())
-                .queryExecutionStrategy(new AsyncSerialExecutionStrategy())
-                .build();
+        GraphQL.Builder apiBuilder = GraphQL.newGraphQL(builder.build())
+                .queryExecutionStrategy(new AsyncSerialExecutionStrategy());
+
+        int documentCacheSize = elide.getElideSettings().getGraphQLDocumentCacheSize();
+        if (documentCacheSize > 0) {
+            documentCache = new GraphQLDocumentCache(documentCacheSize);
+            apiBuilder.preparsedDocumentProvider(documentCache);
+        }
+
+        api = apiBuilder.build();
+
+        if (elide.getElideSettings().getGraphQLPersistedQueries() != null) {
+            persistedQueries = new PersistedQueryRegistry(elide.getElideSettings().getGraphQLPersistedQueries(),
+                    elide.getElideSettings().isGraphQLPersistedQueriesOnly());
+        }
 
         // TODO - add serializers to allow for custom handling of ExecutionResult and GraphQLError objects
         GraphQLErrorSerializer errorSerializer = new GraphQLErrorSerializer();
@@ -92,6 +113,14 @@ public class QueryRunner {
         elide.getElideSettings().getMapper().getObjectMapper().registerModule(module);
     }
 
+    /**
+     * Returns the statistics of the parsed document cache.
+     * @return The cache statistics or null if documents are not cached.
+     */
+    public CacheStats getDocumentCacheStats() {
+        return documentCache == null ? null : documentCache.getStats();
+    }
+
     /**
      * Execute a GraphQL query and return the response.
      * @param baseUrlEndPoint base URL with prefix endpoint
@@ -156,10 +185,50 @@ public class QueryRunner {
             return buildErrorResponse(elide, new InvalidEntityBodyException(graphQLDocument), false);
         }
 
+        if (persistedQueries != null) {
+            try {
+                queries = queries.stream().map(persistedQueries::resolve).collect(Collectors.toList());
+            } catch (BadRequestException e) {
+                return handleRuntimeException(elide, e, false);
+            }
+        }
+
         List<ElideResponse> responses = new ArrayList<>();
-        for (GraphQLQuery query : queries) {
-            responses.add(executeGraphQLRequest(baseUrlEndPoint, mapper, user,
-                    graphQLDocument, query, requestId, requestHeaders));
+        ExecutorService executor = elide.getElideSettings().getGraphQLQueryExecutor();
+        if (executor != null && queries.size() > 1
+                && queries.stream().noneMatch(query -> isMutation(query.getQuery()))) {
+
+            //Read-only queries do not depend on each other.  Each runs in its own transaction.  The batch is
+            //registered under the request ID so that cancelling the request cancels every query.
+            QueryBatchTransaction batch = new QueryBatchTransaction();
+            elide.getTransactionRegistry().addRunningTransaction(requestId, batch);
+            try {
+                List<CompletableFuture<ElideResponse>> futures = queries.stream()
+                        .map(query -> CompletableFuture.supplyAsync(() -> executeGraphQLRequest(baseUrlEndPoint,
+                                mapper, user, graphQLDocument, query, requestId, requestHeaders, batch), executor))
+                        .collect(Collectors.toList());
+
+                try {
+                    for (CompletableFuture<ElideResponse> future : futures) {
+                        responses.add(future.join());
+                    }
+                } catch (CompletionException e) {
+                    //Stop the queries that are still running.
+                    futures.forEach(future -> future.cancel(true));
+                    batch.cancel(null);
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw e;
+                }
+            } finally {
+                elide.getTransactionRegistry().removeRunningTransaction(requestId, batch);
+            }
+        } else {
+            for (GraphQLQuery query : queries) {
+                responses.add(executeGraphQLRequest(baseUrlEndPoint, mapper, user,
+                        graphQLDocument, query, requestId, requestHeaders, null));
+            }
         }
 
         if (responses.size() == 1) {
@@ -235,10 +304,15 @@ public class QueryRunner {
 
     private ElideResponse executeGraphQLRequest(String baseUrlEndPoint, ObjectMapper mapper, User principal,
                                                 String graphQLDocument, GraphQLQuery query, UUID requestId,
-                                                Map<String, List<String>> requestHeaders) {
+                                                Map<String, List<String>> requestHeaders,
+                                                QueryBatchTransaction batch) {
         boolean isVerbose = false;
+        DataStoreTransaction runningTransaction = null;
         try (DataStoreTransaction tx = elide.getDataStore().beginTransaction()) {
-            elide.getTransactionRegistry().addRunningTransaction(requestId, tx);
+            runningTransaction = tx;
+            if (batch == null) {
+                elide.getTransactionRegistry().addRunningTransaction(requestId, tx);
+            }
             if (query.getQuery() == null || query.getQuery().isEmpty()) {
                 return ElideResponse.builder().responseCode(HttpStatus.SC_BAD_REQUEST)
                         .body("A `query` key is required.").build();
@@ -250,10 +324,19 @@ public class QueryRunner {
             Map<String, Object> variables = query.getVariables();
 
             //TODO - get API version.
-            GraphQLProjectionInfo projectionInfo = new GraphQLEntityProjectionMaker(elide.getElideSettings(), variables,
-                    apiVersion).make(queryText);
+            GraphQLEntityProjectionMaker projectionMaker = new GraphQLEntityProjectionMaker(elide.getElideSettings(),
+                    variables, apiVersion);
+
+            //Projections depend on the variables.  They are rebuilt for every request but the document is reused.
+            Document document = documentCache == null ? null : documentCache.getDocument(queryText);
+            GraphQLProjectionInfo projectionInfo = document == null
+                    ? projectionMaker.make(queryText)
+                    : projectionMaker.make(document);
             GraphQLRequestScope requestScope = new GraphQLRequestScope(baseUrlEndPoint, tx, principal, apiVersion,
                     elide.getElideSettings(), projectionInfo, requestId, requestHeaders);
+            if (batch != null) {
+                batch.add(tx, requestScope);
+            }
 
             isVerbose = requestScope.getPermissionExecutor().isVerbose();
 
@@ -309,7 +392,11 @@ public class QueryRunner {
         } catch (RuntimeException e) {
             return handleRuntimeException(elide, e, isVerbose);
         } finally {
-            elide.getTransactionRegistry().removeRunningTransaction(requestId);
+            if (batch == null) {
+                elide.getTransactionRegistry().removeRunningTransaction(requestId, runningTransaction);
+            } else if (runningTransaction != null) {
+                batch.remove(runningTransaction);
+            }
             elide.getAuditLogger().clear();
         }
     }
@@ -8,11 +8,16 @@ package com.yahoo.elide.graphql.containers;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.request.Pagination;
+import com.yahoo.elide.core.request.Relationship;
 import com.yahoo.elide.graphql.Environment;
 import com.yahoo.elide.graphql.KeyWord;
+import io.reactivex.Observable;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -27,6 +32,10 @@ public class ConnectionContainer implements GraphQLContainer {
     // Refers to the type of persistentResources
     @Getter private final String typeName;
 
+    // Relationships of the resources in this connection, loaded together the first time any node asks for them.
+    private final Map<Relationship, Map<PersistentResource, Observable<PersistentResource>>> relationships =
+            new HashMap<>();
+
     @Override
     public Object processFetch(Environment context) {
         String fieldName = context.field.getName();
@@ -34,7 +43,7 @@ public class ConnectionContainer implements GraphQLContainer {
         switch (KeyWord.byName(fieldName)) {
             case EDGES:
                 return getPersistentResources().stream()
-                        .map(EdgesContainer::new)
+                        .map(resource -> new EdgesContainer(resource, this))
                         .collect(Collectors.toList());
             case PAGE_INFO:
                 return new PageInfoContainer(this);
@@ -44,4 +53,19 @@ public class ConnectionContainer implements GraphQLContainer {
 
         throw new BadRequestException("Invalid request. Looking for field: " + fieldName + " in a connection object.");
     }
+
+    /**
+     * Fetches a relationship of one resource in this connection.  The relationship is loaded for every
+     * resource in the connection on first access.
+     *
+     * @param resource The resource which owns the relationship
+     * @param relationship The relationship to fetch
+     * @return The members of the relationship
+     */
+    public Set<PersistentResource> fetchRelationship(PersistentResource resource, Relationship relationship) {
+        Map<PersistentResource, Observable<PersistentResource>> loaded = relationships.computeIfAbsent(
+                relationship, (key) -> PersistentResource.getRelationsCheckedFiltered(persistentResources, key));
+
+        return loaded.getOrDefault(resource, Observable.empty()).toList(LinkedHashSet::new).blockingGet();
+    }
 }
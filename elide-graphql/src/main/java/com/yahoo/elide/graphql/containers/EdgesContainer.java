@@ -18,6 +18,7 @@ import lombok.Getter;
 @AllArgsConstructor
 public class EdgesContainer implements PersistentResourceContainer, GraphQLContainer<NodeContainer> {
     @Getter private final PersistentResource persistentResource;
+    private final ConnectionContainer connection;
 
     @Override
     public NodeContainer processFetch(Environment context) {
@@ -25,7 +26,7 @@ public class EdgesContainer implements PersistentResourceContainer, GraphQLConta
 
         // TODO: Cursor
         if (NODE.hasName(fieldName)) {
-            return new NodeContainer(context.parentResource);
+            return new NodeContainer(context.parentResource, connection);
         }
 
         throw new BadRequestException("Invalid request. Looking for field: " + fieldName + " in an edges object.");
@@ -21,6 +21,7 @@ import lombok.Getter;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -30,6 +31,17 @@ import java.util.stream.Collectors;
 public class NodeContainer implements PersistentResourceContainer, GraphQLContainer {
     @Getter protected final PersistentResource persistentResource;
 
+    // The connection this node was reached through (if any).  Its resources share relationship loads.
+    protected final Optional<ConnectionContainer> connection;
+
+    public NodeContainer(PersistentResource persistentResource) {
+        this(persistentResource, Optional.empty());
+    }
+
+    public NodeContainer(PersistentResource persistentResource, ConnectionContainer connection) {
+        this(persistentResource, Optional.of(connection));
+    }
+
     @Override
     public Object processFetch(Environment context) {
         EntityDictionary entityDictionary = context.requestScope.getDictionary();
@@ -88,6 +100,7 @@ public class NodeContainer implements PersistentResourceContainer, GraphQLContai
     }
 
     protected Object fetchRelationship(Environment context, Relationship relationship) {
-        return PersistentResourceFetcher.fetchRelationship(context.parentResource, relationship, context.ids);
+        return PersistentResourceFetcher.fetchRelationship(context.parentResource, relationship, context.ids,
+                connection);
     }
 }
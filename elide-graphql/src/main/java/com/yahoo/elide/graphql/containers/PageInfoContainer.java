@@ -7,6 +7,7 @@ package com.yahoo.elide.graphql.containers;
 
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.core.pagination.KeysetPagination;
 import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.graphql.Environment;
 import com.yahoo.elide.graphql.KeyWord;
@@ -38,6 +39,10 @@ public class PageInfoContainer implements GraphQLContainer {
                 .collect(Collectors.toList());
 
         return pagination.map(pageValue -> {
+            if (KeysetPagination.isKeyset(pageValue)) {
+                return getKeysetPageInfo(fieldName, pageValue);
+            }
+
             switch (KeyWord.byName(fieldName)) {
                 case PAGE_INFO_HAS_NEXT_PAGE: {
                     int numResults = ids.size();
@@ -58,4 +63,20 @@ public class PageInfoContainer implements GraphQLContainer {
         }).orElseThrow(() -> new BadRequestException("Could not generate pagination information for type: "
                 + connectionContainer.getTypeName()));
     }
+
+    private Object getKeysetPageInfo(String fieldName, Pagination pageValue) {
+        switch (KeyWord.byName(fieldName)) {
+            case PAGE_INFO_HAS_NEXT_PAGE:
+                //The page is fetched with one extra record, which tells whether more records follow.
+                return pageValue.hasMore();
+            case PAGE_INFO_START_CURSOR:
+                return pageValue.getStartCursor();
+            case PAGE_INFO_END_CURSOR:
+                return pageValue.getEndCursor();
+            default:
+                break;
+        }
+        throw new BadRequestException("Invalid request. Looking for field: "
+                + fieldName + " in an pageInfo object.");
+    }
 }
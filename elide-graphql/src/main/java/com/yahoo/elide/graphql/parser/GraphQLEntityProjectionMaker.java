@@ -119,6 +119,16 @@ public class GraphQLEntityProjectionMaker {
             throw new InvalidEntityBodyException("Can't parse query: " + query);
         }
 
+        return make(parsedDocument);
+    }
+
+    /**
+     * Convert a parsed GraphQL document into a collection of Elide {@link EntityProjection}s.
+     *
+     * @param parsedDocument GraphQL document
+     * @return all projections in the document
+     */
+    public GraphQLProjectionInfo make(Document parsedDocument) {
         // resolve fragment definitions
         fragmentResolver.addFragments(parsedDocument);
 
@@ -417,27 +427,30 @@ public class GraphQLEntityProjectionMaker {
                 : projectionBuilder.getPagination();
 
         Object argumentValue = variableResolver.resolveValue(argument.getValue());
-        int value = argumentValue instanceof BigInteger
-                ? ((BigInteger) argumentValue).intValue()
-                : Integer.parseInt((String) argumentValue);
         if (ModelBuilder.ARGUMENT_FIRST.equals(argument.getName())) {
             pagination = new PaginationImpl(
                     projectionBuilder.getType(),
-                    pagination.getOffset(),
-                    value,
+                    pagination.getAfter() == null ? pagination.getOffset() : null,
+                    getIntValue(argumentValue),
                     elideSettings.getDefaultPageSize(),
                     elideSettings.getDefaultMaxPageSize(),
                     pagination.returnPageTotals(),
-                    false);
+                    false,
+                    pagination.getAfter(),
+                    null);
         } else if (ModelBuilder.ARGUMENT_AFTER.equals(argument.getName())) {
+            //Numeric values are record offsets.  Anything else is an opaque keyset cursor.
+            boolean isOffset = argumentValue instanceof BigInteger || isInteger((String) argumentValue);
             pagination = new PaginationImpl(
                     projectionBuilder.getType(),
-                    value,
+                    isOffset ? getIntValue(argumentValue) : null,
                     pagination.getLimit(),
                     elideSettings.getDefaultPageSize(),
                     elideSettings.getDefaultMaxPageSize(),
                     pagination.returnPageTotals(),
-                    false);
+                    false,
+                    isOffset ? null : (String) argumentValue,
+                    null);
         }
 
         projectionBuilder.pagination(pagination);
@@ -463,18 +476,31 @@ public class GraphQLEntityProjectionMaker {
                     false);
 
         } else {
+            Pagination existing = projectionBuilder.getPagination();
             pagination = new PaginationImpl(
                     projectionBuilder.getType(),
-                    projectionBuilder.getPagination().getOffset(),
-                    projectionBuilder.getPagination().getLimit(),
+                    existing.getAfter() == null ? existing.getOffset() : null,
+                    existing.getLimit(),
                     elideSettings.getDefaultPageSize(),
                     elideSettings.getDefaultMaxPageSize(),
                     true,
-                    false);
+                    false,
+                    existing.getAfter(),
+                    null);
         }
         projectionBuilder.pagination(pagination);
     }
 
+    private static int getIntValue(Object argumentValue) {
+        return argumentValue instanceof BigInteger
+                ? ((BigInteger) argumentValue).intValue()
+                : Integer.parseInt((String) argumentValue);
+    }
+
+    private static boolean isInteger(String value) {
+        return value != null && value.matches("-?\\d+");
+    }
+
     /**
      * Returns whether or not a GraphQL argument name corresponding to a sorting argument.
      *
@@ -6,6 +6,7 @@
 
 package com.yahoo.elide.graphql.parser;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Value;
 
@@ -16,8 +17,24 @@ import java.util.Map;
  */
 @Value
 @Builder
+@AllArgsConstructor
 public class GraphQLQuery {
     private String query;
     private String operationName;
     private Map<String, Object> variables;
+
+    /**
+     * The SHA-256 hash of a persisted query or null if the client sent no hash.
+     */
+    private String persistedQueryHash;
+
+    /**
+     * Constructor for a query sent without a persisted query hash.
+     * @param query The query document.
+     * @param operationName The operation to run.
+     * @param variables The query variables.
+     */
+    public GraphQLQuery(String query, String operationName, Map<String, Object> variables) {
+        this(query, operationName, variables, null);
+    }
 }
@@ -24,6 +24,9 @@ public interface QueryParser {
     static final String QUERY = "query";
     static final String OPERATION_NAME = "operationName";
     static final String VARIABLES = "variables";
+    static final String EXTENSIONS = "extensions";
+    static final String PERSISTED_QUERY = "persistedQuery";
+    static final String SHA256_HASH = "sha256Hash";
 
     /**
      * Parse a document which could consist of 1 or more GraphQL queries.
@@ -71,6 +74,12 @@ public interface QueryParser {
             operationName = topLevel.get(OPERATION_NAME).asText();
         }
 
-        return new GraphQLQuery(query, operationName, variables);
+        String persistedQueryHash = null;
+        JsonNode hash = topLevel.path(EXTENSIONS).path(PERSISTED_QUERY).path(SHA256_HASH);
+        if (hash.isTextual()) {
+            persistedQueryHash = hash.asText();
+        }
+
+        return new GraphQLQuery(query, operationName, variables, persistedQueryHash);
     }
 }
@@ -193,6 +193,16 @@ public class FetcherFetchTest extends PersistentResourceFetcherTest {
         runComparisonTest("pageTotalsRootWithPagination");
     }
 
+    @Test
+    public void testKeysetPaginationRootWithMoreRecords() throws Exception {
+        runComparisonTest("keysetPaginationRootFirst2");
+    }
+
+    @Test
+    public void testKeysetPaginationRootLastPage() throws Exception {
+        runComparisonTest("keysetPaginationRootFirst3");
+    }
+
     @Test
     public void testPageTotalsRootWithIds() throws Exception {
         runComparisonTest("pageTotalsRootWithIds");
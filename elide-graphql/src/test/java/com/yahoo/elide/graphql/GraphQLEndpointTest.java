@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.graphql;
 
+import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static com.yahoo.elide.test.graphql.GraphQLDSL.UNQUOTED_VALUE;
 import static com.yahoo.elide.test.graphql.GraphQLDSL.argument;
 import static com.yahoo.elide.test.graphql.GraphQLDSL.arguments;
@@ -18,11 +19,13 @@ import static com.yahoo.elide.test.graphql.GraphQLDSL.toJson;
 import static com.yahoo.elide.test.graphql.GraphQLDSL.variableDefinition;
 import static com.yahoo.elide.test.graphql.GraphQLDSL.variableDefinitions;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.core.audit.AuditLogger;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
@@ -30,6 +33,7 @@ import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.security.checks.Check;
 import com.yahoo.elide.core.utils.DefaultClassScanner;
+import com.yahoo.elide.jsonapi.resources.SecurityContextUser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
@@ -53,10 +57,13 @@ import java.io.IOException;
 import java.net.URI;
 import java.security.Principal;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.ws.rs.core.HttpHeaders;
@@ -896,6 +903,219 @@ public class GraphQLEndpointTest {
         assert200EqualBody(response, graphQLResponse);
     }
 
+    @Test
+    public void testParallelBatchedQueries() throws JSONException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Elide parallelElide = new Elide(
+                new ElideSettingsBuilder(elide.getElideSettings().getDataStore())
+                        .withEntityDictionary(elide.getElideSettings().getDictionary())
+                        .withAuditLogger(audit)
+                        .withGraphQLQueryExecutor(executor)
+                        .build());
+
+        String bookRequest = document(
+                selection(
+                        field(
+                                "book",
+                                selections(
+                                        field("id"),
+                                        field("title")
+                                )
+                        )
+                )
+        ).toQuery();
+
+        String authorRequest = document(
+                selection(
+                        field(
+                                "author",
+                                selections(
+                                        field("id"),
+                                        field("name")
+                                )
+                        )
+                )
+        ).toQuery();
+
+        String bookResponse = document(
+                selection(
+                        field(
+                                "book",
+                                selections(
+                                        field("id", "1"),
+                                        field("title", "My first book")
+                                )
+                        )
+                )
+        ).toResponse();
+
+        String authorResponse = document(
+                selection(
+                        field(
+                                "author",
+                                selections(
+                                        field("id", "1"),
+                                        field("name", "Ricky Carmichael")
+                                ),
+                                selections(
+                                        field("id", "2"),
+                                        field("name", "The Silent Author")
+                                )
+                        )
+                )
+        ).toResponse();
+
+        String batch = "[" + graphQLRequestToJSON(bookRequest) + "," + graphQLRequestToJSON(authorRequest) + "]";
+
+        try {
+            Response response = new GraphQLEndpoint(parallelElide).post(uriInfo, requestHeaders, user1, batch);
+            assert200EqualBody(response, "[" + bookResponse + "," + authorResponse + "]");
+            assertTrue(parallelElide.getTransactionRegistry().getRunningTransactions().isEmpty());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testCachedDocumentWithVariables() throws JSONException {
+        Elide cachingElide = new Elide(
+                new ElideSettingsBuilder(elide.getElideSettings().getDataStore())
+                        .withEntityDictionary(elide.getElideSettings().getDictionary())
+                        .withAuditLogger(audit)
+                        .withGraphQLDocumentCacheSize(16)
+                        .build());
+        QueryRunner runner = new QueryRunner(cachingElide, NO_VERSION);
+
+        String graphQLRequest = document(
+                query(
+                        "myQuery",
+                        variableDefinitions(
+                                variableDefinition("authorId", "[String]")
+                        ),
+                        selections(
+                                field(
+                                        "author",
+                                        arguments(
+                                                argument("ids", "$authorId")
+                                        ),
+                                        selections(
+                                                field("id"),
+                                                field("name")
+                                        )
+                                )
+                        )
+                )
+        ).toQuery();
+
+        Map<String, String> variables = new HashMap<>();
+        variables.put("authorId", "1");
+        ElideResponse response = runner.run("", graphQLRequestToJSON(graphQLRequest, variables),
+                new SecurityContextUser(user1));
+        JSONAssert.assertEquals(document(
+                selection(
+                        field(
+                                "author",
+                                selections(
+                                        field("id", "1"),
+                                        field("name", "Ricky Carmichael")
+                                )
+                        )
+                )
+        ).toResponse(), response.getBody(), true);
+
+        //The same document with different variables is only bound, not parsed again.
+        variables.put("authorId", "2");
+        response = runner.run("", graphQLRequestToJSON(graphQLRequest, variables), new SecurityContextUser(user1));
+        JSONAssert.assertEquals(document(
+                selection(
+                        field(
+                                "author",
+                                selections(
+                                        field("id", "2"),
+                                        field("name", "The Silent Author")
+                                )
+                        )
+                )
+        ).toResponse(), response.getBody(), true);
+
+        assertEquals(1, runner.getDocumentCacheStats().missCount());
+        assertEquals(1, runner.getDocumentCacheStats().hitCount());
+        assertNull(new QueryRunner(elide, NO_VERSION).getDocumentCacheStats());
+    }
+
+    @Test
+    public void testPersistedQueries() throws JSONException {
+        String graphQLRequest = document(
+                selection(
+                        field(
+                                "book",
+                                selections(
+                                        field("id"),
+                                        field("title")
+                                )
+                        )
+                )
+        ).toQuery();
+
+        String graphQLResponse = document(
+                selection(
+                        field(
+                                "book",
+                                selections(
+                                        field("id", "1"),
+                                        field("title", "My first book")
+                                )
+                        )
+                )
+        ).toResponse();
+
+        String hash = PersistedQueryRegistry.hash(graphQLRequest);
+        Elide persistingElide = new Elide(
+                new ElideSettingsBuilder(elide.getElideSettings().getDataStore())
+                        .withEntityDictionary(elide.getElideSettings().getDictionary())
+                        .withAuditLogger(audit)
+                        .withGraphQLPersistedQueries(new ArrayList<>())
+                        .build());
+        GraphQLEndpoint persistingEndpoint = new GraphQLEndpoint(persistingElide);
+
+        //Unknown hashes are rejected until the client sends the document.
+        Response response = persistingEndpoint.post(uriInfo, requestHeaders, user1, persistedQueryToJSON(null, hash));
+        assertTrue(extract200ResponseString(response).contains(PersistedQueryRegistry.NOT_FOUND));
+
+        response = persistingEndpoint.post(uriInfo, requestHeaders, user1,
+                persistedQueryToJSON(graphQLRequest, PersistedQueryRegistry.hash("{ author { edges { node { id } } } }")));
+        assertTrue(extract200ResponseString(response).contains(PersistedQueryRegistry.HASH_MISMATCH));
+
+        response = persistingEndpoint.post(uriInfo, requestHeaders, user1, persistedQueryToJSON(graphQLRequest, hash));
+        assert200EqualBody(response, graphQLResponse);
+
+        response = persistingEndpoint.post(uriInfo, requestHeaders, user1, persistedQueryToJSON(null, hash));
+        assert200EqualBody(response, graphQLResponse);
+
+        //Only the registered queries run in allow list mode.
+        Elide allowListElide = new Elide(
+                new ElideSettingsBuilder(elide.getElideSettings().getDataStore())
+                        .withEntityDictionary(elide.getElideSettings().getDictionary())
+                        .withAuditLogger(audit)
+                        .withGraphQLPersistedQueriesOnly(Arrays.asList(graphQLRequest))
+                        .build());
+        GraphQLEndpoint allowListEndpoint = new GraphQLEndpoint(allowListElide);
+
+        response = allowListEndpoint.post(uriInfo, requestHeaders, user1, persistedQueryToJSON(null, hash));
+        assert200EqualBody(response, graphQLResponse);
+
+        response = allowListEndpoint.post(uriInfo, requestHeaders, user1, graphQLRequestToJSON(graphQLRequest));
+        assert200EqualBody(response, graphQLResponse);
+
+        String unregistered = "{ author { edges { node { id } } } }";
+        response = allowListEndpoint.post(uriInfo, requestHeaders, user1, graphQLRequestToJSON(unregistered));
+        assertTrue(extract200ResponseString(response).contains(PersistedQueryRegistry.NOT_ALLOWED));
+
+        response = allowListEndpoint.post(uriInfo, requestHeaders, user1,
+                persistedQueryToJSON(unregistered, PersistedQueryRegistry.hash(unregistered)));
+        assertTrue(extract200ResponseString(response).contains(PersistedQueryRegistry.NOT_ALLOWED));
+    }
+
     @Test
     public void testMultipleQueryWithAlias() throws JSONException {
         String graphQLRequest = document(
@@ -1059,6 +1279,15 @@ public class GraphQLEndpointTest {
         return node.toString();
     }
 
+    private static String persistedQueryToJSON(String request, String hash) {
+        ObjectNode node = JsonNodeFactory.instance.objectNode();
+        if (request != null) {
+            node.put("query", request);
+        }
+        node.putObject("extensions").putObject("persistedQuery").put("sha256Hash", hash);
+        return node.toString();
+    }
+
     private static JsonNode extract200Response(Response response) throws IOException {
         return new ObjectMapper().readTree(extract200ResponseString(response));
     }
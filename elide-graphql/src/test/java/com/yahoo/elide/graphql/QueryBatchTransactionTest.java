@@ -0,0 +1,41 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import org.junit.jupiter.api.Test;
+
+public class QueryBatchTransactionTest {
+
+    @Test
+    public void testCancelQueries() {
+        DataStoreTransaction first = mock(DataStoreTransaction.class);
+        DataStoreTransaction second = mock(DataStoreTransaction.class);
+        DataStoreTransaction third = mock(DataStoreTransaction.class);
+        RequestScope firstScope = mock(RequestScope.class);
+        RequestScope secondScope = mock(RequestScope.class);
+        RequestScope thirdScope = mock(RequestScope.class);
+
+        QueryBatchTransaction batch = new QueryBatchTransaction();
+        batch.add(first, firstScope);
+        batch.add(second, secondScope);
+        batch.remove(first);
+
+        // Each query is cancelled with the scope of its own request.
+        batch.cancel(mock(RequestScope.class));
+        verify(first, never()).cancel(any());
+        verify(second).cancel(secondScope);
+
+        // Queries that start after the batch is cancelled are cancelled at once.
+        batch.add(third, thirdScope);
+        verify(third).cancel(thirdScope);
+    }
+}
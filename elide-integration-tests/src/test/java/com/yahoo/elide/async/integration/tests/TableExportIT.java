@@ -27,6 +27,7 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.yahoo.elide.Elide;
@@ -152,6 +153,8 @@ public class TableExportIT extends AsyncApiIT {
                 .body("data.attributes.status", equalTo("COMPLETE"))
                 .body("data.attributes.result.message", nullValue())
                 .body("data.attributes.result.recordCount", equalTo(3))
+                .body("data.attributes.exportedRecords", equalTo(3))
+                .body("data.attributes.exportedBytes", greaterThan(0))
                 .body("data.attributes.result.url",
                         equalTo("http://localhost:" + getPort() + "/export/edc4a871-dff2-4054-804e-d80075cf830a"))
                 .body("data.attributes.result.httpStatus", equalTo(200));
@@ -163,6 +166,48 @@ public class TableExportIT extends AsyncApiIT {
                 + "\"Ender's Game\"\n", getStoredFileContents(getPort(), "edc4a871-dff2-4054-804e-d80075cf830a"));
     }
 
+    /**
+     * Incremental JSONAPI TableExport Requests.  The second export starts from the watermark of the first.
+     * @throws InterruptedException InterruptedException
+     */
+    @Test
+    public void jsonApiIncrementalExport() throws InterruptedException {
+        String[] ids = {"edc4a871-dff2-4054-804e-d80075cf840a", "edc4a871-dff2-4054-804e-d80075cf840b"};
+        for (String id : ids) {
+            given()
+                    .contentType(JSONAPI_CONTENT_TYPE)
+                    .body(
+                            data(
+                                    resource(
+                                            type("tableExport"),
+                                            id(id),
+                                            attributes(
+                                                    attr("query", "/book?fields%5Bbook%5D=title"),
+                                                    attr("queryType", "JSONAPI_V1_0"),
+                                                    attr("status", "QUEUED"),
+                                                    attr("asyncAfterSeconds", "0"),
+                                                    attr("resultType", "CSV"),
+                                                    attr("watermarkField", "publishDate")
+                                            )
+                                    )
+                            ).toJSON())
+                    .when()
+                    .post("/tableExport")
+                    .then()
+                    .statusCode(org.apache.http.HttpStatus.SC_CREATED);
+
+            getJSONAPIResponse(id);
+        }
+
+        getJSONAPIResponse(ids[1])
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("data.attributes.status", equalTo("COMPLETE"))
+                .body("data.attributes.result.message", nullValue())
+                .body("data.attributes.result.previousExportId", equalTo(ids[0]))
+                .body("data.attributes.result.watermarkFrom", notNullValue());
+    }
+
     /**
      * Various tests for a JSONAPI query as a TableExport Request with asyncAfterSeconds value set to 7.
      * Happy Path Test Scenario 2
@@ -478,6 +478,46 @@ class PaginateIT extends IntegrationTest {
             );
     }
 
+    @Test
+    void testCursorPaginationWithSorting() {
+        Response firstPage = when()
+            .get("/book?sort=-title&page[size]=3&page[after]=")
+        .then()
+            .body("data.attributes.title",
+                contains("The Roman Republic", "The Old Man and the Sea", "Life with Null Ned 2"),
+                "meta.page.limit", equalTo(3)
+            )
+            .statusCode(OK_200)
+            .extract().response();
+
+        String endCursor = firstPage.path("meta.page.endCursor");
+
+        Response secondPage = when()
+            .get("/book?sort=-title&page[size]=3&page[after]=" + endCursor)
+        .then()
+            .body("data.attributes.title", contains("Life with Null Ned", "Foundation", "For Whom the Bell Tolls"))
+            .statusCode(OK_200)
+            .extract().response();
+
+        String startCursor = secondPage.path("meta.page.startCursor");
+
+        when()
+            .get("/book?sort=-title&page[size]=3&page[before]=" + startCursor)
+        .then()
+            .body("data.attributes.title",
+                contains("The Roman Republic", "The Old Man and the Sea", "Life with Null Ned 2"))
+            .statusCode(OK_200);
+    }
+
+    @Test
+    void testCursorPaginationWithOffset() {
+        String url = "/book?sort=title&page[offset]=3&page[after]=";
+        when()
+            .get(url)
+        .then()
+            .statusCode(BAD_REQUEST_400);
+    }
+
     @Test
     void testPaginateInvalidParameter() {
         String url = "/entityWithoutPaginate?page[bad]=2&page[totals]";
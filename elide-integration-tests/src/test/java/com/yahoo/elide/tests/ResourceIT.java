@@ -1744,6 +1744,34 @@ public class ResourceIT extends IntegrationTest {
                 .body(equalTo(expected));
     }
 
+    @Test
+    public void patchExtAddWithTempIds() {
+        String request = jsonParser.getJson("/ResourceIT/patchExtAddWithTempIds.req.json");
+        String expected = jsonParser.getJson("/ResourceIT/patchExtAddWithTempIds.json");
+        given()
+                .contentType(JSONAPI_CONTENT_TYPE_WITH_JSON_PATCH_EXTENSION)
+                .accept(JSONAPI_CONTENT_TYPE_WITH_JSON_PATCH_EXTENSION)
+                .body(request)
+                .patch("/")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body(jsonEquals(expected, false));
+
+        // Relationships that refer to earlier temporary IDs are applied after every add has run
+        given()
+                .accept(JSONAPI_CONTENT_TYPE)
+                .get("/parent/6")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body(jsonEquals(jsonParser.getJson("/ResourceIT/patchExtAddWithTempIds.2.json"), false));
+        given()
+                .accept(JSONAPI_CONTENT_TYPE)
+                .get("/parent/5/children/6")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body(jsonEquals(jsonParser.getJson("/ResourceIT/patchExtAddWithTempIds.3.json"), false));
+    }
+
     @Test
     @Tag("skipInMemory")
     //Verifies violation of unique column constraint.
@@ -5,7 +5,10 @@
  */
 package com.yahoo.elide.spring.config;
 
+import static com.yahoo.elide.datastores.aggregation.cache.CacheTeeIterable.DEFAULT_MAXIMUM_BYTES;
+import static com.yahoo.elide.datastores.aggregation.cache.CacheTeeIterable.DEFAULT_MAXIMUM_ROWS;
 import static com.yahoo.elide.datastores.aggregation.cache.CaffeineCache.DEFAULT_MAXIMUM_ENTRIES;
+import static com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngine.DEFAULT_TABLE_VERSION_EXPIRATION;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialect;
 import lombok.Data;
 
@@ -35,8 +38,24 @@ public class AggregationStoreProperties {
      */
     private int queryCacheMaximumEntries = DEFAULT_MAXIMUM_ENTRIES;
 
+    /**
+     * Limit on number of rows in a single cached query result. Larger results are streamed without being cached.
+     */
+    private long queryCacheMaximumRows = DEFAULT_MAXIMUM_ROWS;
+
+    /**
+     * Limit on (estimated) bytes of a single cached query result. Larger results are streamed without being cached.
+     */
+    private long queryCacheMaximumBytes = DEFAULT_MAXIMUM_BYTES;
+
     /**
      * Default Cache Expiration.
      */
     private long defaultCacheExpirationMinutes = 10;
+
+    /**
+     * How long table versions are cached, in seconds.  Versions are refreshed in the background after half this
+     * time.  Zero runs the version query for every request.
+     */
+    private long tableVersionExpirationSeconds = DEFAULT_TABLE_VERSION_EXPIRATION.getSeconds();
 }
@@ -165,7 +165,8 @@ public class ElideAsyncConfiguration {
     public ResultStorageEngine buildResultStorageEngine(Elide elide, ElideConfigProperties settings,
             AsyncAPIDAO asyncQueryDAO) {
         FileResultStorageEngine resultStorageEngine = new FileResultStorageEngine(settings.getAsync().getExport()
-                .getStorageDestination());
+                .getStorageDestination(), settings.getAsync().getExport().isCompressStoredResults());
+        resultStorageEngine.setBatchSize(settings.getAsync().getExport().getStorageBatchSize());
         return resultStorageEngine;
     }
 }
@@ -55,6 +55,9 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.StreamUtils;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.swagger.models.Info;
@@ -62,12 +65,20 @@ import io.swagger.models.Swagger;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
@@ -132,7 +143,9 @@ public class ElideAutoConfiguration {
      * @param dictionary Stores the static metadata about Elide models.
      * @param dataStore The persistence store.
      * @param settings Elide settings.
+     * @param graphQLQueryExecutor Runs the read-only queries of a batched GraphQL document concurrently.
      * @return A new elide instance.
+     * @throws IOException if there is an error reading the persisted GraphQL queries.
      */
     @Bean
     @ConditionalOnMissingBean
@@ -140,7 +153,9 @@ public class ElideAutoConfiguration {
                                  DataStore dataStore,
                                  ElideConfigProperties settings,
                                  JsonApiMapper mapper,
-                                 ErrorMapper errorMapper) {
+                                 ErrorMapper errorMapper,
+                                 @Qualifier("graphQLQueryExecutor") Optional<ExecutorService> graphQLQueryExecutor)
+            throws IOException {
 
         ElideSettingsBuilder builder = new ElideSettingsBuilder(dataStore)
                 .withEntityDictionary(dictionary)
@@ -160,12 +175,54 @@ public class ElideAutoConfiguration {
             builder.withVerboseErrors();
         }
 
+        if (settings.getUserCheckCacheSeconds() > 0) {
+            builder.withUserCheckCache(Duration.ofSeconds(settings.getUserCheckCacheSeconds()));
+        }
+
         if (settings.getAsync() != null
                 && settings.getAsync().getExport() != null
                 && settings.getAsync().getExport().isEnabled()) {
             builder.withExportApiPath(settings.getAsync().getExport().getPath());
         }
 
+        if (settings.getJsonApi() != null
+                && settings.getJsonApi().isEnabled()
+                && settings.getJsonApi().isEnableStreaming()) {
+            builder.withStreamingResponses(true);
+        }
+
+        if (settings.getJsonApi() != null
+                && settings.getJsonApi().isEnabled()
+                && settings.getJsonApi().getParseTreeCacheSize() > 0) {
+            builder.withJsonApiParseTreeCacheSize(settings.getJsonApi().getParseTreeCacheSize());
+        }
+
+        graphQLQueryExecutor.ifPresent(builder::withGraphQLQueryExecutor);
+
+        if (settings.getGraphql() != null
+                && settings.getGraphql().isEnabled()
+                && settings.getGraphql().getDocumentCacheSize() > 0) {
+            builder.withGraphQLDocumentCacheSize(settings.getGraphql().getDocumentCacheSize());
+        }
+
+        if (settings.getGraphql() != null
+                && settings.getGraphql().isEnabled()
+                && settings.getGraphql().isEnablePersistedQueries()) {
+            List<String> queries = new ArrayList<>();
+            if (StringUtils.isNotEmpty(settings.getGraphql().getPersistedQueryLocations())) {
+                for (Resource resource : new PathMatchingResourcePatternResolver()
+                        .getResources(settings.getGraphql().getPersistedQueryLocations())) {
+                    queries.add(StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8));
+                }
+            }
+
+            if (settings.getGraphql().isPersistedQueriesOnly()) {
+                builder.withGraphQLPersistedQueriesOnly(queries);
+            } else {
+                builder.withGraphQLPersistedQueries(queries);
+            }
+        }
+
         if (settings.getJsonApi() != null
                 && settings.getJsonApi().isEnabled()
                 && settings.getJsonApi().isEnableLinks()) {
@@ -187,6 +244,19 @@ public class ElideAutoConfiguration {
      * @param settings Elide configuration settings.
      * @return Set of Types.
      */
+    /**
+     * Creates the thread pool that runs the read-only queries of a batched GraphQL document concurrently.
+     * The pool is shut down with the application context.
+     * @param settings Elide settings.
+     * @return A new thread pool.
+     */
+    @Bean(name = "graphQLQueryExecutor", destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = "graphQLQueryExecutor")
+    @ConditionalOnExpression("${elide.graphql.enabled:false} and ${elide.graphql.parallel-query-threads:0} > 0")
+    public ExecutorService buildGraphQLQueryExecutor(ElideConfigProperties settings) {
+        return Executors.newFixedThreadPool(settings.getGraphql().getParallelQueryThreads());
+    }
+
     @Bean(name = "entitiesToExclude")
     @ConditionalOnMissingBean
     public Set<Type<?>> getEntitiesToExclude(ElideConfigProperties settings) {
@@ -278,6 +348,8 @@ public class ElideAutoConfiguration {
         boolean enableMetaDataStore = settings.getAggregationStore().isEnableMetaDataStore();
         ConnectionDetails defaultConnectionDetails = new ConnectionDetails(defaultDataSource,
                         SQLDialectFactory.getDialect(settings.getAggregationStore().getDefaultDialect()));
+        Duration tableVersionExpiration =
+                Duration.ofSeconds(settings.getAggregationStore().getTableVersionExpirationSeconds());
         if (isDynamicConfigEnabled(settings)) {
             MetaDataStore metaDataStore = new MetaDataStore(scanner, dynamicConfig.getTables(),
                     dynamicConfig.getNamespaceConfigurations(), enableMetaDataStore);
@@ -292,10 +364,11 @@ public class ElideAutoConfiguration {
 
             return new SQLQueryEngine(metaDataStore, defaultConnectionDetails, connectionDetailsMap,
                     new HashSet<>(Arrays.asList(new AggregateBeforeJoinOptimizer(metaDataStore))),
-                    new DefaultQueryValidator(metaDataStore.getMetadataDictionary()));
+                    new DefaultQueryValidator(metaDataStore.getMetadataDictionary()), tableVersionExpiration);
         }
         MetaDataStore metaDataStore = new MetaDataStore(scanner, enableMetaDataStore);
-        return new SQLQueryEngine(metaDataStore, defaultConnectionDetails);
+        return new SQLQueryEngine(metaDataStore, defaultConnectionDetails, Collections.emptyMap(), new HashSet<>(),
+                new DefaultQueryValidator(metaDataStore.getMetadataDictionary()), tableVersionExpiration);
     }
 
     /**
@@ -319,7 +392,8 @@ public class ElideAutoConfiguration {
                 entityManagerFactory::createEntityManager,
                 em -> new NonJtaTransaction(em, txCancel,
                         DEFAULT_LOGGER,
-                        settings.getJpaStore().isDelegateToInMemoryStore()));
+                        settings.getJpaStore().isDelegateToInMemoryStore(),
+                        settings.getJpaStore().getJdbcBatchSize()));
 
         if (isAggregationStoreEnabled(settings)) {
             AggregationDataStore.AggregationDataStoreBuilder aggregationDataStoreBuilder =
@@ -328,6 +402,8 @@ public class ElideAutoConfiguration {
                 aggregationDataStoreBuilder.dynamicCompiledClasses(queryEngine.getMetaDataStore().getDynamicTypes());
             }
             aggregationDataStoreBuilder.cache(cache);
+            aggregationDataStoreBuilder.cacheMaximumRows(settings.getAggregationStore().getQueryCacheMaximumRows());
+            aggregationDataStoreBuilder.cacheMaximumBytes(settings.getAggregationStore().getQueryCacheMaximumBytes());
             aggregationDataStoreBuilder.queryLogger(querylogger);
             AggregationDataStore aggregationDataStore = aggregationDataStoreBuilder.build();
 
@@ -23,7 +23,7 @@ public class ElideConfigProperties {
     /**
      * Settings for the GraphQL controller.
      */
-    private ControllerProperties graphql;
+    private GraphQLControllerProperties graphql;
 
     /**
      * Settings for the Swagger document controller.
@@ -75,4 +75,10 @@ public class ElideConfigProperties {
      * Turns on/off verbose error responses.
      */
     private boolean verboseErrors = false;
+
+    /**
+     * Number of seconds the results of cacheable user checks are shared by the requests of a user.
+     * 0 evaluates user checks once per request.
+     */
+    private int userCheckCacheSeconds = 0;
 }
@@ -29,4 +29,15 @@ public class ExportControllerProperties extends ControllerProperties {
      * Storage engine destination .
      */
     private String storageDestination = "/tmp";
+
+    /**
+     * Whether to gzip compress the results as they are stored.  Compressed results are downloaded with a gzip
+     * Content-Encoding.
+     */
+    private boolean compressStoredResults = false;
+
+    /**
+     * Number of records the storage engine writes at a time.
+     */
+    private int storageBatchSize = 1000;
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.spring.config;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Extra controller properties for the GraphQL endpoint.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class GraphQLControllerProperties extends ControllerProperties {
+
+    /**
+     * Number of threads used to run the read-only queries of a batched GraphQL document concurrently.
+     * 0 runs them one after another.
+     */
+    int parallelQueryThreads = 0;
+
+    /**
+     * Number of distinct query documents kept parsed and validated per API version.
+     * 0 parses and validates every query.
+     */
+    int documentCacheSize = 0;
+
+    /**
+     * Whether clients may send the hash of a persisted query in place of its document.
+     */
+    boolean enablePersistedQueries = false;
+
+    /**
+     * Resource pattern of the persisted query documents registered at startup.  For example:
+     * classpath:graphql/*.graphql
+     */
+    String persistedQueryLocations;
+
+    /**
+     * Whether only the persisted queries registered at startup can run.
+     */
+    boolean persistedQueriesOnly = false;
+}
@@ -18,4 +18,11 @@ public class JpaStoreProperties {
      * and pagination in memory - or do N+1 queries.
      */
     private boolean delegateToInMemoryStore = true;
+
+    /**
+     * The most statements sent to the database in one JDBC batch when a transaction is flushed.  Values less than 1
+     * keep the batch size of the persistence unit.  Combine with hibernate.order_inserts and
+     * hibernate.order_updates so that bulk writes of the same type share a batch.
+     */
+    private int jdbcBatchSize = 0;
 }
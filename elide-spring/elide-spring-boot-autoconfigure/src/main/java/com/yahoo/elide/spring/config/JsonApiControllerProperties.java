@@ -19,4 +19,16 @@ public class JsonApiControllerProperties extends ControllerProperties {
      * Turns on/off JSON-API links in the API.
      */
     boolean enableLinks = false;
+
+    /**
+     * Turns on/off deferred serialization of JSON-API read responses.  The document is buffered as JSON tokens
+     * and written to the response stream instead of first being rendered to a string.
+     */
+    boolean enableStreaming = false;
+
+    /**
+     * Number of distinct request paths whose parse trees are kept.  Paths include resource IDs.
+     * 0 parses every path.
+     */
+    int parseTreeCacheSize = 0;
 }
@@ -5,15 +5,19 @@
  */
 package com.yahoo.elide.spring.controllers;
 
+import com.yahoo.elide.async.service.storageengine.ByteRange;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
+import com.yahoo.elide.async.service.storageengine.StoredResultFile;
 import com.yahoo.elide.core.exceptions.HttpStatus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
@@ -21,6 +25,7 @@ import io.reactivex.Observable;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.Optional;
 import javax.servlet.http.HttpServletResponse;
 
 /**
@@ -48,13 +53,25 @@ public class ExportController {
     /**
      * Single entry point for export requests.
      * @param asyncQueryId Id of results to download
+     * @param range Range header to download part of the results
+     * @param ifRange If-Range header that makes the Range header conditional
+     * @param acceptEncoding Accept-Encoding header of the request
      * @param response HttpServletResponse instance
      * @return ResponseEntity
      */
     @GetMapping(path = "/{asyncQueryId}")
     public ResponseEntity<StreamingResponseBody> export(@PathVariable String asyncQueryId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
             HttpServletResponse response) {
 
+        Optional<StoredResultFile> resultFile = resultStorageEngine.getResultFileByID(asyncQueryId)
+                .filter(file -> file.isAcceptedBy(acceptEncoding));
+        if (resultFile.isPresent()) {
+            return exportFile(asyncQueryId, resultFile.get(), range, ifRange);
+        }
+
         Observable<String> observableResults = resultStorageEngine.getResultsByID(asyncQueryId);
         StreamingResponseBody streamingOutput = outputStream -> {
             observableResults
@@ -101,4 +118,41 @@ public class ExportController {
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
                 .body(streamingOutput);
     }
+
+    /**
+     * Serves a stored result file as it is stored, or the range of it the client asked for if the file has not
+     * changed since the client last read it.
+     */
+    private ResponseEntity<StreamingResponseBody> exportFile(String asyncQueryId, StoredResultFile resultFile,
+            String rangeHeader, String ifRange) {
+        ByteRange range = ByteRange.parse(resultFile.isRangeCurrent(ifRange) ? rangeHeader : null,
+                resultFile.size());
+        if (!range.isSatisfiable() && range.getSize() > 0) {
+            return ResponseEntity
+                    .status(ByteRange.SC_REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, range.getContentRange())
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = range.isPartial()
+                ? ResponseEntity.status(ByteRange.SC_PARTIAL_CONTENT)
+                        .header(HttpHeaders.CONTENT_RANGE, range.getContentRange())
+                : ResponseEntity.ok();
+        if (resultFile.isCompressed()) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, StoredResultFile.GZIP);
+        }
+
+        return builder
+                .header("Content-Disposition", "attachment; filename=" + asyncQueryId)
+                .header(HttpHeaders.ACCEPT_RANGES, ByteRange.BYTES)
+                .eTag(resultFile.entityTag())
+                .lastModified(resultFile.lastModified())
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Math.max(range.getLength(), 0))
+                .body(outputStream -> {
+                    if (range.getLength() > 0) {
+                        resultFile.transferTo(outputStream, range);
+                    }
+                });
+    }
 }
@@ -30,6 +30,8 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import lombok.extern.slf4j.Slf4j;
@@ -39,6 +41,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.core.MultivaluedHashMap;
 
 /**
@@ -80,6 +83,8 @@ public class JsonApiController {
         final String pathname = getJsonApiPath(request, settings.getJsonApi().getPath());
         final User user = new AuthenticationUser(authentication);
         final String baseUrl = getBaseUrlEndpoint();
+        final HttpServletResponse servletResponse =
+                ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getResponse();
 
         return new Callable<ResponseEntity<String>>() {
             @Override
@@ -87,6 +92,13 @@ public class JsonApiController {
                 ElideResponse response = elide.get(baseUrl, pathname,
                         convert(allRequestParams), requestHeadersCleaned,
                         user, apiVersion, UUID.randomUUID());
+                if (response.isStreaming() && servletResponse != null) {
+                    //The body was serialized in the request.  Write it without first rendering a string.
+                    servletResponse.setStatus(response.getResponseCode());
+                    servletResponse.setContentType(JSON_API_CONTENT_TYPE);
+                    response.writeBody(servletResponse.getOutputStream());
+                    return null;
+                }
                 return ResponseEntity.status(response.getResponseCode()).body(response.getBody());
             }
         };
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package example.tests;
+
+import static com.yahoo.elide.test.jsonapi.JsonApiDSL.attr;
+import static com.yahoo.elide.test.jsonapi.JsonApiDSL.attributes;
+import static com.yahoo.elide.test.jsonapi.JsonApiDSL.data;
+import static com.yahoo.elide.test.jsonapi.JsonApiDSL.id;
+import static com.yahoo.elide.test.jsonapi.JsonApiDSL.relation;
+import static com.yahoo.elide.test.jsonapi.JsonApiDSL.relationships;
+import static com.yahoo.elide.test.jsonapi.JsonApiDSL.resource;
+import static com.yahoo.elide.test.jsonapi.JsonApiDSL.type;
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.equalTo;
+import com.yahoo.elide.core.exceptions.HttpStatus;
+import com.yahoo.elide.spring.controllers.JsonApiController;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlMergeMode;
+
+/**
+ * Tests turning on streaming JSON-API responses.
+ */
+@SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+@Sql(
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+        scripts = "classpath:db/test_init.sql",
+        statements = "INSERT INTO ArtifactGroup (name, commonName, description, deprecated) VALUES\n"
+                + "\t\t('com.example.repository','Example Repository','The code for this project', false);"
+)
+@TestPropertySource(
+        properties = {
+                "elide.json-api.enableStreaming=true",
+        }
+)
+public class EnableStreamingResponsesTest extends IntegrationTest {
+
+    @Test
+    public void streamingJsonApiGetTest() {
+        when()
+                .get("/json/group")
+                .then()
+                .contentType(JsonApiController.JSON_API_CONTENT_TYPE)
+                .body(equalTo(
+                        data(
+                                resource(
+                                        type("group"),
+                                        id("com.example.repository"),
+                                        attributes(
+                                                attr("commonName", "Example Repository"),
+                                                attr("deprecated", false),
+                                                attr("description", "The code for this project")
+                                        ),
+                                        relationships(
+                                                relation("products")
+                                        )
+                                )
+                        ).toJSON())
+                )
+                .statusCode(HttpStatus.SC_OK);
+    }
+
+    @Test
+    public void streamingJsonApiErrorTest() {
+        when()
+                .get("/json/group/doesNotExist")
+                .then()
+                .contentType(JsonApiController.JSON_API_CONTENT_TYPE)
+                .body("errors.detail[0]", equalTo("Unknown identifier doesNotExist for group"))
+                .statusCode(HttpStatus.SC_NOT_FOUND);
+    }
+}
@@ -46,6 +46,8 @@ import org.glassfish.hk2.api.ServiceLocator;
 import org.glassfish.hk2.api.TypeLiteral;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.spi.Container;
+import org.glassfish.jersey.server.spi.ContainerLifecycleListener;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -169,7 +171,10 @@ public class ElideResourceConfig extends ResourceConfig {
 
                 ResultStorageEngine resultStorageEngine = asyncProperties.getResultStorageEngine();
                 if (resultStorageEngine == null) {
-                    resultStorageEngine = new FileResultStorageEngine(asyncProperties.getStorageDestination());
+                    FileResultStorageEngine fileResultStorageEngine = new FileResultStorageEngine(
+                            asyncProperties.getStorageDestination(), asyncProperties.compressStoredResults());
+                    fileResultStorageEngine.setBatchSize(asyncProperties.getStorageBatchSize());
+                    resultStorageEngine = fileResultStorageEngine;
                 }
                 bind(resultStorageEngine).to(ResultStorageEngine.class).named("resultStorageEngine");
 
@@ -256,6 +261,27 @@ public class ElideResourceConfig extends ResourceConfig {
 
         registerFilters(settings.getFilters());
 
+        // Stop the GraphQL query threads with the servlet
+        register(new ContainerLifecycleListener() {
+            @Override
+            public void onStartup(Container container) {
+                //NOOP
+            }
+
+            @Override
+            public void onReload(Container container) {
+                //NOOP
+            }
+
+            @Override
+            public void onShutdown(Container container) {
+                ExecutorService executor = injector.getService(ElideSettings.class).getGraphQLQueryExecutor();
+                if (executor != null) {
+                    executor.shutdown();
+                }
+            }
+        });
+
         additionalConfiguration(settings.getApplicationConfigurator());
     }
 
@@ -5,7 +5,9 @@
  */
 package com.yahoo.elide.standalone.config;
 
+import com.yahoo.elide.datastores.aggregation.cache.CacheTeeIterable;
 import com.yahoo.elide.datastores.aggregation.cache.CaffeineCache;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngine;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialect;
 import com.yahoo.elide.modelconfig.DBPasswordExtractor;
 import org.apache.commons.lang3.StringUtils;
@@ -81,6 +83,24 @@ public interface ElideStandaloneAnalyticSettings {
         return CaffeineCache.DEFAULT_MAXIMUM_ENTRIES;
     }
 
+    /**
+     * Limit on number of rows in a single cached query result. Larger results are streamed without being cached.
+     *
+     * @return Default: 10000
+     */
+    default Long getQueryCacheMaximumRows() {
+        return CacheTeeIterable.DEFAULT_MAXIMUM_ROWS;
+    }
+
+    /**
+     * Limit on (estimated) bytes of a single cached query result. Larger results are streamed without being cached.
+     *
+     * @return Default: 16777216
+     */
+    default Long getQueryCacheMaximumBytes() {
+        return CacheTeeIterable.DEFAULT_MAXIMUM_BYTES;
+    }
+
     /**
      * Returns the default expiration in minutes of items in the AggregationDataStore query cache.
      *
@@ -89,4 +109,14 @@ public interface ElideStandaloneAnalyticSettings {
     default Long getDefaultCacheExpirationMinutes() {
         return 10L;
     }
+
+    /**
+     * How long table versions are cached, in seconds.  Versions are refreshed in the background after half this
+     * time.  Zero runs the version query for every request.
+     *
+     * @return Default: 60
+     */
+    default Long getTableVersionExpirationSeconds() {
+        return SQLQueryEngine.DEFAULT_TABLE_VERSION_EXPIRATION.getSeconds();
+    }
 }
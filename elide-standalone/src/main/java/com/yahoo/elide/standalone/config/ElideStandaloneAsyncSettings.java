@@ -135,6 +135,24 @@ public interface ElideStandaloneAsyncSettings {
         return "/tmp";
     }
 
+    /**
+     * Gzip compress the export results as they are stored.
+     *
+     * @return Default: False
+     */
+    default boolean compressStoredResults() {
+        return false;
+    }
+
+    /**
+     * Number of records the storage engine writes at a time.
+     *
+     * @return Default: 1000
+     */
+    default int getStorageBatchSize() {
+        return ResultStorageEngine.DEFAULT_BATCH_SIZE;
+    }
+
     /**
      * Storage engine destination.
      *
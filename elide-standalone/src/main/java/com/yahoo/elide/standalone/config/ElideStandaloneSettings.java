@@ -46,6 +46,7 @@ import com.yahoo.elide.modelconfig.DynamicConfiguration;
 import com.yahoo.elide.modelconfig.validator.DynamicConfigValidator;
 import com.yahoo.elide.swagger.SwaggerBuilder;
 import com.yahoo.elide.swagger.resources.DocEndpoint;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.glassfish.hk2.api.ServiceLocator;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -54,6 +55,7 @@ import io.swagger.models.Info;
 import io.swagger.models.Swagger;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -65,6 +67,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
@@ -136,6 +139,10 @@ public interface ElideStandaloneSettings {
             builder.withVerboseErrors();
         }
 
+        if (getUserCheckCacheSeconds() > 0) {
+            builder.withUserCheckCache(Duration.ofSeconds(getUserCheckCacheSeconds()));
+        }
+
         if (getAsyncProperties().enableExport()) {
             builder.withExportApiPath(getAsyncProperties().getExportApiPathSpec().replaceAll("/\\*", ""));
         }
@@ -144,6 +151,31 @@ public interface ElideStandaloneSettings {
             builder.withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC"));
         }
 
+        if (enableStreamingResponses()) {
+            builder.withStreamingResponses(true);
+        }
+
+        if (enableJSONAPI() && getJsonApiParseTreeCacheSize() > 0) {
+            builder.withJsonApiParseTreeCacheSize(getJsonApiParseTreeCacheSize());
+        }
+
+        if (enableGraphQL() && getGraphQLParallelQueryThreads() > 0) {
+            builder.withGraphQLQueryExecutor(Executors.newFixedThreadPool(getGraphQLParallelQueryThreads(),
+                    new ThreadFactoryBuilder().setNameFormat("elide-graphql-query-%d").setDaemon(true).build()));
+        }
+
+        if (enableGraphQL() && getGraphQLDocumentCacheSize() > 0) {
+            builder.withGraphQLDocumentCacheSize(getGraphQLDocumentCacheSize());
+        }
+
+        if (enableGraphQL() && enableGraphQLPersistedQueries()) {
+            if (isGraphQLPersistedQueriesOnly()) {
+                builder.withGraphQLPersistedQueriesOnly(getGraphQLPersistedQueries());
+            } else {
+                builder.withGraphQLPersistedQueries(getGraphQLPersistedQueries());
+            }
+        }
+
         return builder.build();
     }
 
@@ -227,6 +259,14 @@ public interface ElideStandaloneSettings {
         return false;
     }
 
+    /**
+     * Number of seconds the results of cacheable user checks are shared by the requests of a user.
+     * @return Default: 0 (user checks are evaluated once per request)
+     */
+    default int getUserCheckCacheSeconds() {
+        return 0;
+    }
+
     /**
      * Async Properties.
      *
@@ -265,6 +305,63 @@ public interface ElideStandaloneSettings {
         return true;
     }
 
+    /**
+     * Whether JSON-API read responses use deferred serialization.  The document is buffered as JSON tokens
+     * and written to the response stream instead of first being rendered to a string.
+     * @return whether streaming responses are enabled.
+     */
+    default boolean enableStreamingResponses() {
+        return false;
+    }
+
+    /**
+     * Number of distinct JSON-API request paths whose parse trees are kept.  Paths include resource IDs.
+     * @return Default: 0 (every path is parsed)
+     */
+    default int getJsonApiParseTreeCacheSize() {
+        return 0;
+    }
+
+    /**
+     * Number of threads used to run the read-only queries of a batched GraphQL document concurrently.
+     * @return Default: 0 (queries run one after another)
+     */
+    default int getGraphQLParallelQueryThreads() {
+        return 0;
+    }
+
+    /**
+     * Number of distinct GraphQL query documents kept parsed and validated per API version.
+     * @return Default: 0 (every query is parsed and validated)
+     */
+    default int getGraphQLDocumentCacheSize() {
+        return 0;
+    }
+
+    /**
+     * Whether clients may send the hash of a persisted GraphQL query in place of its document.
+     * @return Default: false
+     */
+    default boolean enableGraphQLPersistedQueries() {
+        return false;
+    }
+
+    /**
+     * The persisted GraphQL query documents registered at startup.
+     * @return Default: none
+     */
+    default List<String> getGraphQLPersistedQueries() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Whether only the persisted GraphQL queries registered at startup can run.
+     * @return Default: false
+     */
+    default boolean isGraphQLPersistedQueriesOnly() {
+        return false;
+    }
+
     /**
      * Whether or not Codahale metrics, healthchecks, thread, ping, and admin servlet
      * should be enabled.
@@ -417,6 +514,15 @@ public interface ElideStandaloneSettings {
         };
     }
 
+    /**
+     * The most statements sent to the database in one JDBC batch when a transaction is flushed.  Combine with
+     * hibernate.order_inserts and hibernate.order_updates in the persistence properties.
+     * @return Default: 0 (the batch size of the persistence unit)
+     */
+    default int getJdbcBatchSize() {
+        return 0;
+    }
+
     /**
      * Gets the DataStore for elide.
      * @param metaDataStore MetaDataStore object.
@@ -428,7 +534,7 @@ public interface ElideStandaloneSettings {
             EntityManagerFactory entityManagerFactory) {
         DataStore jpaDataStore = new JpaDataStore(
                 () -> entityManagerFactory.createEntityManager(),
-                em -> new NonJtaTransaction(em, TXCANCEL, DEFAULT_LOGGER, true));
+                em -> new NonJtaTransaction(em, TXCANCEL, DEFAULT_LOGGER, true, getJdbcBatchSize()));
 
         return new MultiplexManager(jpaDataStore, metaDataStore, aggregationDataStore);
     }
@@ -441,7 +547,7 @@ public interface ElideStandaloneSettings {
     default DataStore getDataStore(EntityManagerFactory entityManagerFactory) {
         DataStore jpaDataStore = new JpaDataStore(
                 () -> entityManagerFactory.createEntityManager(),
-                em -> new NonJtaTransaction(em, TXCANCEL, DEFAULT_LOGGER, true));
+                em -> new NonJtaTransaction(em, TXCANCEL, DEFAULT_LOGGER, true, getJdbcBatchSize()));
 
         return jpaDataStore;
     }
@@ -459,6 +565,8 @@ public interface ElideStandaloneSettings {
             aggregationDataStoreBuilder.dynamicCompiledClasses(queryEngine.getMetaDataStore().getDynamicTypes());
         }
         aggregationDataStoreBuilder.cache(getQueryCache());
+        aggregationDataStoreBuilder.cacheMaximumRows(getAnalyticProperties().getQueryCacheMaximumRows());
+        aggregationDataStoreBuilder.cacheMaximumBytes(getAnalyticProperties().getQueryCacheMaximumBytes());
         return aggregationDataStoreBuilder.build();
     }
 
@@ -527,6 +635,8 @@ public interface ElideStandaloneSettings {
     default QueryEngine getQueryEngine(MetaDataStore metaDataStore, ConnectionDetails defaultConnectionDetails,
                     Optional<DynamicConfiguration> dynamicConfiguration,
                     DataSourceConfiguration dataSourceConfiguration, DBPasswordExtractor dbPasswordExtractor) {
+        Duration tableVersionExpiration =
+                Duration.ofSeconds(getAnalyticProperties().getTableVersionExpirationSeconds());
         if (dynamicConfiguration.isPresent()) {
             Map<String, ConnectionDetails> connectionDetailsMap = new HashMap<>();
 
@@ -538,9 +648,10 @@ public interface ElideStandaloneSettings {
             );
             return new SQLQueryEngine(metaDataStore, defaultConnectionDetails, connectionDetailsMap,
                     new HashSet<>(Arrays.asList(new AggregateBeforeJoinOptimizer(metaDataStore))),
-                    new DefaultQueryValidator(metaDataStore.getMetadataDictionary()));
+                    new DefaultQueryValidator(metaDataStore.getMetadataDictionary()), tableVersionExpiration);
         }
-        return new SQLQueryEngine(metaDataStore, defaultConnectionDetails);
+        return new SQLQueryEngine(metaDataStore, defaultConnectionDetails, Collections.emptyMap(), new HashSet<>(),
+                new DefaultQueryValidator(metaDataStore.getMetadataDictionary()), tableVersionExpiration);
     }
 
     /**